@@ -0,0 +1,152 @@
+package edtech.afrilingo.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compares a JMH JSON result against a baseline result and fails the build on a regression.
+ * A benchmark regresses when its score is worse than the baseline by more than the threshold
+ * percentage and by more than both runs' score errors combined, or when it allocates more
+ * bytes per operation (gc.alloc.rate.norm) or returns a larger payload (payload.bytes, see
+ * {@link PayloadSizeProfiler}) than the threshold allows.
+ * Usage: BenchmarkComparison current.json [baseline.json] [threshold-percent]
+ * Without a baseline, or with a missing baseline file, it only prints the current results.
+ */
+public class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    // Allocation below this many bytes per operation is noise (escape analysis, TLAB refills)
+    private static final double MIN_ALLOCATION_DELTA = 64;
+
+    private record Result(String key, String mode, String unit, double score, double error, Double allocation,
+                          Double payload) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BenchmarkComparison current.json [baseline.json] [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, Result> current = read(new File(args[0]));
+        File baselineFile = args.length > 1 && !args[1].isBlank() ? new File(args[1]) : null;
+        double threshold = args.length > 2 && !args[2].isBlank() ? Double.parseDouble(args[2]) : 10;
+
+        if (baselineFile == null || !baselineFile.isFile()) {
+            printPayloads(current);
+            System.out.println("No baseline given; " + current.size() + " benchmark results not compared.");
+            return;
+        }
+        Map<String, Result> baseline = read(baselineFile);
+
+        List<String> regressions = new ArrayList<>();
+        for (Result result : current.values()) {
+            Result previous = baseline.get(result.key());
+            if (previous == null) {
+                System.out.printf("NEW   %s: %.3f %s%n", result.key(), result.score(), result.unit());
+                continue;
+            }
+            double change = percentChange(previous.score(), result.score());
+            double worsening = lowerIsBetter(result.mode()) ? change : -change;
+            boolean beyondError = Math.abs(result.score() - previous.score()) > result.error() + previous.error();
+            boolean slower = worsening > threshold && beyondError;
+
+            boolean allocates = false;
+            if (result.allocation() != null && previous.allocation() != null) {
+                double delta = result.allocation() - previous.allocation();
+                allocates = delta > MIN_ALLOCATION_DELTA
+                        && percentChange(previous.allocation(), result.allocation()) > threshold;
+            }
+
+            // Payload sizes are deterministic, so any growth beyond the threshold counts
+            boolean grows = result.payload() != null && previous.payload() != null
+                    && percentChange(previous.payload(), result.payload()) > threshold;
+
+            String line = String.format("%s: %.3f -> %.3f %s (%+.1f%%)%s%s", result.key(), previous.score(),
+                    result.score(), result.unit(), change, allocationSummary(previous, result),
+                    payloadSummary(previous, result));
+            boolean regressed = slower || allocates || grows;
+            System.out.println((regressed ? "WORSE " : "OK    ") + line);
+            if (regressed) {
+                regressions.add(line);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d benchmark(s) regressed by more than %.1f%% against %s%n", regressions.size(),
+                    threshold, baselineFile);
+            System.exit(1);
+        }
+        System.out.printf("No regressions beyond %.1f%% against %s%n", threshold, baselineFile);
+    }
+
+    // Private helper methods
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode metric = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            JsonNode payload = run.path("secondaryMetrics").path(PayloadSizeProfiler.METRIC);
+            Result result = new Result(
+                    key(run),
+                    run.path("mode").asText(),
+                    metric.path("scoreUnit").asText(),
+                    metric.path("score").asDouble(),
+                    // JMH writes NaN when there are too few samples for an error estimate
+                    metric.path("scoreError").isNumber() ? metric.path("scoreError").asDouble() : 0,
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble(),
+                    payload.isMissingNode() ? null : payload.path("score").asDouble());
+            results.put(result.key(), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        JsonNode params = run.path("params");
+        if (params.isObject()) {
+            // Sorted, so the key does not depend on declaration order
+            Map<String, String> sorted = new TreeMap<>();
+            params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+            sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        }
+        return key.toString();
+    }
+
+    private static boolean lowerIsBetter(String mode) {
+        // avgt, sample and ss measure time per operation; thrpt measures operations per time
+        return !"thrpt".equals(mode);
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static void printPayloads(Map<String, Result> results) {
+        for (Result result : results.values()) {
+            if (result.payload() != null) {
+                System.out.printf("%s: %.0f B payload, %.3f %s%n", result.key(), result.payload(), result.score(),
+                        result.unit());
+            }
+        }
+    }
+
+    private static String allocationSummary(Result previous, Result current) {
+        if (previous.allocation() == null || current.allocation() == null) {
+            return "";
+        }
+        return String.format(", alloc %.0f -> %.0f B/op", previous.allocation(), current.allocation());
+    }
+
+    private static String payloadSummary(Result previous, Result current) {
+        if (previous.payload() == null || current.payload() == null) {
+            return "";
+        }
+        return String.format(", payload %.0f -> %.0f B", previous.payload(), current.payload());
+    }
+}
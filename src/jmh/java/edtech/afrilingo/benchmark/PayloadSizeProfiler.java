@@ -0,0 +1,57 @@
+package edtech.afrilingo.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports the serialized size of each payload benchmark's response as the "payload.bytes"
+ * secondary metric, next to its time and allocation. Payload benchmarks record their sizes in
+ * their setup, keyed by benchmark method; other benchmarks report nothing.
+ * Enabled with -prof edtech.afrilingo.benchmark.PayloadSizeProfiler.
+ */
+public class PayloadSizeProfiler implements InternalProfiler {
+
+    public static final String METRIC = "payload.bytes";
+
+    private static final Map<String, Integer> SIZES = new ConcurrentHashMap<>();
+
+    /**
+     * Record the payload size one benchmark method produces
+     * @param benchmark Benchmark class
+     * @param method Benchmark method name
+     * @param bytes Serialized size in bytes
+     */
+    public static void record(Class<?> benchmark, String method, int bytes) {
+        SIZES.put(benchmark.getName() + "." + method, bytes);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Serialized payload size per operation";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        Integer bytes = SIZES.get(benchmarkParams.getBenchmark());
+        if (bytes == null) {
+            return List.of();
+        }
+        // Every iteration serializes the same data, so averaging keeps the size as is
+        return List.of(new ScalarResult(METRIC, bytes, "B/op", AggregationPolicy.AVG));
+    }
+}
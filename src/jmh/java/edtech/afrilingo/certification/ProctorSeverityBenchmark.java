@@ -0,0 +1,42 @@
+package edtech.afrilingo.certification;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Violation severity of a certification session's flagged events
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProctorSeverityBenchmark {
+
+    @Param({"10", "200", "2000"})
+    private int eventCount;
+
+    private List<ProctorEvent> flaggedEvents;
+
+    @Setup
+    public void setUp() {
+        ProctorEventType[] types = ProctorEventType.values();
+        flaggedEvents = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            flaggedEvents.add(ProctorEvent.builder()
+                    .eventType(types[i % types.length])
+                    .confidenceScore((i % 10) / 10.0)
+                    .flagged(true)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ViolationSeverity calculateViolationSeverity() {
+        return ProctorAnalysisService.calculateViolationSeverity(flaggedEvents);
+    }
+}
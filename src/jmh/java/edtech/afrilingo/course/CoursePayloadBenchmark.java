@@ -0,0 +1,96 @@
+package edtech.afrilingo.course;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.benchmark.PayloadSizeProfiler;
+import edtech.afrilingo.dto.CourseLanguageDTO;
+import edtech.afrilingo.dto.CourseSummaryDTO;
+import edtech.afrilingo.language.Language;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Course list payloads: the entities the endpoints used to return, with their nested language,
+ * against the CourseSummaryDTO projections they return now in the same JSON shape. Compare time,
+ * gc.alloc.rate.norm and payload.bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoursePayloadBenchmark {
+
+    @Param({"20", "200"})
+    private int courseCount;
+
+    private ObjectMapper objectMapper;
+    private List<Course> courses;
+    private List<CourseSummaryDTO> summaries;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Language language = Language.builder()
+                .id(1L)
+                .name("Kinyarwanda")
+                .code("RW")
+                .description("The national language of Rwanda, spoken by over twelve million people")
+                .flagImage("https://cdn.example.com/flags/rw.png")
+                .build();
+
+        courses = new ArrayList<>();
+        summaries = new ArrayList<>();
+        for (long i = 1; i <= courseCount; i++) {
+            Course course = Course.builder()
+                    .id(i)
+                    .version(0L)
+                    .title("Kinyarwanda " + i)
+                    .description("Everyday conversations, part " + i)
+                    .level("BEGINNER")
+                    .image("https://cdn.example.com/courses/" + i + ".png")
+                    .isActive(true)
+                    .language(language)
+                    .build();
+            courses.add(course);
+            summaries.add(CourseSummaryDTO.builder()
+                    .id(course.getId())
+                    .version(course.getVersion())
+                    .title(course.getTitle())
+                    .description(course.getDescription())
+                    .level(course.getLevel())
+                    .image(course.getImage())
+                    .active(course.isActive())
+                    .language(CourseLanguageDTO.builder()
+                            .id(language.getId())
+                            .name(language.getName())
+                            .code(language.getCode())
+                            .description(language.getDescription())
+                            .flagImage(language.getFlagImage())
+                            .build())
+                    .build());
+        }
+
+        PayloadSizeProfiler.record(CoursePayloadBenchmark.class, "serializeEntities", serializeEntities().length);
+        PayloadSizeProfiler.record(CoursePayloadBenchmark.class, "serializeSummaries", serializeSummaries().length);
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
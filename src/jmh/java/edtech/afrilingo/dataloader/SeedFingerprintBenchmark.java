@@ -0,0 +1,23 @@
+package edtech.afrilingo.dataloader;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing the bundled seed content, the one piece of work the startup fast path does before
+ * comparing fingerprints. A few milliseconds here is what the skipped integrity scan is traded for.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+@State(Scope.Benchmark)
+public class SeedFingerprintBenchmark {
+
+    @Benchmark
+    public String hashSeedContent() {
+        return DataHealthService.hashSeedContent();
+    }
+}
@@ -0,0 +1,117 @@
+package edtech.afrilingo.lesson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.benchmark.PayloadSizeProfiler;
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.dto.CourseLanguageDTO;
+import edtech.afrilingo.dto.CourseSummaryDTO;
+import edtech.afrilingo.dto.LessonSummaryDTO;
+import edtech.afrilingo.language.Language;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lesson list payloads: the entities the endpoints used to return, with their nested course and
+ * language, against the LessonSummaryDTO projections they return now in the same JSON shape.
+ * Compare time, gc.alloc.rate.norm and payload.bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LessonPayloadBenchmark {
+
+    @Param({"20", "200"})
+    private int lessonCount;
+
+    private ObjectMapper objectMapper;
+    private List<Lesson> lessons;
+    private List<LessonSummaryDTO> summaries;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Language language = Language.builder()
+                .id(1L)
+                .name("Kinyarwanda")
+                .code("RW")
+                .description("The national language of Rwanda, spoken by over twelve million people")
+                .flagImage("https://cdn.example.com/flags/rw.png")
+                .build();
+        Course course = Course.builder()
+                .id(1L)
+                .version(0L)
+                .title("Kinyarwanda for Beginners")
+                .description("Everyday conversations for travellers and newcomers")
+                .level("BEGINNER")
+                .image("https://cdn.example.com/courses/1.png")
+                .isActive(true)
+                .language(language)
+                .build();
+        CourseSummaryDTO courseSummary = CourseSummaryDTO.builder()
+                .id(course.getId())
+                .version(course.getVersion())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .level(course.getLevel())
+                .image(course.getImage())
+                .active(course.isActive())
+                .language(CourseLanguageDTO.builder()
+                        .id(language.getId())
+                        .name(language.getName())
+                        .code(language.getCode())
+                        .description(language.getDescription())
+                        .flagImage(language.getFlagImage())
+                        .build())
+                .build();
+
+        lessons = new ArrayList<>();
+        summaries = new ArrayList<>();
+        LessonType[] types = LessonType.values();
+        for (long i = 1; i <= lessonCount; i++) {
+            Lesson lesson = Lesson.builder()
+                    .id(i)
+                    .title("Lesson " + i + ": Greetings and introductions")
+                    .description("Greet people at different times of day, part " + i)
+                    .type(types[(int) (i % types.length)])
+                    .orderIndex((int) i * Lesson.ORDER_GAP)
+                    .isRequired(i % 3 != 0)
+                    .course(course)
+                    .build();
+            lessons.add(lesson);
+            summaries.add(LessonSummaryDTO.builder()
+                    .id(lesson.getId())
+                    .title(lesson.getTitle())
+                    .description(lesson.getDescription())
+                    .type(lesson.getType())
+                    .orderIndex(lesson.getOrderIndex())
+                    .required(lesson.isRequired())
+                    .course(courseSummary)
+                    .build());
+        }
+
+        PayloadSizeProfiler.record(LessonPayloadBenchmark.class, "serializeEntities", serializeEntities().length);
+        PayloadSizeProfiler.record(LessonPayloadBenchmark.class, "serializeSummaries", serializeSummaries().length);
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lessons);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
@@ -0,0 +1,56 @@
+package edtech.afrilingo.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edtech.afrilingo.notification.dto.NotificationDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the FCM payload of one push, and rendering it as the JSON body RestTemplate sends
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FcmMessageBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FCMNotificationService fcmNotificationService;
+    private PushRoutingProfile.DeviceTarget device;
+    private NotificationDTO notification;
+
+    @Setup
+    public void setUp() {
+        // The payload is built without touching the repositories or the HTTP client
+        fcmNotificationService = new FCMNotificationService(null, null, null, null);
+        device = new PushRoutingProfile.DeviceTarget(1L, "f".repeat(152), "device-1");
+        notification = NotificationDTO.builder()
+                .id(42L)
+                .userId(7L)
+                .message("You completed the lesson Greetings in Kinyarwanda")
+                .timestamp(LocalDateTime.now())
+                .type(NotificationType.LESSON_COMPLETED)
+                .relatedEntityId(11L)
+                .priority(3)
+                .actionUrl("/lessons/11")
+                .imageUrl("https://cdn.example.com/lessons/11.png")
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Object> buildMessage() {
+        return fcmNotificationService.buildFCMMessage(device, notification, "notification-42");
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fcmNotificationService.buildFCMMessage(device, notification, "notification-42"));
+    }
+}
@@ -0,0 +1,127 @@
+package edtech.afrilingo.profile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.benchmark.PayloadSizeProfiler;
+import edtech.afrilingo.dto.CourseLanguageDTO;
+import edtech.afrilingo.dto.CourseSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the dashboard response, shaped as UserDashboardService.getUserDashboardData builds it,
+ * with the object mapper configuration Spring MVC uses. The legacy variant renders the recommended
+ * courses as the nested maps the service built before they became CourseSummaryDTOs.
+ * Compare time, gc.alloc.rate.norm and payload.bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardSerializationBenchmark {
+
+    @Param({"3", "30"})
+    private int enrolledCourses;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> dashboardData;
+    private Map<String, Object> legacyDashboardData;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Map<String, Object> userData = new HashMap<>();
+        userData.put("firstName", "Aline");
+        userData.put("lastName", "Uwase");
+        userData.put("email", "learner@example.com");
+        userData.put("id", 7L);
+
+        Map<String, Object> profileDTO = new HashMap<>();
+        profileDTO.put("id", 3L);
+        profileDTO.put("country", "Rwanda");
+        profileDTO.put("firstLanguage", "English");
+        profileDTO.put("profilePicture", "https://cdn.example.com/profiles/7.png");
+        profileDTO.put("reasonToLearn", "Travel");
+        profileDTO.put("dailyReminders", true);
+        profileDTO.put("dailyGoalMinutes", 15);
+        profileDTO.put("preferredLearningTime", "EVENING");
+        profileDTO.put("user", userData);
+
+        Map<String, Object> learningStats = new HashMap<>();
+        learningStats.put("completedLessons", 42L);
+        learningStats.put("averageQuizScore", 78.5);
+        learningStats.put("streak", 6);
+        learningStats.put("totalLearningMinutes", 630);
+        learningStats.put("passRate", 85.0);
+
+        List<CourseSummaryDTO> recommendedCourses = new ArrayList<>();
+        List<Map<String, Object>> legacyRecommendedCourses = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            recommendedCourses.add(CourseSummaryDTO.builder()
+                    .id(i)
+                    .title("Kinyarwanda " + i)
+                    .description("Everyday conversations, part " + i)
+                    .level("BEGINNER")
+                    .image("https://cdn.example.com/courses/" + i + ".png")
+                    .active(true)
+                    .language(CourseLanguageDTO.builder()
+                            .id(1L)
+                            .name("Kinyarwanda")
+                            .code("RW")
+                            .build())
+                    .build());
+
+            Map<String, Object> language = new HashMap<>();
+            language.put("id", 1L);
+            language.put("name", "Kinyarwanda");
+            language.put("code", "RW");
+            Map<String, Object> course = new HashMap<>();
+            course.put("id", i);
+            course.put("title", "Kinyarwanda " + i);
+            course.put("description", "Everyday conversations, part " + i);
+            course.put("level", "BEGINNER");
+            course.put("image", "https://cdn.example.com/courses/" + i + ".png");
+            course.put("language", language);
+            legacyRecommendedCourses.add(course);
+        }
+
+        Map<Long, Double> courseProgress = new HashMap<>();
+        for (long i = 1; i <= enrolledCourses; i++) {
+            courseProgress.put(i, (i * 37 % 100) * 1.0);
+        }
+
+        dashboardData = new HashMap<>();
+        dashboardData.put("userProfile", profileDTO);
+        dashboardData.put("learningStats", learningStats);
+        dashboardData.put("recommendedCourses", recommendedCourses);
+        dashboardData.put("courseProgress", courseProgress);
+
+        legacyDashboardData = new HashMap<>(dashboardData);
+        legacyDashboardData.put("recommendedCourses", legacyRecommendedCourses);
+
+        PayloadSizeProfiler.record(DashboardSerializationBenchmark.class, "serializeDashboard", serializeDashboard().length);
+        PayloadSizeProfiler.record(DashboardSerializationBenchmark.class, "serializeLegacyDashboard", serializeLegacyDashboard().length);
+    }
+
+    @Benchmark
+    public byte[] serializeDashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dashboardData);
+    }
+
+    @Benchmark
+    public byte[] serializeLegacyDashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(legacyDashboardData);
+    }
+}
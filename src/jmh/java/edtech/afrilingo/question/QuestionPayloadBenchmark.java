@@ -0,0 +1,173 @@
+package edtech.afrilingo.question;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.benchmark.PayloadSizeProfiler;
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.dto.OptionDTO;
+import edtech.afrilingo.dto.QuestionDTO;
+import edtech.afrilingo.language.Language;
+import edtech.afrilingo.lesson.Lesson;
+import edtech.afrilingo.lesson.LessonType;
+import edtech.afrilingo.quiz.Quiz;
+import edtech.afrilingo.quiz.option.Option;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Question payloads, before and after the DTO projections:
+ * - quiz questions: entities carrying their quiz, lesson, course and language, against QuestionDTOs
+ *   with their options;
+ * - certification questions: entities whose options expose the correct answer, against QuestionDTOs
+ *   whose options leave it out.
+ * Compare time, gc.alloc.rate.norm and payload.bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionPayloadBenchmark {
+
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    private ObjectMapper objectMapper;
+    private List<Question> quizQuestions;
+    private List<QuestionDTO> quizQuestionDTOs;
+    private List<Question> certificationQuestions;
+    private List<QuestionDTO> certificationQuestionDTOs;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Language language = Language.builder()
+                .id(1L)
+                .name("Kinyarwanda")
+                .code("RW")
+                .description("The national language of Rwanda, spoken by over twelve million people")
+                .flagImage("https://cdn.example.com/flags/rw.png")
+                .build();
+        Course course = Course.builder()
+                .id(1L)
+                .version(0L)
+                .title("Kinyarwanda for Beginners")
+                .description("Everyday conversations for travellers and newcomers")
+                .level("BEGINNER")
+                .image("https://cdn.example.com/courses/1.png")
+                .isActive(true)
+                .language(language)
+                .build();
+        Lesson lesson = Lesson.builder()
+                .id(1L)
+                .title("Greetings and introductions")
+                .description("Greet people at different times of day")
+                .type(LessonType.READING)
+                .orderIndex(Lesson.ORDER_GAP)
+                .isRequired(true)
+                .course(course)
+                .build();
+        Quiz quiz = Quiz.builder()
+                .id(1L)
+                .title("Greetings quiz")
+                .description("Check what you learned about greetings")
+                .minPassingScore(70)
+                .lesson(lesson)
+                .build();
+
+        quizQuestions = new ArrayList<>();
+        quizQuestionDTOs = new ArrayList<>();
+        certificationQuestions = new ArrayList<>();
+        certificationQuestionDTOs = new ArrayList<>();
+        for (long i = 1; i <= questionCount; i++) {
+            Question quizQuestion = question(i, quiz, null);
+            quizQuestions.add(quizQuestion);
+            quizQuestionDTOs.add(toDTO(quizQuestion, true));
+
+            Question certificationQuestion = question(questionCount + i, null, "BEGINNER");
+            certificationQuestions.add(certificationQuestion);
+            certificationQuestionDTOs.add(toDTO(certificationQuestion, false));
+        }
+
+        PayloadSizeProfiler.record(QuestionPayloadBenchmark.class, "serializeQuizQuestionEntities", serializeQuizQuestionEntities().length);
+        PayloadSizeProfiler.record(QuestionPayloadBenchmark.class, "serializeQuizQuestionDTOs", serializeQuizQuestionDTOs().length);
+        PayloadSizeProfiler.record(QuestionPayloadBenchmark.class, "serializeCertificationQuestionEntities",
+                serializeCertificationQuestionEntities().length);
+        PayloadSizeProfiler.record(QuestionPayloadBenchmark.class, "serializeCertificationQuestionDTOs",
+                serializeCertificationQuestionDTOs().length);
+    }
+
+    @Benchmark
+    public byte[] serializeQuizQuestionEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(quizQuestions);
+    }
+
+    @Benchmark
+    public byte[] serializeQuizQuestionDTOs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(quizQuestionDTOs);
+    }
+
+    @Benchmark
+    public byte[] serializeCertificationQuestionEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(certificationQuestions);
+    }
+
+    @Benchmark
+    public byte[] serializeCertificationQuestionDTOs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(certificationQuestionDTOs);
+    }
+
+    // Private helper methods
+
+    private Question question(long id, Quiz quiz, String certificationLevel) {
+        Question question = Question.builder()
+                .id(id)
+                .questionText("How do you say \"good morning\" in Kinyarwanda? (" + id + ")")
+                .questionType(QuestionType.MULTIPLE_CHOICE)
+                .points(10)
+                .quiz(quiz)
+                .certificationQuestion(certificationLevel != null)
+                .certificationLevel(certificationLevel)
+                .options(new ArrayList<>())
+                .build();
+        for (long o = 1; o <= OPTIONS_PER_QUESTION; o++) {
+            question.getOptions().add(Option.builder()
+                    .id(id * OPTIONS_PER_QUESTION + o)
+                    .optionText("Mwaramutse " + o)
+                    .isCorrect(o == 1)
+                    .question(question)
+                    .build());
+        }
+        return question;
+    }
+
+    private QuestionDTO toDTO(Question question, boolean includeAnswers) {
+        return QuestionDTO.builder()
+                .id(question.getId())
+                .questionText(question.getQuestionText())
+                .questionType(question.getQuestionType())
+                .mediaUrl(question.getMediaUrl())
+                .points(question.getPoints())
+                .quizId(question.getQuiz() != null ? question.getQuiz().getId() : null)
+                .options(question.getOptions().stream()
+                        .map(option -> OptionDTO.builder()
+                                .id(option.getId())
+                                .optionText(option.getOptionText())
+                                .optionMedia(option.getOptionMedia())
+                                .correct(includeAnswers ? option.isCorrect() : null)
+                                .build())
+                        .toList())
+                .build();
+    }
+}
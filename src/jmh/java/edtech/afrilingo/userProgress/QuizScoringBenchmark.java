@@ -0,0 +1,48 @@
+package edtech.afrilingo.userProgress;
+
+import edtech.afrilingo.question.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring step of UserQuizAttemptServiceImpl.evaluateQuizAttempt, without the repository reads
+ * and the save around it. Every third question is answered wrong; every fifth has two answers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizScoringBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int questionCount;
+
+    private List<Question> questions;
+    private List<UserAnswer> answers;
+    private int totalPossiblePoints;
+
+    @Setup
+    public void setUp() {
+        questions = new ArrayList<>();
+        answers = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            Question question = Question.builder().id((long) i + 1).points(1 + i % 3).build();
+            questions.add(question);
+            totalPossiblePoints += question.getPoints();
+            answers.add(UserAnswer.builder().question(question).isCorrect(i % 3 != 0).build());
+            if (i % 5 == 0) {
+                answers.add(UserAnswer.builder().question(question).isCorrect(true).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        return UserQuizAttemptServiceImpl.calculateScore(questions, answers, totalPossiblePoints);
+    }
+}
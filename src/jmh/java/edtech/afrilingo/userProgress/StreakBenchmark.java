@@ -0,0 +1,47 @@
+package edtech.afrilingo.userProgress;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Learning streak over a learner's whole history, as computed for every progress overview.
+ * Activity is spread four events a day, so the streak spans the whole history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreakBenchmark {
+
+    @Param({"20", "500", "5000"})
+    private int activityCount;
+
+    private List<UserProgress> progress;
+    private List<UserQuizAttempt> attempts;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        progress = new ArrayList<>();
+        attempts = new ArrayList<>();
+        for (int i = 0; i < activityCount; i++) {
+            LocalDateTime at = now.minusHours(6L * i);
+            if (i % 2 == 0) {
+                progress.add(UserProgress.builder().completed(true).completedAt(at).build());
+            } else {
+                attempts.add(UserQuizAttempt.builder().score(80).passed(true).attemptedAt(at).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public int calculateStreak() {
+        return UserProgressController.calculateStreak(progress, attempts);
+    }
+}
@@ -0,0 +1,80 @@
+package edtech.afrilingo.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-ins for Firebase Cloud Messaging and the vision API, so a load test neither sends
+ * real pushes nor pays for image analysis, and their latency does not blur the server's own.
+ * Both answer immediately with a fixed success response.
+ */
+class ExternalServiceStubs implements AutoCloseable {
+
+    static final String FCM_PATH = "/fcm/send";
+    static final String VISION_PATH = "/v1/chat/completions";
+
+    private static final String FCM_RESPONSE =
+            "{\"multicast_id\":1,\"success\":1,\"failure\":0,\"results\":[{\"message_id\":\"0:loadtest\"}]}";
+
+    // A clean frame: one face, looking at the screen, nothing prohibited
+    private static final String VISION_RESPONSE = """
+            {"choices":[{"message":{"role":"assistant","content":"{\\"face_count\\":1,\\"looking_at_screen\\":true,\
+            \\"prohibited_objects\\":[],\\"suspicious_activity\\":false,\\"confidence_score\\":0.95,\
+            \\"description\\":\\"load test stub\\"}"}}]}""";
+
+    private final HttpServer server;
+    private final AtomicLong fcmCalls = new AtomicLong();
+    private final AtomicLong visionCalls = new AtomicLong();
+
+    private ExternalServiceStubs(HttpServer server) {
+        this.server = server;
+    }
+
+    static ExternalServiceStubs start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExternalServiceStubs stubs = new ExternalServiceStubs(server);
+        server.createContext(FCM_PATH, exchange -> stubs.respond(exchange, stubs.fcmCalls, FCM_RESPONSE));
+        server.createContext(VISION_PATH, exchange -> stubs.respond(exchange, stubs.visionCalls, VISION_RESPONSE));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stubs;
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    long fcmCalls() {
+        return fcmCalls.get();
+    }
+
+    long visionCalls() {
+        return visionCalls.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // Private helper methods
+
+    private void respond(HttpExchange exchange, AtomicLong calls, String body) throws IOException {
+        calls.incrementAndGet();
+        try (exchange; InputStream request = exchange.getRequestBody()) {
+            request.readAllBytes();
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        }
+    }
+}
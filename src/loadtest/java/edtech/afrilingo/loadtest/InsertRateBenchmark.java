@@ -0,0 +1,228 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.certification.CertificationSession;
+import edtech.afrilingo.certification.CertificationSessionRepository;
+import edtech.afrilingo.certification.ProctorEvent;
+import edtech.afrilingo.certification.ProctorEventRepository;
+import edtech.afrilingo.certification.ProctorEventType;
+import edtech.afrilingo.notification.NotificationService;
+import edtech.afrilingo.notification.NotificationType;
+import edtech.afrilingo.question.QuestionRepository;
+import edtech.afrilingo.quiz.QuizRepository;
+import edtech.afrilingo.quiz.option.OptionRepository;
+import edtech.afrilingo.user.Role;
+import edtech.afrilingo.user.User;
+import edtech.afrilingo.user.UserRepository;
+import edtech.afrilingo.userProgress.UserAnswer;
+import edtech.afrilingo.userProgress.UserAnswerRepository;
+import edtech.afrilingo.userProgress.UserQuizAttempt;
+import edtech.afrilingo.userProgress.UserQuizAttemptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Insert throughput of the write-heavy paths with JDBC batching on and off.
+ * Boots the application once with afrilingo.jpa.batch-size at its default and once at 1, which
+ * sends every insert on its own, and in each runs the same transactions through the JPA
+ * repositories: grading (a quiz attempt and one answer per question), notification fan-out
+ * (NotificationService for a batch of learners, each with its delivery intents) and proctor
+ * event ingestion. Rows are counted in the tables afterwards and reported per second.
+ * Run through the loadtest Maven profile: mvn -Ploadtest verify
+ */
+@Slf4j
+public class InsertRateBenchmark {
+
+    /**
+     * @param rows Rows the timed transactions added to the scenario's tables
+     * @param millis Time the timed transactions took
+     */
+    record Result(String scenario, String mode, int batchSize, long rows, long millis, double rowsPerSecond) {
+    }
+
+    /**
+     * @param transactions Timed transactions per scenario and mode
+     * @param rowsPerTransaction Notifications or proctor events written per fan-out or ingestion transaction
+     */
+    record Report(int transactions, int rowsPerTransaction, List<Result> results) {
+    }
+
+    /**
+     * @param tables Tables the scenario writes to
+     * @param transaction Body of one transaction, given its index
+     */
+    private record Scenario(String name, List<String> tables, IntConsumer transaction) {
+    }
+
+    private static final Map<String, Integer> BATCH_SIZES = new LinkedHashMap<>();
+
+    static {
+        BATCH_SIZES.put("batched", 50);
+        // A batch of one executes each statement on its own
+        BATCH_SIZES.put("unbatched", 1);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int transactions = Math.max(1, Integer.parseInt(property("insert-transactions", "200")));
+        int rowsPerTransaction = Math.max(1, Integer.parseInt(property("insert-rows-per-transaction", "50")));
+        Path reportPath = Path.of(property("insert-report", "target/insert-rate-report.json"));
+
+        List<Result> results = new ArrayList<>();
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings)) {
+            for (Map.Entry<String, Integer> mode : BATCH_SIZES.entrySet()) {
+                try (ConfigurableApplicationContext context = environment.boot(
+                        Map.of("afrilingo.jpa.batch-size", String.valueOf(mode.getValue())))) {
+                    for (Scenario scenario : scenarios(context, mode.getKey(), rowsPerTransaction)) {
+                        results.add(measure(context, scenario, mode.getKey(), mode.getValue(), transactions));
+                    }
+                }
+            }
+        }
+        Report report = new Report(transactions, rowsPerTransaction, results);
+
+        System.out.printf("%nInserts through JPA, %d transactions per scenario and mode%n", transactions);
+        System.out.printf("%-14s %-10s %10s %10s %12s%n", "scenario", "mode", "rows", "ms", "rows/s");
+        for (Result result : results) {
+            System.out.printf("%-14s %-10s %,10d %,10d %,12.0f%n", result.scenario(), result.mode(),
+                    result.rows(), result.millis(), result.rowsPerSecond());
+        }
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        log.info("Report written to {}", reportPath.toAbsolutePath());
+        System.exit(0);
+    }
+
+    // Private helper methods
+
+    private static List<Scenario> scenarios(ConfigurableApplicationContext context, String mode, int rowsPerTransaction) {
+        LoadTestCatalog catalog = LoadTestCatalog.load(context.getBean(JdbcTemplate.class));
+        List<Long> learners = createLearners(context, mode, rowsPerTransaction);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        QuizRepository quizRepository = context.getBean(QuizRepository.class);
+        QuestionRepository questionRepository = context.getBean(QuestionRepository.class);
+        OptionRepository optionRepository = context.getBean(OptionRepository.class);
+        UserQuizAttemptRepository attemptRepository = context.getBean(UserQuizAttemptRepository.class);
+        UserAnswerRepository answerRepository = context.getBean(UserAnswerRepository.class);
+        Scenario grading = new Scenario("grading", List.of("user_quiz_attempts", "user_answers"), index -> {
+            LoadTestCatalog.LessonQuiz lesson = catalog.lessons().get(index % catalog.lessons().size());
+            UserQuizAttempt attempt = attemptRepository.save(UserQuizAttempt.builder()
+                    .user(userRepository.getReferenceById(learners.get(index % learners.size())))
+                    .quiz(quizRepository.getReferenceById(lesson.quizId()))
+                    .attemptedAt(LocalDateTime.now())
+                    .build());
+            List<UserAnswer> answers = new ArrayList<>();
+            lesson.optionsByQuestion().forEach((questionId, optionIds) -> answers.add(UserAnswer.builder()
+                    .attempt(attempt)
+                    .question(questionRepository.getReferenceById(questionId))
+                    .option(optionRepository.getReferenceById(optionIds.get(index % optionIds.size())))
+                    .build()));
+            answerRepository.saveAll(answers);
+        });
+
+        NotificationService notificationService = context.getBean(NotificationService.class);
+        Scenario fanOut = new Scenario("notifications", List.of("notifications", "notification_deliveries"), index -> {
+            for (Long learner : learners) {
+                notificationService.createNotification(learner, "Insert benchmark " + index,
+                        NotificationType.NEW_COURSE_AVAILABLE, null);
+            }
+        });
+
+        ProctorEventRepository proctorEventRepository = context.getBean(ProctorEventRepository.class);
+        CertificationSession session = context.getBean(CertificationSessionRepository.class)
+                .save(CertificationSession.builder()
+                        .sessionId(UUID.randomUUID().toString())
+                        .user(userRepository.getReferenceById(learners.get(0)))
+                        .languageCode("rw")
+                        .testLevel("BEGINNER")
+                        .startTime(LocalDateTime.now())
+                        .build());
+        Scenario proctoring = new Scenario("proctor-events", List.of("proctor_events"), index -> {
+            List<ProctorEvent> events = new ArrayList<>();
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                events.add(ProctorEvent.builder()
+                        .session(session)
+                        .eventType(ProctorEventType.values()[i % ProctorEventType.values().length])
+                        .description("Insert benchmark " + index)
+                        .timestamp(LocalDateTime.now())
+                        .confidenceScore(0.5)
+                        .build());
+            }
+            proctorEventRepository.saveAll(events);
+        });
+
+        return List.of(grading, fanOut, proctoring);
+    }
+
+    private static List<Long> createLearners(ConfigurableApplicationContext context, String mode, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<Long> learners = new ArrayList<>();
+        // Unique per run, so a database given through loadtest.jdbc-url can be reused
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < count; i++) {
+            learners.add(userRepository.save(User.builder()
+                    .firstName("Insert")
+                    .lastName("Benchmark")
+                    .email("insert-" + run + "-" + mode + "-" + i + "@loadtest.local")
+                    .password("unused")
+                    .role(Role.ROLE_USER)
+                    .build()).getId());
+        }
+        return learners;
+    }
+
+    private static Result measure(ConfigurableApplicationContext context, Scenario scenario, String mode,
+                                  int batchSize, int transactions) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        // Warm up the statement caches and the sequence pools outside the timed run
+        for (int i = 0; i < Math.max(1, transactions / 10); i++) {
+            int index = i;
+            transactionTemplate.executeWithoutResult(status -> scenario.transaction().accept(index));
+        }
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long rowsBefore = countRows(jdbcTemplate, scenario.tables());
+        long start = System.nanoTime();
+        for (int i = 0; i < transactions; i++) {
+            int index = i;
+            transactionTemplate.executeWithoutResult(status -> scenario.transaction().accept(index));
+        }
+        long nanos = System.nanoTime() - start;
+        long rows = countRows(jdbcTemplate, scenario.tables()) - rowsBefore;
+
+        log.info("{} ({}): {} rows in {} ms", scenario.name(), mode, rows, nanos / 1_000_000);
+        return new Result(scenario.name(), mode, batchSize, rows, nanos / 1_000_000, rows * 1e9 / nanos);
+    }
+
+    private static long countRows(JdbcTemplate jdbcTemplate, List<String> tables) {
+        long rows = 0;
+        for (String table : tables) {
+            rows += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        }
+        return rows;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        // The Maven profile passes unset properties as empty strings
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+}
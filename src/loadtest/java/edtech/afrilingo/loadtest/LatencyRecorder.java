@@ -0,0 +1,89 @@
+package edtech.afrilingo.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side response times per scenario step. Every sample is kept, so percentiles are exact;
+ * a few hundred thousand requests cost a few megabytes. Nothing is recorded until
+ * {@link #startRecording()}, so the warmup does not count.
+ */
+class LatencyRecorder {
+
+    /**
+     * Latency summary of one step, in milliseconds
+     */
+    record StepLatency(long requests, long errors, double p50, double p95, double p99, double max) {
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1_024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long elapsedNanos) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void startRecording() {
+        samples.clear();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * @param step Scenario step
+     * @param elapsedNanos Time from sending the request to reading the whole response
+     * @param ok Whether the response was a success; failures count as errors but their times are kept
+     */
+    void record(String step, long elapsedNanos, boolean ok) {
+        if (!recording) {
+            return;
+        }
+        Samples stepSamples = samples.computeIfAbsent(step, name -> new Samples());
+        stepSamples.add(elapsedNanos);
+        if (!ok) {
+            stepSamples.errors.increment();
+        }
+    }
+
+    StepLatency get(String step) {
+        Samples stepSamples = samples.get(step);
+        if (stepSamples == null) {
+            return new StepLatency(0, 0, 0, 0, 0, 0);
+        }
+        long[] sorted = stepSamples.sorted();
+        return new StepLatency(sorted.length, stepSamples.errors.sum(),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0);
+    }
+
+    // Private helper methods
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+}
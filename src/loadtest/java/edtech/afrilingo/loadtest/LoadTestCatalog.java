@@ -0,0 +1,53 @@
+package edtech.afrilingo.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+/**
+ * The lessons virtual users work through, read once from the seeded database, with what they
+ * need to browse to a lesson and answer its quiz
+ */
+record LoadTestCatalog(List<LessonQuiz> lessons) {
+
+    /**
+     * @param optionsByQuestion Option IDs of every question of the quiz
+     */
+    record LessonQuiz(long languageId, long courseId, long lessonId, long quizId,
+                      Map<Long, List<Long>> optionsByQuestion) {
+    }
+
+    static LoadTestCatalog load(JdbcTemplate jdbcTemplate) {
+        Map<Long, LessonQuiz> byQuiz = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT c.language_id, l.course_id, l.id AS lesson_id, q.id AS quiz_id,
+                       qu.id AS question_id, o.id AS option_id
+                FROM lessons l
+                JOIN courses c ON c.id = l.course_id
+                JOIN quizzes q ON q.lesson_id = l.id
+                JOIN questions qu ON qu.quiz_id = q.id
+                JOIN options o ON o.question_id = qu.id
+                WHERE c.is_active
+                ORDER BY q.id, qu.id, o.id
+                """, row -> {
+            long quizId = row.getLong("quiz_id");
+            LessonQuiz lesson = byQuiz.get(quizId);
+            if (lesson == null) {
+                lesson = new LessonQuiz(row.getLong("language_id"), row.getLong("course_id"),
+                        row.getLong("lesson_id"), quizId, new LinkedHashMap<>());
+                byQuiz.put(quizId, lesson);
+            }
+            lesson.optionsByQuestion()
+                    .computeIfAbsent(row.getLong("question_id"), questionId -> new ArrayList<>())
+                    .add(row.getLong("option_id"));
+        });
+        if (byQuiz.isEmpty()) {
+            throw new IllegalStateException("No active lessons with quizzes; was the catalog seeded?");
+        }
+        return new LoadTestCatalog(List.copyOf(byQuiz.values()));
+    }
+
+    LessonQuiz pick(Random random) {
+        return lessons.get(random.nextInt(lessons.size()));
+    }
+}
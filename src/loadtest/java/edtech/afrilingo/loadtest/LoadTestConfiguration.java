@@ -0,0 +1,38 @@
+package edtech.afrilingo.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * Instrumentation added to the application under load. A test configuration, so the
+ * application's component scan never picks it up; LoadTestRunner registers it explicitly.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class LoadTestConfiguration {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSources() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof HikariDataSource pool ? QueryCounter.wrap(pool) : bean;
+            }
+        };
+    }
+
+    @Bean
+    StepQueryFilter stepQueryFilter() {
+        return new StepQueryFilter();
+    }
+
+    @Bean
+    FilterRegistrationBean<StepQueryFilter> stepQueryFilterRegistration(StepQueryFilter stepQueryFilter) {
+        FilterRegistrationBean<StepQueryFilter> registration = new FilterRegistrationBean<>(stepQueryFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
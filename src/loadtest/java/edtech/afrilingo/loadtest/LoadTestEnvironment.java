@@ -0,0 +1,120 @@
+package edtech.afrilingo.loadtest;
+
+import edtech.afrilingo.AfrilingoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the application needs to boot outside its usual environment: PostgreSQL in a container
+ * (or the database at loadtest.jdbc-url) and local stubs for FCM and the vision API.
+ * Shared by LoadTestRunner and the other measurements of the loadtest profile, which boot the
+ * application once or several times against the same database.
+ */
+class LoadTestEnvironment implements AutoCloseable {
+
+    private final LoadTestSettings settings;
+    private final ExternalServiceStubs stubs;
+    // Null when running against loadtest.jdbc-url
+    private final PostgreSQLContainer<?> postgres;
+
+    private LoadTestEnvironment(LoadTestSettings settings, ExternalServiceStubs stubs, PostgreSQLContainer<?> postgres) {
+        this.settings = settings;
+        this.stubs = stubs;
+        this.postgres = postgres;
+    }
+
+    static LoadTestEnvironment start(LoadTestSettings settings) throws IOException {
+        // A devtools restart would reload the application in the middle of the run
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ExternalServiceStubs stubs = ExternalServiceStubs.start();
+        try {
+            return new LoadTestEnvironment(settings, stubs, settings.jdbcUrl() == null ? startPostgres(settings) : null);
+        } catch (RuntimeException e) {
+            stubs.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Boot the application against this environment
+     * @param overrides Application properties replacing the defaults below
+     * @param configurations Configuration classes registered next to the application
+     */
+    ConfigurableApplicationContext boot(Map<String, ?> overrides, Class<?>... configurations) throws IOException {
+        Properties properties = applicationProperties();
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(AfrilingoApplication.class)
+                .sources(configurations)
+                .properties(properties)
+                .run();
+    }
+
+    ExternalServiceStubs stubs() {
+        return stubs;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (postgres != null) {
+                postgres.close();
+            }
+        } finally {
+            stubs.close();
+        }
+    }
+
+    // Private helper methods
+
+    private static PostgreSQLContainer<?> startPostgres(LoadTestSettings settings) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(settings.postgresImage())
+                .asCompatibleSubstituteFor("postgres"))
+                .withDatabaseName("afrilingo_loadtest");
+        postgres.start();
+        return postgres;
+    }
+
+    /**
+     * Defaults for the application under test. They have the lowest precedence, so -D system
+     * properties passed through loadtest.jvm-args (pool size, cache settings, ...) override them.
+     */
+    private Properties applicationProperties() throws IOException {
+        byte[] jwtSecret = new byte[32];
+        new SecureRandom().nextBytes(jwtSecret);
+
+        Properties properties = new Properties();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", postgres != null ? postgres.getJdbcUrl() : settings.jdbcUrl());
+        properties.put("spring.datasource.username", postgres != null ? postgres.getUsername() : settings.jdbcUsername());
+        properties.put("spring.datasource.password", postgres != null ? postgres.getPassword() : settings.jdbcPassword());
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("application.security.jwt.secret-key", Base64.getEncoder().encodeToString(jwtSecret));
+        properties.put("application.security.jwt.expiration", String.valueOf(TimeUnit.HOURS.toMillis(24)));
+        properties.put("application.security.jwt.refresh-token.expiration", String.valueOf(TimeUnit.DAYS.toMillis(7)));
+        // OAuth2 login needs a client registration to start; it is never used here
+        properties.put("spring.security.oauth2.client.registration.google.client-id", "loadtest");
+        properties.put("spring.security.oauth2.client.registration.google.client-secret", "loadtest");
+        properties.put("firebase.enabled", "true");
+        properties.put("firebase.server.key", "loadtest");
+        properties.put("firebase.api.url", stubs.baseUrl() + ExternalServiceStubs.FCM_PATH);
+        properties.put("afrilingo.ai.api-key", "loadtest");
+        properties.put("afrilingo.ai.vision-api-url", stubs.baseUrl() + ExternalServiceStubs.VISION_PATH);
+        properties.put("afrilingo.certificates.base-url", "http://localhost");
+        properties.put("afrilingo.certificates.storage-path",
+                Files.createTempDirectory("afrilingo-loadtest-certificates").toString());
+        properties.put("afrilingo.data.auto-load", "true");
+        properties.put("afrilingo.jpa.second-level-cache", String.valueOf(settings.secondLevelCache()));
+        properties.put("afrilingo.jpa.cache-statistics", "true");
+        return properties;
+    }
+}
@@ -0,0 +1,139 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.dataloader.SeedReport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a load test run, printed as a table and written as JSON for later comparison
+ *
+ * @param settings Parameters of the run
+ * @param seed Learner seeding stages, with their insert rates
+ * @param steps Per-step latency, throughput and statements, in scenario order
+ * @param externalCalls Requests the FCM and vision stubs answered during the whole run
+ * @param hibernate Second-level cache and statement statistics from the end of the warmup
+ */
+record LoadTestReport(LoadTestSettings settings, List<SeedRate> seed, List<StepResult> steps,
+                      Map<String, Long> externalCalls, Map<String, Object> hibernate) {
+
+    record SeedRate(String stage, int rows, long millis, double rowsPerSecond) {
+    }
+
+    /**
+     * @param throughput Requests per second over the measured period
+     * @param queriesPerRequest Average JDBC statements per request, counted on the server
+     */
+    record StepResult(String step, long requests, long errors, double throughput,
+                      double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                      double queriesPerRequest, long maxQueries) {
+    }
+
+    // Below this, a p95 change is timer noise rather than a regression
+    private static final double MIN_P95_DELTA_MS = 2;
+
+    // Half a statement per request on average; query counts are nearly deterministic
+    private static final double MAX_QUERY_INCREASE = 0.5;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadTestReport of(LoadTestSettings settings, SeedReport seedReport, LatencyRecorder latencies,
+                             Map<String, StepQueryFilter.StepQueries> queries, Map<String, Long> externalCalls,
+                             Map<String, Object> hibernate) {
+        List<SeedRate> seed = seedReport.stages().stream()
+                .map(stage -> new SeedRate(stage.name(), stage.rowsWritten(), stage.millis(),
+                        stage.millis() > 0 ? stage.rowsWritten() * 1000.0 / stage.millis() : 0))
+                .toList();
+
+        List<StepResult> steps = new ArrayList<>();
+        for (String step : VirtualUser.STEPS) {
+            LatencyRecorder.StepLatency latency = latencies.get(step);
+            if (latency.requests() == 0) {
+                continue;
+            }
+            StepQueryFilter.StepQueries stepQueries = queries.get(step);
+            steps.add(new StepResult(step, latency.requests(), latency.errors(),
+                    (double) latency.requests() / settings.durationSeconds(),
+                    latency.p50(), latency.p95(), latency.p99(), latency.max(),
+                    stepQueries.perRequest(), stepQueries.maxQueries()));
+        }
+        return new LoadTestReport(settings, seed, steps, externalCalls, hibernate);
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        for (SeedRate rate : seed) {
+            out.printf("Seeded %-14s %,10d rows in %,7d ms  (%,.0f rows/s)%n",
+                    rate.stage(), rate.rows(), rate.millis(), rate.rowsPerSecond());
+        }
+        out.printf("%n%d virtual users, %d s measured%n", settings.virtualUsers(), settings.durationSeconds());
+        out.printf("%-28s %9s %7s %8s %9s %9s %9s %9s %9s %6s%n",
+                "step", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "queries", "max q");
+        for (StepResult step : steps) {
+            out.printf("%-28s %9d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %6d%n",
+                    step.step(), step.requests(), step.errors(), step.throughput(),
+                    step.p50Ms(), step.p95Ms(), step.p99Ms(), step.maxMs(),
+                    step.queriesPerRequest(), step.maxQueries());
+        }
+        out.printf("%nExternal calls: %s%nHibernate: %s%n", externalCalls, hibernate);
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * Compare against an earlier report. A step regresses when its p95 latency grew by more than
+     * the threshold percentage, when it runs more statements per request, or when its error rate
+     * rose by more than a percentage point. Steps missing from either report are skipped.
+     * @return Regressions, empty when there are none
+     */
+    List<String> regressionsAgainst(Path baselinePath, double thresholdPercent) throws IOException {
+        JsonNode baseline = OBJECT_MAPPER.readTree(baselinePath.toFile());
+        List<String> regressions = new ArrayList<>();
+        for (StepResult step : steps) {
+            JsonNode previous = null;
+            for (JsonNode candidate : baseline.path("steps")) {
+                if (step.step().equals(candidate.path("step").asText())) {
+                    previous = candidate;
+                }
+            }
+            if (previous == null) {
+                continue;
+            }
+
+            double p95 = previous.path("p95Ms").asDouble();
+            if (step.p95Ms() > p95 * (1 + thresholdPercent / 100) && step.p95Ms() - p95 > MIN_P95_DELTA_MS) {
+                regressions.add(String.format("%s: p95 %.1f -> %.1f ms", step.step(), p95, step.p95Ms()));
+            }
+            double queriesPerRequest = previous.path("queriesPerRequest").asDouble();
+            if (step.queriesPerRequest() > queriesPerRequest + MAX_QUERY_INCREASE) {
+                regressions.add(String.format("%s: queries per request %.1f -> %.1f", step.step(),
+                        queriesPerRequest, step.queriesPerRequest()));
+            }
+            double errorRate = errorRate(previous.path("errors").asLong(), previous.path("requests").asLong());
+            if (errorRate(step.errors(), step.requests()) > errorRate + 1) {
+                regressions.add(String.format("%s: error rate %.1f%% -> %.1f%%", step.step(), errorRate,
+                        errorRate(step.errors(), step.requests())));
+            }
+        }
+        return regressions;
+    }
+
+    // Private helper methods
+
+    private static double errorRate(long errors, long requests) {
+        return requests > 0 ? errors * 100.0 / requests : 0;
+    }
+}
@@ -0,0 +1,126 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edtech.afrilingo.config.cache.EntityCacheRegions;
+import edtech.afrilingo.dataloader.DataLoaderService;
+import edtech.afrilingo.dataloader.SeedReport;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test: starts PostgreSQL in a container (or uses loadtest.jdbc-url), boots the
+ * application against it with FCM and the vision API pointed at local stubs, seeds the catalog
+ * and a learner population through DataLoaderService, then drives the scripted VirtualUser
+ * scenario and reports p50/p95/p99 latency, throughput and statements per request for each step.
+ * With loadtest.baseline set, exits with status 1 when a step regressed against that report.
+ * Run through the loadtest Maven profile: mvn -Ploadtest verify
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    static final String LEARNER_PASSWORD = "LoadTest123!";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        List<String> regressions;
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings);
+             ConfigurableApplicationContext context = environment.boot(Map.of(), LoadTestConfiguration.class)) {
+
+            // The catalog was seeded on startup by DataInitializer
+            SeedReport seed = context.getBean(DataLoaderService.class)
+                    .loadLearners(settings.scale(), LEARNER_PASSWORD);
+            LoadTestCatalog catalog = LoadTestCatalog.load(context.getBean(JdbcTemplate.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            log.info("Load testing http://localhost:{} with {} virtual users over {} lessons",
+                    port, settings.virtualUsers(), catalog.lessons().size());
+
+            LatencyRecorder latencies = new LatencyRecorder();
+            Map<String, StepQueryFilter.StepQueries> queries = runScenario(settings, "http://localhost:" + port,
+                    catalog, latencies, context.getBean(StepQueryFilter.class),
+                    context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class));
+
+            LoadTestReport report = LoadTestReport.of(settings, seed, latencies, queries,
+                    Map.of("fcm", environment.stubs().fcmCalls(), "vision", environment.stubs().visionCalls()),
+                    context.getBean(EntityCacheRegions.class).getStats());
+            report.print(System.out);
+            report.write(settings.report());
+            log.info("Report written to {}", settings.report().toAbsolutePath());
+
+            regressions = settings.baseline() != null && Files.isRegularFile(settings.baseline())
+                    ? report.regressionsAgainst(settings.baseline(), settings.regressionThreshold())
+                    : List.of();
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d regression(s) against %s:%n", regressions.size(), settings.baseline());
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // Private helper methods
+
+    /**
+     * Run the virtual users through warmup and the measured period
+     * @return Statements per step, as counted when the measured period ended
+     */
+    private static Map<String, StepQueryFilter.StepQueries> runScenario(
+            LoadTestSettings settings, String baseUrl, LoadTestCatalog catalog, LatencyRecorder latencies,
+            StepQueryFilter stepQueries, SessionFactory sessionFactory) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        long start = System.nanoTime();
+        // Measure only once every virtual user is running
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(Math.max(settings.warmupSeconds(), settings.rampUpSeconds()));
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+        Map<String, StepQueryFilter.StepQueries> queries = new LinkedHashMap<>();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int n = 0; n < settings.virtualUsers(); n++) {
+                long startDelayMs = TimeUnit.SECONDS.toMillis(settings.rampUpSeconds()) * n / settings.virtualUsers();
+                virtualUsers.submit(new VirtualUser(n, baseUrl, httpClient, objectMapper, catalog, latencies,
+                        settings, startDelayMs, deadline));
+            }
+
+            sleepUntil(measureFrom);
+            stepQueries.reset();
+            sessionFactory.getStatistics().clear();
+            latencies.startRecording();
+            log.info("Warmup done, measuring for {} s", settings.durationSeconds());
+
+            sleepUntil(deadline);
+            latencies.stopRecording();
+            for (String step : VirtualUser.STEPS) {
+                queries.put(step, stepQueries.get(step));
+            }
+            log.info("Measurement done, waiting for virtual users to finish their iteration");
+            virtualUsers.shutdown();
+        }
+        return queries;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package edtech.afrilingo.loadtest;
+
+import edtech.afrilingo.dataloader.LearnerScale;
+
+import java.nio.file.Path;
+
+/**
+ * Load test parameters, read from loadtest.* system properties (set by the loadtest Maven profile)
+ *
+ * @param scale Seeded learner population
+ * @param virtualUsers Concurrent scripted users; each signs in as its own seeded learner
+ * @param rampUpSeconds Time over which virtual users start
+ * @param warmupSeconds Run time discarded before measuring
+ * @param durationSeconds Measured run time
+ * @param thinkTimeMs Pause between scenario steps
+ * @param iterationsPerLogin Scenario iterations between sign-ins
+ * @param certificationEvery Every how many iterations a virtual user takes a certification exam; 0 for never
+ * @param jdbcUrl Existing database to run against, or null to start a PostgreSQL container
+ * @param jdbcUsername Database user for jdbcUrl
+ * @param jdbcPassword Database password for jdbcUrl
+ * @param postgresImage Container image when no jdbcUrl is given
+ * @param secondLevelCache Whether the Hibernate second-level cache is enabled, to measure what it saves
+ * @param report JSON report to write
+ * @param baseline Earlier JSON report to compare against, or null
+ * @param regressionThreshold Allowed p95 latency increase over the baseline, in percent
+ */
+record LoadTestSettings(
+        LearnerScale scale,
+        int virtualUsers,
+        int rampUpSeconds,
+        int warmupSeconds,
+        int durationSeconds,
+        int thinkTimeMs,
+        int iterationsPerLogin,
+        int certificationEvery,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        String postgresImage,
+        boolean secondLevelCache,
+        Path report,
+        Path baseline,
+        double regressionThreshold) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LearnerScale scale = new LearnerScale(
+                intProperty("learners", 1_000),
+                intProperty("attempts-per-learner", 20),
+                intProperty("notifications-per-learner", 50));
+        int virtualUsers = intProperty("virtual-users", 50);
+        if (virtualUsers > scale.users()) {
+            throw new IllegalArgumentException("loadtest.virtual-users (" + virtualUsers
+                    + ") exceeds loadtest.learners (" + scale.users() + ")");
+        }
+        String baseline = property("baseline", null);
+        return new LoadTestSettings(
+                scale,
+                virtualUsers,
+                intProperty("ramp-up-seconds", 10),
+                intProperty("warmup-seconds", 20),
+                intProperty("duration-seconds", 120),
+                intProperty("think-time-ms", 500),
+                Math.max(1, intProperty("iterations-per-login", 5)),
+                intProperty("certification-every", 10),
+                property("jdbc-url", null),
+                property("jdbc-username", "postgres"),
+                property("jdbc-password", "postgres"),
+                property("postgres-image", "postgres:16-alpine"),
+                Boolean.parseBoolean(property("second-level-cache", "true")),
+                Path.of(property("report", "target/loadtest-report.json")),
+                baseline != null ? Path.of(baseline) : null,
+                Double.parseDouble(property("regression-threshold", "20")));
+    }
+
+    // Private helper methods
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        // The Maven profile passes unset properties as empty strings
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
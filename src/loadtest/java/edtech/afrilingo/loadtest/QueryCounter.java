@@ -0,0 +1,78 @@
+package edtech.afrilingo.loadtest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Counts JDBC statement executions on the current thread between {@link #start()} and
+ * {@link #stop()}. A batch counts once, as it is one round trip. Only the connection pools are
+ * wrapped, so each execution is seen once whatever routing or lazy proxy sits in front of them.
+ */
+final class QueryCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * @return Statements executed on this thread since {@link #start()}
+     */
+    static int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        // Keep the pool closeable, so the context still shuts it down
+        Class<?>[] interfaces = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) proxy(dataSource, interfaces, (method, result) ->
+                result instanceof Connection connection ? wrap(connection) : result);
+    }
+
+    // Private helper methods
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) proxy(connection, new Class<?>[]{Connection.class}, (method, result) -> switch (result) {
+            case CallableStatement statement -> proxy(statement, new Class<?>[]{CallableStatement.class}, QueryCounter::count);
+            case PreparedStatement statement -> proxy(statement, new Class<?>[]{PreparedStatement.class}, QueryCounter::count);
+            case Statement statement -> proxy(statement, new Class<?>[]{Statement.class}, QueryCounter::count);
+            case null, default -> result;
+        });
+    }
+
+    private static Object count(Method method, Object result) {
+        int[] count = CURRENT.get();
+        if (count != null && method.getName().startsWith("execute")) {
+            count[0]++;
+        }
+        return result;
+    }
+
+    private interface ResultMapper {
+        Object map(Method method, Object result);
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, ResultMapper mapper) {
+        return Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), interfaces, (proxy, method, args) -> {
+            try {
+                return mapper.map(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,248 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.certification.CertificationQuestionResponseRepository;
+import edtech.afrilingo.certification.CertificationSessionRepository;
+import edtech.afrilingo.certification.ProctorEventRepository;
+import edtech.afrilingo.course.CourseRepository;
+import edtech.afrilingo.lesson.LessonRepository;
+import edtech.afrilingo.lesson.content.LessonContentRepository;
+import edtech.afrilingo.notification.NotificationRepository;
+import edtech.afrilingo.question.QuestionRepository;
+import edtech.afrilingo.quiz.QuizRepository;
+import edtech.afrilingo.quiz.option.OptionRepository;
+import edtech.afrilingo.token.TokenRepository;
+import edtech.afrilingo.userProgress.UserAnswerRepository;
+import edtech.afrilingo.userProgress.UserProgressRepository;
+import edtech.afrilingo.userProgress.UserQuizAttemptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Checks that the hot repository methods are answered from indexes (see the V4 migration).
+ * Boots the application against PostgreSQL, calls each method and captures the SQL Hibernate
+ * generates for it with {@link SqlCapture}. Every statement is then EXPLAINed as a generic plan,
+ * so the ? parameters need no values, with sequential scans disabled: the planner only falls
+ * back to one when no usable index exists, whatever the table size. Exits with 1 when any plan
+ * still contains a Seq Scan or cannot be explained.
+ * Run through the loadtest Maven profile: mvn -Ploadtest verify
+ */
+@Slf4j
+public class QueryPlanCheck {
+
+    /**
+     * @param sql Statement as Hibernate generated it
+     * @param sequentialScans Tables the plan scans sequentially
+     * @param error Why the statement could not be explained, or null
+     */
+    record Plan(String sql, List<String> sequentialScans, String error) {
+
+        boolean indexed() {
+            return error == null && sequentialScans.isEmpty();
+        }
+    }
+
+    /**
+     * @param method Repository method
+     * @param plans One plan per distinct statement the method executed
+     */
+    record Result(String method, List<Plan> plans) {
+
+        boolean indexed() {
+            return !plans.isEmpty() && plans.stream().allMatch(Plan::indexed);
+        }
+    }
+
+    record Report(int methods, int failing, List<Result> results) {
+    }
+
+    /**
+     * @param method Repository method, as reported
+     * @param call Calls it; IDs need not exist, only the generated SQL matters
+     */
+    private record HotMethod(String method, Consumer<ConfigurableApplicationContext> call) {
+    }
+
+    private static final List<HotMethod> HOT_METHODS = List.of(
+            new HotMethod("UserProgressRepository.findByUserIdAndLessonId", context ->
+                    context.getBean(UserProgressRepository.class).findByUserIdAndLessonId(1L, 1L)),
+            new HotMethod("UserProgressRepository.countCompletedLessonsByUserSince", context ->
+                    context.getBean(UserProgressRepository.class)
+                            .countCompletedLessonsByUserSince(List.of(1L, 2L, 3L), LocalDateTime.now().minusDays(1))),
+            new HotMethod("UserQuizAttemptRepository.findLatestByUserIdAndQuizId", context ->
+                    context.getBean(UserQuizAttemptRepository.class).findLatestByUserIdAndQuizId(1L, 1L)),
+            new HotMethod("UserQuizAttemptRepository.summarizeAttemptsByUserSince", context ->
+                    context.getBean(UserQuizAttemptRepository.class)
+                            .summarizeAttemptsByUserSince(List.of(1L, 2L, 3L), LocalDateTime.now().minusDays(7))),
+            new HotMethod("UserAnswerRepository.findByAttemptId", context ->
+                    context.getBean(UserAnswerRepository.class).findByAttemptId(1L)),
+            new HotMethod("UserAnswerRepository.findMostSelectedOptionForQuestion", context ->
+                    context.getBean(UserAnswerRepository.class).findMostSelectedOptionForQuestion(1L)),
+            new HotMethod("NotificationRepository.findFeed", context ->
+                    context.getBean(NotificationRepository.class).findFeed(1L, PageRequest.of(0, 20))),
+            new HotMethod("NotificationRepository.findUnreadFeed", context ->
+                    context.getBean(NotificationRepository.class)
+                            .findUnreadFeed(1L, LocalDateTime.now(), PageRequest.of(0, 20))),
+            new HotMethod("NotificationRepository.countUnreadNotifications", context ->
+                    context.getBean(NotificationRepository.class).countUnreadNotifications(1L)),
+            new HotMethod("TokenRepository.findByToken", context ->
+                    context.getBean(TokenRepository.class).findByToken("token")),
+            new HotMethod("TokenRepository.findAllValidTokenByUser", context ->
+                    context.getBean(TokenRepository.class).findAllValidTokenByUser(1L)),
+            new HotMethod("ProctorEventRepository.findBySession_IdOrderByTimestampAsc", context ->
+                    context.getBean(ProctorEventRepository.class).findBySession_IdOrderByTimestampAsc(1L)),
+            new HotMethod("ProctorEventRepository.findBySessionAndFlaggedTrue", context ->
+                    context.getBean(ProctorEventRepository.class).findBySessionAndFlaggedTrue(
+                            context.getBean(CertificationSessionRepository.class).getReferenceById(1L))),
+            new HotMethod("ProctorEventRepository.findFlaggedEventsBetween", context ->
+                    context.getBean(ProctorEventRepository.class)
+                            .findFlaggedEventsBetween(LocalDateTime.now().minusDays(1), LocalDateTime.now())),
+            new HotMethod("CertificationQuestionResponseRepository.findBySessionOrderByAnsweredAtAsc", context ->
+                    context.getBean(CertificationQuestionResponseRepository.class).findBySessionOrderByAnsweredAtAsc(
+                            context.getBean(CertificationSessionRepository.class).getReferenceById(1L))),
+            new HotMethod("QuestionRepository.findByQuizId", context ->
+                    context.getBean(QuestionRepository.class).findByQuizId(1L)),
+            new HotMethod("QuestionRepository.findCertificationQuestionsByLevel", context ->
+                    context.getBean(QuestionRepository.class)
+                            .findCertificationQuestionsByLevel("BEGINNER", PageRequest.of(0, 20))),
+            new HotMethod("OptionRepository.findByQuestionId", context ->
+                    context.getBean(OptionRepository.class).findByQuestionId(1L)),
+            new HotMethod("QuizRepository.findByLessonId", context ->
+                    context.getBean(QuizRepository.class).findByLessonId(1L)),
+            new HotMethod("LessonContentRepository.findByLessonId", context ->
+                    context.getBean(LessonContentRepository.class).findByLessonId(1L)),
+            new HotMethod("LessonRepository.findSummariesByCourseIdOrdered", context ->
+                    context.getBean(LessonRepository.class).findSummariesByCourseIdOrdered(1L)),
+            new HotMethod("CourseRepository.findActiveSummariesByLanguageId", context ->
+                    context.getBean(CourseRepository.class).findActiveSummariesByLanguageId(1L)));
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path reportPath = Path.of(property("plans-report", "target/query-plan-report.json"));
+
+        List<Result> results = new ArrayList<>();
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings);
+             ConfigurableApplicationContext context = environment.boot(Map.of(
+                     "spring.jpa.properties.hibernate.session_factory.statement_inspector", SqlCapture.class.getName(),
+                     // Cached query results would skip the database, and with it the SQL
+                     "afrilingo.jpa.second-level-cache", "false"))) {
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            for (HotMethod hotMethod : HOT_METHODS) {
+                List<Plan> plans = new ArrayList<>();
+                SqlCapture.start();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> hotMethod.call().accept(context));
+                } catch (RuntimeException e) {
+                    plans.add(new Plan(null, List.of(), "Call failed: " + e.getMessage()));
+                }
+                for (String sql : new LinkedHashSet<>(SqlCapture.stop())) {
+                    plans.add(explain(transactionTemplate, jdbcTemplate, objectMapper, sql));
+                }
+                results.add(new Result(hotMethod.method(), plans));
+            }
+        }
+
+        List<Result> failing = results.stream()
+                .filter(result -> !result.indexed())
+                .toList();
+        for (Result result : failing) {
+            if (result.plans().isEmpty()) {
+                log.error("{} executed no SQL", result.method());
+            }
+            for (Plan plan : result.plans()) {
+                if (!plan.indexed()) {
+                    log.error("{} has no index-backed plan ({}): {}", result.method(),
+                            plan.error() != null ? plan.error() : "sequential scan on " + plan.sequentialScans(),
+                            plan.sql());
+                }
+            }
+        }
+        System.out.printf("%n%d of %d hot repository methods have index-backed plans%n",
+                results.size() - failing.size(), results.size());
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportPath.toFile(), new Report(results.size(), failing.size(), results));
+        log.info("Report written to {}", reportPath.toAbsolutePath());
+        System.exit(failing.isEmpty() ? 0 : 1);
+    }
+
+    // Private helper methods
+
+    private static Plan explain(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper, String sql) {
+        // One transaction per statement: a failing EXPLAIN aborts its transaction, not the check
+        try {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+                String json = jdbcTemplate.queryForObject(
+                        "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(sql), String.class);
+                List<String> sequentialScans = new ArrayList<>();
+                try {
+                    collectSequentialScans(objectMapper.readTree(json).path(0).path("Plan"), sequentialScans);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Unreadable plan: " + e.getMessage(), e);
+                }
+                return new Plan(sql, sequentialScans, null);
+            });
+        } catch (RuntimeException e) {
+            return new Plan(sql, List.of(), e.getMessage());
+        }
+    }
+
+    /**
+     * JDBC's ? placeholders as the $1, $2, ... a generic plan expects, leaving string literals alone
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> tables) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            tables.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        // The Maven profile passes unset properties as empty strings
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+}
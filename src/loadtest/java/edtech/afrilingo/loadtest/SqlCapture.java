@@ -0,0 +1,38 @@
+package edtech.afrilingo.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}, as generated, with ? placeholders. Registered through
+ * hibernate.session_factory.statement_inspector, which instantiates it by class name, hence public.
+ */
+public final class SqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+
+    static void start() {
+        CURRENT.set(new ArrayList<>());
+    }
+
+    /**
+     * @return Statements prepared on this thread since {@link #start()}, in order
+     */
+    static List<String> stop() {
+        List<String> statements = CURRENT.get();
+        CURRENT.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
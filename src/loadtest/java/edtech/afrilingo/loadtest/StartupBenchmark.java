@@ -0,0 +1,116 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.dataloader.DataHealthService;
+import edtech.afrilingo.dataloader.DataInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup cost of data initialization with and without the seed fingerprint fast path.
+ * Boots the application once to seed the database, then alternately boots it with a current
+ * fingerprint (one primary key lookup) and with the fingerprint dropped (the full integrity
+ * scan), and reports the median DataInitializer time and whole boot time of each.
+ * Run through the loadtest Maven profile: mvn -Ploadtest verify
+ */
+@Slf4j
+public class StartupBenchmark {
+
+    /**
+     * @param initializationMillis Time spent in DataInitializer
+     * @param bootMillis Time until the application context was ready
+     */
+    record Sample(long initializationMillis, long bootMillis) {
+    }
+
+    /**
+     * @param runs Boots per mode
+     * @param initializationMillis Median DataInitializer time per mode
+     * @param bootMillis Median boot time per mode
+     */
+    record Report(int runs, Map<String, Long> initializationMillis, Map<String, Long> bootMillis) {
+    }
+
+    private static final String FAST_PATH = "fast-path";
+    private static final String FULL_CHECK = "full-check";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int runs = Math.max(1, Integer.parseInt(property("startup-runs", "5")));
+        Path reportPath = Path.of(property("startup-report", "target/startup-report.json"));
+
+        Map<String, List<Sample>> samples = new LinkedHashMap<>();
+        samples.put(FAST_PATH, new ArrayList<>());
+        samples.put(FULL_CHECK, new ArrayList<>());
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings)) {
+            // Seeds the catalog and records the fingerprint
+            environment.boot(Map.of()).close();
+
+            for (int run = 1; run <= runs; run++) {
+                log.info("Startup run {} of {}", run, runs);
+                long start = System.nanoTime();
+                try (ConfigurableApplicationContext context = environment.boot(Map.of())) {
+                    samples.get(FAST_PATH).add(sample(context, start, true));
+                    context.getBean(DataHealthService.class).clearFingerprint();
+                }
+                start = System.nanoTime();
+                try (ConfigurableApplicationContext context = environment.boot(Map.of())) {
+                    samples.get(FULL_CHECK).add(sample(context, start, false));
+                }
+            }
+        }
+
+        Map<String, Long> initialization = new LinkedHashMap<>();
+        Map<String, Long> boot = new LinkedHashMap<>();
+        samples.forEach((mode, modeSamples) -> {
+            initialization.put(mode, median(modeSamples.stream().mapToLong(Sample::initializationMillis).toArray()));
+            boot.put(mode, median(modeSamples.stream().mapToLong(Sample::bootMillis).toArray()));
+        });
+        Report report = new Report(runs, initialization, boot);
+
+        System.out.printf("%nData initialization over %d boots per mode (medians)%n", runs);
+        System.out.printf("%-12s %18s %12s%n", "mode", "initializer ms", "boot ms");
+        for (String mode : samples.keySet()) {
+            System.out.printf("%-12s %,18d %,12d%n", mode, initialization.get(mode), boot.get(mode));
+        }
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        log.info("Report written to {}", reportPath.toAbsolutePath());
+        System.exit(0);
+    }
+
+    // Private helper methods
+
+    private static Sample sample(ConfigurableApplicationContext context, long start, boolean expectFastPath) {
+        long bootMillis = (System.nanoTime() - start) / 1_000_000;
+        DataInitializer initializer = context.getBean(DataInitializer.class);
+        if (initializer.isFastPathTaken() != expectFastPath) {
+            throw new IllegalStateException("Expected the " + (expectFastPath ? FAST_PATH : FULL_CHECK)
+                    + " startup, but the seed fingerprint said otherwise");
+        }
+        return new Sample(initializer.getInitializationMillis(), bootMillis);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        // The Maven profile passes unset properties as empty strings
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+}
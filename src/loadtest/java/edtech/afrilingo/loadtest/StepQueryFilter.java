@@ -0,0 +1,75 @@
+package edtech.afrilingo.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements each load test request runs, per scenario step. The driver names the
+ * step in a request header; requests without it are not counted. Runs ahead of the security
+ * filters, so the token and user lookups of authentication are included. Work handed to other
+ * threads (async notifications, the outbox) is not attributed to the request.
+ */
+class StepQueryFilter extends OncePerRequestFilter {
+
+    static final String STEP_HEADER = "X-Load-Step";
+
+    record StepQueries(long requests, long queries, long maxQueries) {
+
+        double perRequest() {
+            return requests > 0 ? (double) queries / requests : 0;
+        }
+    }
+
+    private record Counters(LongAdder requests, LongAdder queries, LongAccumulator maxQueries) {
+    }
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getHeader(STEP_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCounter.stop();
+            Counters step = counters.computeIfAbsent(request.getHeader(STEP_HEADER),
+                    name -> new Counters(new LongAdder(), new LongAdder(), new LongAccumulator(Math::max, 0)));
+            step.requests().increment();
+            step.queries().add(queries);
+            step.maxQueries().accumulate(queries);
+        }
+    }
+
+    StepQueries get(String step) {
+        Counters counted = counters.get(step);
+        return counted != null
+                ? new StepQueries(counted.requests().sum(), counted.queries().sum(), counted.maxQueries().get())
+                : new StepQueries(0, 0, 0);
+    }
+
+    /**
+     * Drop what was counted so far, at the end of the warmup
+     */
+    void reset() {
+        counters.clear();
+    }
+}
@@ -0,0 +1,259 @@
+package edtech.afrilingo.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import edtech.afrilingo.dataloader.DataLoaderService;
+import edtech.afrilingo.loadtest.LoadTestCatalog.LessonQuiz;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * One scripted learner. Each iteration browses to a lesson, completes it, submits its quiz,
+ * opens the dashboard and polls notifications; every few iterations it signs in again, and
+ * every loadtest.certification-every iterations it takes a certification exam.
+ * Runs until the deadline, finishing the iteration in progress.
+ */
+@Slf4j
+class VirtualUser implements Runnable {
+
+    static final String LOGIN = "login";
+    static final String DEVICE_TOKEN = "device-token";
+    static final String LANGUAGES = "languages";
+    static final String COURSES = "courses-by-language";
+    static final String LESSONS = "lessons-by-course";
+    static final String LESSON_COMPLETE = "lesson-complete";
+    static final String QUIZ_SUBMIT = "quiz-submit";
+    static final String DASHBOARD = "dashboard";
+    static final String NOTIFICATION_FEED = "notification-feed";
+    static final String NOTIFICATION_UNREAD_COUNT = "notification-unread-count";
+    static final String CERTIFICATION_INITIATE = "certification-initiate";
+    static final String CERTIFICATION_VERIFY = "certification-verify";
+    static final String CERTIFICATION_QUESTIONS = "certification-questions";
+    static final String CERTIFICATION_ANSWER = "certification-answer";
+    static final String CERTIFICATION_PROCTOR_EVENT = "certification-proctor-event";
+    static final String CERTIFICATION_COMPLETE = "certification-complete";
+
+    // In scenario order, for the report
+    static final List<String> STEPS = List.of(LOGIN, DEVICE_TOKEN, LANGUAGES, COURSES, LESSONS, LESSON_COMPLETE,
+            QUIZ_SUBMIT, DASHBOARD, NOTIFICATION_FEED, NOTIFICATION_UNREAD_COUNT, CERTIFICATION_INITIATE,
+            CERTIFICATION_VERIFY, CERTIFICATION_QUESTIONS, CERTIFICATION_ANSWER, CERTIFICATION_PROCTOR_EVENT,
+            CERTIFICATION_COMPLETE);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String CERTIFICATION_LANGUAGE = "RW";
+    private static final String CERTIFICATION_LEVEL = "BEGINNER";
+    private static final int CERTIFICATION_ANSWERS = 10;
+
+    private final int number;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestCatalog catalog;
+    private final LatencyRecorder latencies;
+    private final LoadTestSettings settings;
+    private final long startDelayMs;
+    private final long deadlineNanos;
+    private final Random random;
+
+    private String accessToken;
+    private boolean deviceRegistered;
+
+    VirtualUser(int number, String baseUrl, HttpClient httpClient, ObjectMapper objectMapper, LoadTestCatalog catalog,
+                LatencyRecorder latencies, LoadTestSettings settings, long startDelayMs, long deadlineNanos) {
+        this.number = number;
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.catalog = catalog;
+        this.latencies = latencies;
+        this.settings = settings;
+        this.startDelayMs = startDelayMs;
+        this.deadlineNanos = deadlineNanos;
+        // Seeded per user, so runs at the same settings follow the same paths
+        this.random = new Random(number);
+    }
+
+    @Override
+    public void run() {
+        try {
+            Thread.sleep(startDelayMs);
+            int iteration = 0;
+            while (System.nanoTime() < deadlineNanos) {
+                if (iteration % settings.iterationsPerLogin() == 0 && !login()) {
+                    think();
+                    continue;
+                }
+                iterate(iteration++);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Virtual user {} stopped: {}", number, e.getMessage(), e);
+        }
+    }
+
+    // Private helper methods
+
+    private void iterate(int iteration) throws InterruptedException {
+        LessonQuiz lesson = catalog.pick(random);
+
+        get(LANGUAGES, "/api/v1/languages");
+        get(COURSES, "/api/v1/courses/language/" + lesson.languageId());
+        get(LESSONS, "/api/v1/lessons/course/" + lesson.courseId());
+        think();
+
+        post(LESSON_COMPLETE, "/api/v1/progress/lesson/complete?lessonId=" + lesson.lessonId(), null);
+        think();
+
+        post(QUIZ_SUBMIT, "/api/v1/quizzes/" + lesson.quizId() + "/submit", answers(lesson));
+        think();
+
+        get(DASHBOARD, "/api/v1/dashboard");
+        get(NOTIFICATION_FEED, "/api/v1/notifications/feed?size=20");
+        get(NOTIFICATION_UNREAD_COUNT, "/api/v1/notifications/unread/count");
+        think();
+
+        int every = settings.certificationEvery();
+        if (every > 0 && iteration % every == every - 1) {
+            takeCertificationExam();
+        }
+    }
+
+    private boolean login() throws InterruptedException {
+        accessToken = null;
+        JsonNode response = json(post(LOGIN, "/api/v1/auth/authenticate", Map.of(
+                "email", DataLoaderService.learnerEmail(number),
+                "password", LoadTestRunner.LEARNER_PASSWORD)));
+        accessToken = response.path("access_token").asText(null);
+        if (accessToken == null) {
+            return false;
+        }
+
+        if (!deviceRegistered) {
+            // Gives the push path a device to deliver to, answered by the FCM stub
+            deviceRegistered = post(DEVICE_TOKEN, "/api/v1/notifications/device-token", Map.of(
+                    "token", "loadtest-device-" + number,
+                    "deviceType", "ANDROID",
+                    "deviceId", "loadtest-" + number,
+                    "appVersion", "loadtest")) != null;
+        }
+        return true;
+    }
+
+    private List<Map<String, Long>> answers(LessonQuiz lesson) {
+        List<Map<String, Long>> answers = new ArrayList<>();
+        lesson.optionsByQuestion().forEach((questionId, optionIds) -> answers.add(Map.of(
+                "questionId", questionId,
+                "selectedOptionId", optionIds.get(random.nextInt(optionIds.size())))));
+        return answers;
+    }
+
+    private void takeCertificationExam() throws InterruptedException {
+        long sessionId = json(post(CERTIFICATION_INITIATE, "/api/v1/certification/sessions/initiate?languageCode="
+                + CERTIFICATION_LANGUAGE + "&testLevel=" + CERTIFICATION_LEVEL, null))
+                .path("data").path("id").asLong(-1);
+        if (sessionId < 0) {
+            return;
+        }
+        String session = "/api/v1/certification/sessions/" + sessionId;
+
+        post(CERTIFICATION_VERIFY, session + "/verify-environment?cameraVerified=true&environmentVerified=true", null);
+        JsonNode questions = json(get(CERTIFICATION_QUESTIONS, session + "/questions")).path("data");
+        int answered = 0;
+        for (JsonNode question : questions) {
+            JsonNode options = question.path("options");
+            if (answered == CERTIFICATION_ANSWERS) {
+                break;
+            }
+            if (options.isEmpty()) {
+                continue;
+            }
+            think();
+            post(CERTIFICATION_ANSWER, session + "/answers", Map.of(
+                    "questionId", question.path("id").asLong(),
+                    "selectedOptionId", options.get(random.nextInt(options.size())).path("id").asLong(),
+                    "timeSpentMs", 5_000 + random.nextInt(20_000)));
+            answered++;
+        }
+        post(CERTIFICATION_PROCTOR_EVENT, session + "/proctor-events", Map.of(
+                "eventType", "BROWSER_TAB_CHANGE",
+                "description", "Load test tab switch",
+                "confidenceScore", 0.4));
+        // Always completed, so the next exam is not refused for an ongoing session
+        post(CERTIFICATION_COMPLETE, session + "/complete", null);
+    }
+
+    private byte[] get(String step, String path) throws InterruptedException {
+        return send(step, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private byte[] post(String step, String path, Object body) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (body == null) {
+            request.POST(HttpRequest.BodyPublishers.noBody());
+        } else {
+            try {
+                request.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize request body for " + step, e);
+            }
+        }
+        return send(step, request);
+    }
+
+    /**
+     * @return Response body, or null when the request failed
+     */
+    private byte[] send(String step, HttpRequest.Builder request) throws InterruptedException {
+        request.timeout(REQUEST_TIMEOUT).header(StepQueryFilter.STEP_HEADER, step);
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            boolean ok = response.statusCode() >= 200 && response.statusCode() < 300;
+            latencies.record(step, System.nanoTime() - start, ok);
+            if (!ok) {
+                log.debug("Virtual user {} got {} on {}", number, response.statusCode(), step);
+                return null;
+            }
+            return response.body();
+        } catch (IOException e) {
+            latencies.record(step, System.nanoTime() - start, false);
+            log.debug("Virtual user {} failed on {}: {}", number, step, e.getMessage());
+            return null;
+        }
+    }
+
+    private JsonNode json(byte[] body) {
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    // Pauses vary by half the think time either way, so users do not move in lockstep
+    private void think() throws InterruptedException {
+        int thinkTimeMs = settings.thinkTimeMs();
+        if (thinkTimeMs > 0) {
+            Thread.sleep(random.nextInt(thinkTimeMs / 2, thinkTimeMs * 3 / 2 + 1));
+        }
+    }
+}
@@ -2,7 +2,7 @@ package edtech.afrilingo.certification;
 
 import edtech.afrilingo.certification.dto.CertificateResponseDTO;
 import edtech.afrilingo.dto.ApiResponse;
-import edtech.afrilingo.question.Question;
+import edtech.afrilingo.dto.QuestionDTO;
 import edtech.afrilingo.user.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -77,9 +77,9 @@ public class CertificationController {
     
     @Operation(summary = "Get certification questions", description = "Retrieve questions for certification test")
     @GetMapping("/sessions/{sessionId}/questions")
-    public ResponseEntity<ApiResponse<List<Question>>> getCertificationQuestions(@PathVariable Long sessionId) {
+    public ResponseEntity<ApiResponse<List<QuestionDTO>>> getCertificationQuestions(@PathVariable Long sessionId) {
         try {
-            List<Question> questions = certificationService.getCertificationQuestions(sessionId);
+            List<QuestionDTO> questions = certificationService.getCertificationQuestions(sessionId);
             return ResponseEntity.ok(ApiResponse.success(questions));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
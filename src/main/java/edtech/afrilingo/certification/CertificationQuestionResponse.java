@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Table(name = "certification_responses")
 public class CertificationQuestionResponse {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_responses_seq")
+    @SequenceGenerator(name = "certification_responses_seq", sequenceName = "certification_responses_seq", allocationSize = 50)
     private Long id;
     
     private LocalDateTime answeredAt;
@@ -3,6 +3,7 @@ package edtech.afrilingo.certification;
 import org.springframework.beans.factory.annotation.Value;
 
 import edtech.afrilingo.certification.dto.CertificateResponseDTO;
+import edtech.afrilingo.dto.QuestionDTO;
 import edtech.afrilingo.question.Question;
 import edtech.afrilingo.question.QuestionService;
 import edtech.afrilingo.user.User;
@@ -67,7 +68,7 @@ public class CertificationService {
         sessionRepository.save(session);
     }
     
-    public List<Question> getCertificationQuestions(Long sessionId) {
+    public List<QuestionDTO> getCertificationQuestions(Long sessionId) {
         CertificationSession session = getSessionById(sessionId);
         
         // Get questions based on language and level
@@ -77,7 +78,8 @@ public class CertificationService {
         session.setTotalQuestions(questions.size());
         sessionRepository.save(session);
         
-        return questions;
+        // Options without their correct flag, in the shuffled order
+        return questionService.getQuestionDTOsByIds(questions.stream().map(Question::getId).toList(), false);
     }
     
     @Transactional
@@ -351,21 +353,25 @@ public class CertificationService {
     }
 
     // New: Retrieve proctor events for a specific user
+    @Transactional(readOnly = true)
     public List<ProctorEvent> getProctorEventsByUserId(Long userId) {
         return proctorEventRepository.findBySession_User_IdOrderByTimestampAsc(userId);
     }
 
     // New: Retrieve proctor events for a specific session
+    @Transactional(readOnly = true)
     public List<ProctorEvent> getProctorEventsBySessionId(Long sessionId) {
         return proctorEventRepository.findBySession_IdOrderByTimestampAsc(sessionId);
     }
 
     // New: Retrieve proctor events for all users
+    @Transactional(readOnly = true)
     public List<ProctorEvent> getAllProctorEvents() {
         return proctorEventRepository.findAllByOrderByTimestampAsc();
     }
 
     // New: Retrieve proctor events filtered by session and user
+    @Transactional(readOnly = true)
     public List<ProctorEvent> getProctorEventsBySessionIdAndUserId(Long sessionId, Long userId) {
         return proctorEventRepository.findBySession_IdAndSession_User_IdOrderByTimestampAsc(sessionId, userId);
     }
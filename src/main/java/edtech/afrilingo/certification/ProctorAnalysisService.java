@@ -40,7 +40,8 @@ public class ProctorAnalysisService {
                 .build();
     }
     
-    private ViolationSeverity calculateViolationSeverity(List<ProctorEvent> flaggedEvents) {
+    // Package-private for ProctorSeverityBenchmark
+    static ViolationSeverity calculateViolationSeverity(List<ProctorEvent> flaggedEvents) {
         int criticalEvents = 0;
         int majorEvents = 0;
         int minorEvents = 0;
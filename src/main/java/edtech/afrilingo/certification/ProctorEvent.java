@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "proctor_events")
 public class ProctorEvent {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proctor_events_seq")
+    @SequenceGenerator(name = "proctor_events_seq", sequenceName = "proctor_events_seq", allocationSize = 50)
     private Long id;
     
     @Enumerated(EnumType.STRING)
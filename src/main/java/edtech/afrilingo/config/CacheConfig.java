@@ -1,38 +1,177 @@
 package edtech.afrilingo.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import edtech.afrilingo.config.cache.StampedCache;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.BeanFactoryCacheOperationSourceAdvisor;
+import org.springframework.cache.interceptor.CacheOperationSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Caffeine caches with one policy per cache.
+ * List-valued caches are bounded by the total number of cached elements (weight), single-entity
+ * caches by entry count. Every policy can be overridden with
+ * {@code afrilingo.cache.<cache-name>.maximum} and {@code afrilingo.cache.<cache-name>.ttl}.
+ * Stats are recorded for all caches and exposed by CacheStatsController.
+ * Caches are wrapped in {@link StampedCache} so a value loaded before a (local or remote)
+ * invalidation is never written back.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // "All" lists
     public static final String USERS_CACHE = "users_all";
     public static final String COURSES_CACHE = "courses_all";
     public static final String LESSONS_CACHE = "lessons_all";
     public static final String QUESTIONS_CACHE = "questions_all";
     public static final String LESSON_CONTENTS_CACHE = "lesson_contents_all";
 
+    // Entity by id (or natural key)
+    public static final String COURSE_BY_ID_CACHE = "course_by_id";
+    public static final String LESSON_BY_ID_CACHE = "lesson_by_id";
+    public static final String QUIZ_BY_ID_CACHE = "quiz_by_id";
+    public static final String LESSON_CONTENT_BY_ID_CACHE = "lesson_content_by_id";
+
+    // Children by parent id
+    public static final String COURSES_BY_LANGUAGE_CACHE = "courses_by_language";
+    public static final String LESSONS_BY_COURSE_CACHE = "lessons_by_course";
+    public static final String QUIZZES_BY_LESSON_CACHE = "quizzes_by_lesson";
+    public static final String LESSON_CONTENTS_BY_LESSON_CACHE = "lesson_contents_by_lesson";
+
+    // Serialized payloads
+    public static final String COURSE_BUNDLE_CACHE = "course_bundles";
+
+    public static final String PUSH_ROUTING_CACHE = "push_routing_profiles";
+
+    // Keyed by user: an eviction concerns one user's data, not the catalog everyone reads
+    public static final Set<String> USER_SCOPED_CACHES = Set.of(PUSH_ROUTING_CACHE);
+
+    /**
+     * Bound and lifetime of one cache
+     * @param maximum Maximum entries, or maximum cached elements when weighted
+     * @param weighted Weigh list values by their size instead of counting entries
+     * @param ttl Time to live after write
+     */
+    record CachePolicy(long maximum, boolean weighted, Duration ttl) {
+
+        static CachePolicy entries(long maximum, Duration ttl) {
+            return new CachePolicy(maximum, false, ttl);
+        }
+
+        static CachePolicy elements(long maximum, Duration ttl) {
+            return new CachePolicy(maximum, true, ttl);
+        }
+    }
+
+    // Catalog data only changes through the services, which evict precisely, so TTLs can be long
+    private static final Map<String, CachePolicy> DEFAULT_POLICIES = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_POLICIES.put(USERS_CACHE, CachePolicy.elements(20_000, Duration.ofMinutes(5)));
+        DEFAULT_POLICIES.put(COURSES_CACHE, CachePolicy.elements(20_000, Duration.ofMinutes(30)));
+        DEFAULT_POLICIES.put(LESSONS_CACHE, CachePolicy.elements(50_000, Duration.ofMinutes(30)));
+        DEFAULT_POLICIES.put(QUESTIONS_CACHE, CachePolicy.elements(50_000, Duration.ofMinutes(30)));
+        DEFAULT_POLICIES.put(LESSON_CONTENTS_CACHE, CachePolicy.elements(50_000, Duration.ofMinutes(30)));
+
+        DEFAULT_POLICIES.put(COURSE_BY_ID_CACHE, CachePolicy.entries(5_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(LESSON_BY_ID_CACHE, CachePolicy.entries(20_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(QUIZ_BY_ID_CACHE, CachePolicy.entries(20_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(LESSON_CONTENT_BY_ID_CACHE, CachePolicy.entries(50_000, Duration.ofHours(1)));
+
+        DEFAULT_POLICIES.put(COURSES_BY_LANGUAGE_CACHE, CachePolicy.elements(20_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(LESSONS_BY_COURSE_CACHE, CachePolicy.elements(100_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(QUIZZES_BY_LESSON_CACHE, CachePolicy.elements(50_000, Duration.ofHours(1)));
+        DEFAULT_POLICIES.put(LESSON_CONTENTS_BY_LESSON_CACHE, CachePolicy.elements(100_000, Duration.ofHours(1)));
+
+        // Gzipped bundles are tens to hundreds of KB each
+        DEFAULT_POLICIES.put(COURSE_BUNDLE_CACHE, CachePolicy.entries(200, Duration.ofHours(12)));
+
+        // Invalidated explicitly on every preference or device change
+        DEFAULT_POLICIES.put(PUSH_ROUTING_CACHE, CachePolicy.entries(50_000, Duration.ofMinutes(30)));
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager(
-                USERS_CACHE,
-                COURSES_CACHE,
-                LESSONS_CACHE,
-                QUESTIONS_CACHE,
-                LESSON_CONTENTS_CACHE
-        );
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager manager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new StampedCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+
+        // Fallback for caches created on the fly by an unknown cache name
         manager.setCaffeine(Caffeine.newBuilder()
                 .initialCapacity(100)
                 .maximumSize(5_000)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-        );
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats());
+
+        DEFAULT_POLICIES.forEach((name, defaults) ->
+                manager.registerCustomCache(name, buildCache(resolvePolicy(environment, name, defaults))));
+
         return manager;
     }
+
+    /**
+     * Opens a {@link StampedCache} read scope around every cached method, outside the caching
+     * interceptor, so each invocation's misses meet only its own puts and are dropped when it returns
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public BeanFactoryCacheOperationSourceAdvisor stampedCacheReadScopeAdvisor(CacheOperationSource cacheOperationSource) {
+        BeanFactoryCacheOperationSourceAdvisor advisor = new BeanFactoryCacheOperationSourceAdvisor();
+        advisor.setCacheOperationSource(cacheOperationSource);
+        advisor.setAdvice((MethodInterceptor) invocation -> {
+            StampedCache.openReadScope();
+            try {
+                return invocation.proceed();
+            } finally {
+                StampedCache.closeReadScope();
+            }
+        });
+        // The caching advisor keeps @EnableCaching's default, the lowest precedence
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+    private CachePolicy resolvePolicy(Environment environment, String name, CachePolicy defaults) {
+        String prefix = "afrilingo.cache." + name.replace('_', '-');
+        long maximum = environment.getProperty(prefix + ".maximum", Long.class, defaults.maximum());
+        Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, defaults.ttl());
+        return new CachePolicy(maximum, defaults.weighted(), ttl);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(CachePolicy policy) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(policy.ttl())
+                .recordStats();
+
+        if (policy.weighted()) {
+            builder.maximumWeight(policy.maximum()).weigher(ELEMENT_WEIGHER);
+        } else {
+            builder.maximumSize(policy.maximum());
+        }
+        return builder.build();
+    }
+
+    // A cached list weighs as many units as it has elements; anything else weighs one
+    private static final Weigher<Object, Object> ELEMENT_WEIGHER = (key, value) ->
+            value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1;
 }
@@ -0,0 +1,141 @@
+package edtech.afrilingo.config;
+
+import edtech.afrilingo.config.cache.CacheInvalidationBus;
+import edtech.afrilingo.config.cache.CatalogVersions;
+import edtech.afrilingo.config.cache.EntityCacheRegions;
+import edtech.afrilingo.config.datasource.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+
+/**
+ * Targeted cache eviction for service mutations.
+ * Inside a transaction evictions run after commit, so a concurrent read cannot re-cache
+ * the old rows between the eviction and the commit. Every eviction is also published on the
+ * {@link CacheInvalidationBus} so the other nodes drop their copies, and bumps the
+ * {@link CatalogVersions} of the catalog area the cache belongs to. The Hibernate second-level
+ * cache regions behind the cache are dropped as well ({@link EntityCacheRegions}). With a read
+ * replica configured, reads are pinned to the primary briefly first, so the cache is not refilled
+ * from a replica that has not replayed the change yet: everyone's reads for shared catalog caches,
+ * only the writer's for {@link CacheConfig#USER_SCOPED_CACHES}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CatalogVersions catalogVersions;
+    private final EntityCacheRegions entityCacheRegions;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWrites;
+
+    /**
+     * Evict keys from a cache. Null keys are ignored.
+     * @param cacheName Cache name
+     * @param keys Keys to evict
+     */
+    public void evict(String cacheName, Object... keys) {
+        afterCommit(isShared(cacheName), () -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                return;
+            }
+            for (Object key : keys) {
+                if (key != null) {
+                    cache.evict(key);
+                    cacheInvalidationBus.publishEvict(cacheName, key);
+                }
+            }
+            entityCacheRegions.evict(cacheName);
+            catalogVersions.bump(cacheName);
+            log.debug("Evicted {} from {}", keys, cacheName);
+        });
+    }
+
+    /**
+     * Remove every entry of the given caches
+     * @param cacheNames Cache names
+     */
+    public void clear(String... cacheNames) {
+        afterCommit(Arrays.stream(cacheNames).anyMatch(CacheInvalidator::isShared), () -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                    cacheInvalidationBus.publishClear(cacheName);
+                    entityCacheRegions.evict(cacheName);
+                    catalogVersions.bump(cacheName);
+                }
+            }
+            log.debug("Cleared caches {}", (Object) cacheNames);
+        });
+    }
+
+    /**
+     * Signal a change to a catalog area that has no Spring cache, such as the languages
+     * served by LanguageRegistry. Bumps its version and drops its second-level cache regions
+     * here and on the other nodes.
+     * @param area Changed area
+     */
+    public void invalidate(CatalogVersions.Area area) {
+        afterCommit(true, () -> {
+            entityCacheRegions.evict(area);
+            catalogVersions.bump(area);
+            cacheInvalidationBus.publishArea(area);
+            log.debug("Invalidated catalog area {}", area);
+        });
+    }
+
+    /**
+     * Remove every catalog entry, for bulk loads and resets that bypass the services
+     */
+    public void clearCatalog() {
+        clear(cacheManager.getCacheNames().stream()
+                .filter(CacheInvalidator::isShared)
+                .toArray(String[]::new));
+        invalidate(CatalogVersions.Area.LANGUAGES);
+    }
+
+    // Private helper methods
+
+    private static boolean isShared(String cacheName) {
+        return !CacheConfig.USER_SCOPED_CACHES.contains(cacheName);
+    }
+
+    /**
+     * @param shared Whether the eviction touches data every user reads, rather than the writer's own
+     */
+    private void afterCommit(boolean shared, Runnable eviction) {
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        // Resolve now: commit callbacks may run after the request context is gone
+        String writer = tracker != null && !shared ? tracker.currentWriter() : null;
+        Runnable pinnedEviction = () -> {
+            if (tracker != null) {
+                if (shared) {
+                    tracker.pinEveryone();
+                } else {
+                    tracker.pin(writer);
+                }
+            }
+            eviction.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pinnedEviction.run();
+                }
+            });
+        } else {
+            pinnedEviction.run();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package edtech.afrilingo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edtech.afrilingo.config.cache.CatalogVersions;
+import edtech.afrilingo.config.cache.CatalogVersions.Area;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves catalog GET endpoints (languages, courses, lessons) from memory. These return the
+ * same bytes to every user, so the first response after a catalog change is kept together
+ * with a gzipped copy and a strong ETag, and tagged with the
+ * {@link CatalogVersions} of the areas it was built from. Until one of those areas changes,
+ * requests are answered from memory, and revalidations with a matching If-None-Match get a 304
+ * without reaching the controller or the database.
+ * Runs after the security filter chain, so access rules still apply to cached responses.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogResponseFilter extends OncePerRequestFilter {
+
+    private record Route(String pattern, Set<Area> areas) {
+    }
+
+    private record CachedResponse(long version, String etag, String contentType, byte[] body, byte[] gzippedBody) {
+    }
+
+    private static final List<Route> ROUTES = List.of(
+            // Languages nest their courses, course summaries carry their language, lesson summaries their course
+            new Route("/api/v1/languages", EnumSet.of(Area.LANGUAGES, Area.COURSES)),
+            new Route("/api/v1/languages/{id}", EnumSet.of(Area.LANGUAGES, Area.COURSES)),
+            new Route("/api/v1/languages/code/{code}", EnumSet.of(Area.LANGUAGES, Area.COURSES)),
+            new Route("/api/v1/courses", EnumSet.of(Area.COURSES, Area.LANGUAGES)),
+            new Route("/api/v1/courses/{id}", EnumSet.of(Area.COURSES, Area.LANGUAGES)),
+            new Route("/api/v1/courses/language/**", EnumSet.of(Area.COURSES, Area.LANGUAGES)),
+            new Route("/api/v1/lessons", EnumSet.of(Area.LESSONS, Area.COURSES)),
+            new Route("/api/v1/lessons/{id}", EnumSet.of(Area.LESSONS, Area.COURSES)),
+            new Route("/api/v1/lessons/course/**", EnumSet.of(Area.LESSONS, Area.COURSES)),
+            new Route("/api/v1/lessons/type/{type}", EnumSet.of(Area.LESSONS, Area.COURSES)));
+
+    // Revalidate on every use; a 304 costs a round trip but no body and no rendering
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    // Below this, gzip framing costs more than it saves
+    private static final int MIN_GZIP_SIZE = 256;
+
+    private static final int MAX_CACHED_RESPONSES = 2_000;
+
+    private final CatalogVersions catalogVersions;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // Keyed by request URI; query strings are never cached, so the key space is bounded by the routes
+    private final Cache<String, CachedResponse> responses = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_RESPONSES)
+            .build();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || request.getQueryString() != null
+                || route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String key = request.getRequestURI();
+        // Read before rendering: a change committed while rendering leaves the entry already stale
+        long version = catalogVersions.version(route(request).areas());
+
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached == null || cached.version() != version) {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+            cached = store(key, version, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+
+        write(cached, request, response);
+    }
+
+    /**
+     * Response cache counters, for the cache stats endpoint
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", responses.estimatedSize());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("notModified", notModified.get());
+        stats.put("versions", catalogVersions.getVersions());
+        return stats;
+    }
+
+    // Private helper methods
+
+    private Route route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : ROUTES) {
+            if (pathMatcher.match(route.pattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private CachedResponse store(String key, long version, String contentType, byte[] body) {
+        byte[] gzippedBody = body.length >= MIN_GZIP_SIZE ? HttpCaching.gzip(body) : null;
+        CachedResponse cached = new CachedResponse(version, "\"" + HttpCaching.contentHash(body) + "\"", contentType, body, gzippedBody);
+        responses.put(key, cached);
+        log.debug("Cached catalog response {} at version {} ({} bytes, {} gzipped)", key, version, body.length,
+                gzippedBody != null ? gzippedBody.length : body.length);
+        return cached;
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (HttpCaching.matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            notModified.incrementAndGet();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        boolean gzip = cached.gzippedBody() != null
+                && HttpCaching.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? cached.gzippedBody() : cached.body();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,46 @@
+package edtech.afrilingo.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway runs the migrations in db/migration after Hibernate has updated the schema
+ * (spring.jpa.hibernate.ddl-auto=update), not before as Spring Boot would by default:
+ * the migrations alter, index and re-sequence tables that Hibernate creates from the entities.
+ * Databases that predate Flyway are baselined at version 0, so every migration runs once on
+ * them; the migrations are written to be idempotent for that reason. Nothing depends on Flyway
+ * being enabled: the entities create their own tables, and PooledSequenceAligner positions the
+ * ID sequences on every startup whether or not V3 ran.
+ */
+@Configuration
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    // Skip the migration Spring Boot runs before the EntityManagerFactory is built...
+    @Bean
+    public FlywayMigrationStrategy deferredFlywayMigration() {
+        return flyway -> log.debug("Deferring Flyway migration until the JPA schema update has run");
+    }
+
+    // ...and run it once the EntityManagerFactory (and with it the schema update) exists
+    @Bean
+    public InitializingBean flywayMigrationAfterSchemaUpdate(Flyway flyway, EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("Applied {} Flyway migrations", applied);
+        };
+    }
+}
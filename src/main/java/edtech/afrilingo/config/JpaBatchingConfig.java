@@ -0,0 +1,32 @@
+package edtech.afrilingo.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC batching defaults.
+ * High-volume entities (answers, notifications, deliveries, proctor events, certification
+ * responses, questions and options) take their IDs from pooled sequences with an allocation
+ * size of 50, so inserts are deferred to flush and sent in batches of the same size. Ordering
+ * inserts and updates groups statements per table, which keeps mixed flushes (a notification and
+ * its deliveries) batchable. Values set under spring.jpa.properties take precedence.
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${afrilingo.jpa.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            // Courses carry a @Version; batch their updates too
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package edtech.afrilingo.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Keeps pooled ID sequences ahead of the rows already in their tables.
+ * Hibernate's schema update creates a missing sequence at 1, which on a table that used to take
+ * IDENTITY ids hands out IDs that already exist. Migration V3 positions the sequences it knows
+ * about, but only once and only where Flyway runs; this check covers every sequence-generated
+ * entity on each startup, once every singleton (and with it the deferred Flyway migration in
+ * FlywayConfig, when Flyway is enabled) is initialized and before the application takes traffic
+ * or seeds data. A sequence whose next block could overlap existing IDs is moved so that block
+ * starts right after MAX(id).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PooledSequenceAligner implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int moved = align();
+        if (moved > 0) {
+            log.warn("Moved {} ID sequences past existing rows", moved);
+        }
+    }
+
+    /**
+     * @return Number of sequences that had to be moved
+     */
+    public int align() {
+        int[] moved = {0};
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                            && generator.getDatabaseStructure().isPhysicalSequence()
+                            && persister instanceof AbstractEntityPersister entityPersister
+                            && align(generator.getDatabaseStructure(), entityPersister.getTableName(),
+                                    entityPersister.getIdentifierColumnNames()[0])) {
+                        moved[0]++;
+                    }
+                });
+        return moved[0];
+    }
+
+    // Private helper methods
+
+    private boolean align(DatabaseStructure sequence, String table, String idColumn) {
+        String sequenceName = sequence.getPhysicalName().render();
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL AND to_regclass(?) IS NOT NULL",
+                Boolean.class, sequenceName, table) != Boolean.TRUE) {
+            return false;
+        }
+
+        long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        Map<String, Object> state = jdbcTemplate.queryForMap("SELECT last_value, is_called FROM " + sequenceName);
+        long lastValue = ((Number) state.get("last_value")).longValue();
+        int increment = sequence.getIncrementSize();
+        long nextValue = Boolean.TRUE.equals(state.get("is_called")) ? lastValue + increment : lastValue;
+
+        // With the pooled optimizer each sequence value ends a block of increment IDs
+        if (maxId == 0 || nextValue - increment + 1 > maxId) {
+            return false;
+        }
+        long target = maxId + increment;
+        jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, sequenceName, target);
+        log.warn("Moved ID sequence {} from {} to {}, past the highest {}.{} ({})",
+                sequenceName, nextValue, target, table, idColumn, maxId);
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package edtech.afrilingo.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache, backed by Caffeine through JCache.
+ * Only the read-mostly catalog entities (languages, courses, lessons, quizzes, questions,
+ * options) and their child collections are marked cacheable. Region bounds and lifetimes are set
+ * in application.conf. Hibernate keeps the regions current for changes made through JPA on this
+ * node; {@link edtech.afrilingo.config.cache.EntityCacheRegions} covers JDBC writes and other
+ * nodes. Values set under spring.jpa.properties take precedence.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String CAFFEINE_JCACHE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${afrilingo.jpa.second-level-cache:true}") boolean enabled,
+            @Value("${afrilingo.jpa.cache-statistics:true}") boolean statistics
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.PROVIDER, CAFFEINE_JCACHE_PROVIDER);
+            // Regions not listed in application.conf get the default policy, without a warning
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            // Saving a question drops the cached option list of its old and new quiz, and so on
+            properties.putIfAbsent(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+
+            // Hit and miss counts for the cache stats endpoint, without a log line per session
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+            properties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+}
@@ -78,8 +78,9 @@ public class SecurityConfiguration {
                         .requestMatchers("/api/v1/languages/**").permitAll()
                         .requestMatchers("/api/v1/courses/**").permitAll()
                         .requestMatchers("/api/v1/lessons/**").permitAll()
+                        .requestMatchers("/api/v1/media/**").permitAll()
+                        .requestMatchers("/api/v1/search/**").permitAll()
                         .requestMatchers("/api/v1/profile/**").permitAll()
-                        .requestMatchers("/api/admin/data-loader/**").permitAll()
                         .requestMatchers("/api/v1/certification/certificates/download/**").permitAll()
                         // Public: Proctor events for specific users
                         .requestMatchers("/api/v1/certification/**").permitAll()
@@ -0,0 +1,197 @@
+package edtech.afrilingo.config.cache;
+
+import edtech.afrilingo.config.CacheConfig;
+import edtech.afrilingo.config.datasource.ReadYourWritesTracker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Propagates committed cache evictions to the other application nodes.
+ * Local evictions are applied by CacheInvalidator and then published here; events from other
+ * nodes are applied to the local caches. Each node numbers its events, so a gap in a peer's
+ * sequence (a lost notification) clears every local cache instead of leaving stale entries.
+ * Applied events drop the matching Hibernate second-level cache regions too. Catalog areas
+ * without a Spring cache travel as clears of a reserved name ({@link #AREA_PREFIX}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus implements CacheInvalidationTransport.Listener {
+
+    // Cache names are plain identifiers, so this prefix cannot collide with one
+    static final String AREA_PREFIX = "area:";
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationTransport transport;
+    private final CatalogVersions catalogVersions;
+    private final EntityCacheRegions entityCacheRegions;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWrites;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Last version applied per peer node
+    private final Map<String, Long> peerVersions = new ConcurrentHashMap<>();
+
+    private final AtomicLong eventsPublished = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        transport.start(this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        transport.stop();
+    }
+
+    /**
+     * Tell the other nodes a key was evicted. Call after commit, once the local eviction is done.
+     * @param cacheName Cache name
+     * @param key Evicted key
+     */
+    public void publishEvict(String cacheName, Object key) {
+        publish(cacheName, key);
+    }
+
+    /**
+     * Tell the other nodes a cache was cleared. Call after commit, once the local clear is done.
+     * @param cacheName Cache name
+     */
+    public void publishClear(String cacheName) {
+        publish(cacheName, null);
+    }
+
+    /**
+     * Tell the other nodes a catalog area changed. Call after commit, once the local bump is done.
+     * @param area Changed area
+     */
+    public void publishArea(CatalogVersions.Area area) {
+        publish(AREA_PREFIX + area.name(), null);
+    }
+
+    @Override
+    public synchronized void onEvent(CacheInvalidationEvent event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+
+        Long previous = peerVersions.get(event.origin());
+        if (previous != null && event.version() <= previous) {
+            // Duplicate delivery
+            return;
+        }
+        peerVersions.put(event.origin(), event.version());
+
+        if (previous != null && event.version() > previous + 1) {
+            pinEveryone();
+            log.warn("Missed {} cache invalidations from node {}, clearing all caches",
+                    event.version() - previous - 1, event.origin());
+            clearAll();
+            return;
+        }
+
+        Optional<CatalogVersions.Area> area = areaOf(event.cacheName());
+        if (area.isPresent()) {
+            pinEveryone();
+            entityCacheRegions.evict(area.get());
+            catalogVersions.bump(area.get());
+            eventsApplied.incrementAndGet();
+            log.debug("Applied {} change v{} from node {}", area.get(), event.version(), event.origin());
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(event.cacheName());
+        if (cache == null) {
+            return;
+        }
+        // A user-scoped eviction only matters to that user's session, which its own node pinned
+        if (!CacheConfig.USER_SCOPED_CACHES.contains(event.cacheName())) {
+            pinEveryone();
+        }
+        if (event.isClear()) {
+            cache.clear();
+        } else {
+            cache.evict(event.key());
+        }
+        entityCacheRegions.evict(event.cacheName());
+        catalogVersions.bump(event.cacheName());
+        eventsApplied.incrementAndGet();
+        log.debug("Applied cache invalidation {} v{} from node {}", event.cacheName(), event.version(), event.origin());
+    }
+
+    @Override
+    public void onResync() {
+        clearAll();
+    }
+
+    /**
+     * Bus counters, for the cache stats endpoint
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("nodeId", nodeId);
+        stats.put("transport", transport.getClass().getSimpleName());
+        stats.put("version", sequence.get());
+        stats.put("eventsPublished", eventsPublished.get());
+        stats.put("eventsApplied", eventsApplied.get());
+        stats.put("resyncs", resyncs.get());
+        stats.put("peers", Map.copyOf(peerVersions));
+        return stats;
+    }
+
+    // Private helper methods
+
+    private synchronized void publish(String cacheName, Object key) {
+        // Synchronized so versions reach the transport in order
+        // Keys the wire format cannot carry degrade to a clear on the other nodes
+        transport.publish(new CacheInvalidationEvent(nodeId, sequence.incrementAndGet(), cacheName, key));
+        eventsPublished.incrementAndGet();
+    }
+
+    // The replica may not have replayed the peer's change yet; refill shared caches from the primary
+    private void pinEveryone() {
+        readYourWrites.ifAvailable(ReadYourWritesTracker::pinEveryone);
+    }
+
+    private static Optional<CatalogVersions.Area> areaOf(String name) {
+        if (!name.startsWith(AREA_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CatalogVersions.Area.valueOf(name.substring(AREA_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            // Area added by a newer node; its version is not tracked here
+            return Optional.empty();
+        }
+    }
+
+    private void clearAll() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        entityCacheRegions.evictAll();
+        catalogVersions.bumpAll();
+        resyncs.incrementAndGet();
+    }
+}
@@ -0,0 +1,62 @@
+package edtech.afrilingo.config.cache;
+
+import java.util.Optional;
+
+/**
+ * Eviction of one key (or of a whole cache when key is null) committed on some node.
+ * Versions are a per-node sequence, so receivers can tell a missed event from a duplicate.
+ *
+ * @param origin Node ID of the publisher
+ * @param version Publisher sequence number, starting at 1
+ * @param cacheName Cache name
+ * @param key Long or String key, null to clear the whole cache
+ */
+public record CacheInvalidationEvent(String origin, long version, String cacheName, Object key) {
+
+    private static final String SEPARATOR = "\t";
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    /**
+     * Wire format: origin, version, cache name, key type (L, S or - for clear) and key,
+     * tab separated. Keys of any other type degrade to clearing the cache.
+     */
+    public String encode() {
+        String type;
+        String value;
+        if (key instanceof Long) {
+            type = "L";
+            value = key.toString();
+        } else if (key instanceof String) {
+            type = "S";
+            value = (String) key;
+        } else {
+            type = "-";
+            value = "";
+        }
+        return String.join(SEPARATOR, origin, Long.toString(version), cacheName, type, value);
+    }
+
+    public static Optional<CacheInvalidationEvent> decode(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        // The key is the last field and may itself contain separators
+        String[] parts = payload.split(SEPARATOR, 5);
+        if (parts.length != 5) {
+            return Optional.empty();
+        }
+        try {
+            Object key = switch (parts[3]) {
+                case "L" -> Long.valueOf(parts[4]);
+                case "S" -> parts[4];
+                default -> null;
+            };
+            return Optional.of(new CacheInvalidationEvent(parts[0], Long.parseLong(parts[1]), parts[2], key));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package edtech.afrilingo.config.cache;
+
+/**
+ * Carries {@link CacheInvalidationEvent}s between application nodes.
+ * Selected with {@code afrilingo.cache.invalidation.transport} (postgres or local).
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Receiver of events published by any node, including this one
+     */
+    interface Listener {
+
+        void onEvent(CacheInvalidationEvent event);
+
+        /**
+         * Called when events may have been lost (e.g. after reconnecting),
+         * so every cached value must be treated as stale
+         */
+        void onResync();
+    }
+
+    void start(Listener listener);
+
+    /**
+     * Publish an event. Must not block the caller on network IO.
+     */
+    void publish(CacheInvalidationEvent event);
+
+    void stop();
+}
@@ -0,0 +1,88 @@
+package edtech.afrilingo.config.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static edtech.afrilingo.config.CacheConfig.*;
+
+/**
+ * Content version counters of the catalog, one per area.
+ * A counter is bumped whenever a cache of its area is evicted or cleared, locally after commit
+ * or on behalf of another node, so it moves exactly when the cached catalog data does. Areas
+ * without a Spring cache (languages, served by LanguageRegistry) are bumped directly.
+ * Counters only grow, so the sum over a set of areas is itself a version of anything built from
+ * those areas.
+ */
+@Component
+public class CatalogVersions {
+
+    public enum Area {
+        LANGUAGES, COURSES, LESSONS
+    }
+
+    private static final Map<String, Area> AREA_BY_CACHE = Map.of(
+            COURSES_CACHE, Area.COURSES,
+            COURSE_BY_ID_CACHE, Area.COURSES,
+            COURSES_BY_LANGUAGE_CACHE, Area.COURSES,
+            LESSONS_CACHE, Area.LESSONS,
+            LESSON_BY_ID_CACHE, Area.LESSONS,
+            LESSONS_BY_COURSE_CACHE, Area.LESSONS);
+
+    private final Map<Area, AtomicLong> versions = new EnumMap<>(Area.class);
+
+    public CatalogVersions() {
+        for (Area area : Area.values()) {
+            versions.put(area, new AtomicLong());
+        }
+    }
+
+    /**
+     * Record that a cache lost entries. Caches outside the catalog areas are ignored.
+     * Call after the eviction, so anything built at the new version reads fresh data.
+     * @param cacheName Evicted or cleared cache
+     */
+    public void bump(String cacheName) {
+        Area area = AREA_BY_CACHE.get(cacheName);
+        if (area != null) {
+            bump(area);
+        }
+    }
+
+    /**
+     * Record that an area changed without going through a Spring cache.
+     * Call after commit.
+     * @param area Changed area
+     */
+    public void bump(Area area) {
+        versions.get(area).incrementAndGet();
+    }
+
+    /**
+     * Record that every cache was cleared
+     */
+    public void bumpAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    /**
+     * @param areas Areas a value is built from
+     * @return Combined version of those areas
+     */
+    public long version(Collection<Area> areas) {
+        long version = 0;
+        for (Area area : areas) {
+            version += versions.get(area).get();
+        }
+        return version;
+    }
+
+    public Map<Area, Long> getVersions() {
+        Map<Area, Long> snapshot = new EnumMap<>(Area.class);
+        versions.forEach((area, version) -> snapshot.put(area, version.get()));
+        return snapshot;
+    }
+}
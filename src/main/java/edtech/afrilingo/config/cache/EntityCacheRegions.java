@@ -0,0 +1,174 @@
+package edtech.afrilingo.config.cache;
+
+import edtech.afrilingo.config.cache.CatalogVersions.Area;
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.language.Language;
+import edtech.afrilingo.lesson.Lesson;
+import edtech.afrilingo.question.Question;
+import edtech.afrilingo.quiz.Quiz;
+import edtech.afrilingo.quiz.option.Option;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static edtech.afrilingo.config.CacheConfig.*;
+
+/**
+ * Keeps the Hibernate second-level cache in step with the Spring caches.
+ * Hibernate updates its regions for changes made through JPA on this node, but not for JDBC
+ * writes (lesson reordering, bulk seeding, resets) or changes on other nodes. Every such change
+ * already evicts the Spring caches of what it touched, locally after commit and on the other nodes
+ * through the invalidation bus, so each evicted or cleared Spring cache also drops the entity and
+ * collection regions behind it, and the query cache. Regions are dropped whole: catalog edits are
+ * rare admin operations, and a cold region refills in a few queries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheRegions {
+
+    /**
+     * @param entities Entity regions to drop
+     * @param collections Collection roles to drop
+     */
+    private record Regions(List<Class<?>> entities, List<String> collections) {
+    }
+
+    private static final String LANGUAGE_COURSES = Language.class.getName() + ".courses";
+    private static final String COURSE_LESSONS = Course.class.getName() + ".lessons";
+    private static final String LESSON_QUIZZES = Lesson.class.getName() + ".quizzes";
+    private static final String QUIZ_QUESTIONS = Quiz.class.getName() + ".questions";
+    private static final String QUESTION_OPTIONS = Question.class.getName() + ".options";
+
+    private static final Regions LANGUAGES = new Regions(List.of(Language.class), List.of(LANGUAGE_COURSES));
+    private static final Regions COURSES = new Regions(List.of(Course.class), List.of(LANGUAGE_COURSES, COURSE_LESSONS));
+    private static final Regions LESSONS = new Regions(List.of(Lesson.class), List.of(COURSE_LESSONS, LESSON_QUIZZES));
+    private static final Regions QUIZZES = new Regions(List.of(Quiz.class), List.of(LESSON_QUIZZES, QUIZ_QUESTIONS));
+    // Question and option changes evict the bundles of their courses, and nothing else
+    private static final Regions QUESTIONS = new Regions(List.of(Question.class, Option.class),
+            List.of(QUIZ_QUESTIONS, QUESTION_OPTIONS));
+
+    private static final Map<String, Regions> REGIONS_BY_CACHE = Map.ofEntries(
+            Map.entry(COURSES_CACHE, COURSES),
+            Map.entry(COURSE_BY_ID_CACHE, COURSES),
+            Map.entry(COURSES_BY_LANGUAGE_CACHE, COURSES),
+            Map.entry(LESSONS_CACHE, LESSONS),
+            Map.entry(LESSON_BY_ID_CACHE, LESSONS),
+            Map.entry(LESSONS_BY_COURSE_CACHE, LESSONS),
+            Map.entry(QUIZ_BY_ID_CACHE, QUIZZES),
+            Map.entry(QUIZZES_BY_LESSON_CACHE, QUIZZES),
+            Map.entry(QUESTIONS_CACHE, QUESTIONS),
+            Map.entry(COURSE_BUNDLE_CACHE, QUESTIONS));
+
+    // Areas signalled without a Spring cache; languages are served by LanguageRegistry
+    private static final Map<Area, Regions> REGIONS_BY_AREA = Map.of(
+            Area.LANGUAGES, LANGUAGES,
+            Area.COURSES, COURSES,
+            Area.LESSONS, LESSONS);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Drop the regions behind a Spring cache. Caches outside the catalog are ignored.
+     * Call after commit, like the Spring cache eviction itself.
+     * @param cacheName Evicted or cleared Spring cache
+     */
+    public void evict(String cacheName) {
+        Regions regions = REGIONS_BY_CACHE.get(cacheName);
+        if (regions != null) {
+            evict(regions, cacheName);
+        }
+    }
+
+    /**
+     * Drop the regions behind a catalog area changed without going through a Spring cache.
+     * Call after commit.
+     * @param area Changed area
+     */
+    public void evict(Area area) {
+        evict(REGIONS_BY_AREA.get(area), area);
+    }
+
+    /**
+     * Drop every region, for resyncs after lost invalidations
+     */
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    /**
+     * Hit and miss counts per region and of the query cache, plus the statement count, which
+     * shows how many reads still reach the database. Empty when statistics are disabled
+     * (afrilingo.jpa.cache-statistics=false).
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            return stats;
+        }
+
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", hitRate(hits, misses));
+        stats.put("puts", statistics.getSecondLevelCachePutCount());
+
+        long queryHits = statistics.getQueryCacheHitCount();
+        long queryMisses = statistics.getQueryCacheMissCount();
+        stats.put("queryHits", queryHits);
+        stats.put("queryMisses", queryMisses);
+        stats.put("queryHitRate", hitRate(queryHits, queryMisses));
+
+        stats.put("statementsPrepared", statistics.getPrepareStatementCount());
+        stats.put("entitiesLoaded", statistics.getEntityLoadCount());
+        stats.put("since", statistics.getStartTime());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : new TreeSet<>(List.of(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("hits", region.getHitCount());
+            entry.put("misses", region.getMissCount());
+            entry.put("hitRate", hitRate(region.getHitCount(), region.getMissCount()));
+            entry.put("puts", region.getPutCount());
+            entry.put("size", region.getElementCountInMemory());
+            regions.put(name, entry);
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+
+    // Private helper methods
+
+    private void evict(Regions regions, Object source) {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        regions.entities().forEach(cache::evictEntityData);
+        regions.collections().forEach(cache::evictCollectionData);
+        cache.evictQueryRegions();
+        log.debug("Evicted second-level cache regions {} for {}", regions, source);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private double hitRate(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
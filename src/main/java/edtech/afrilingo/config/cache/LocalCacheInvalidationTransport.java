@@ -0,0 +1,44 @@
+package edtech.afrilingo.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory stand-in for {@link PostgresCacheInvalidationTransport}.
+ * Delivers events to every application context in the same JVM, so several nodes can be
+ * started side by side in one process (tests, local runs without PostgreSQL).
+ * Events go through the same wire encoding as the PostgreSQL transport.
+ */
+@Component
+@ConditionalOnProperty(name = "afrilingo.cache.invalidation.transport", havingValue = "local")
+@Slf4j
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private Listener listener;
+
+    @Override
+    public void start(Listener listener) {
+        this.listener = listener;
+        LISTENERS.add(listener);
+        log.info("Cache invalidation using in-memory transport");
+    }
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        String payload = event.encode();
+        for (Listener subscriber : LISTENERS) {
+            CacheInvalidationEvent.decode(payload).ifPresent(subscriber::onEvent);
+        }
+    }
+
+    @Override
+    public void stop() {
+        LISTENERS.remove(listener);
+    }
+}
@@ -0,0 +1,134 @@
+package edtech.afrilingo.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ * One pooled connection is held for LISTEN and polled by a daemon thread; events are published
+ * with pg_notify from a single publisher thread, so they leave this node in version order and
+ * never run on a request thread or inside a finished transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "afrilingo.cache.invalidation.transport", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+
+    @Value("${afrilingo.cache.invalidation.channel:afrilingo_cache_invalidation}")
+    private String channel;
+
+    @Value("${afrilingo.cache.invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${afrilingo.cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start(Listener listener) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel name: " + channel);
+        }
+        running = true;
+        listenerThread = new Thread(() -> listen(listener), "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Cache invalidation listening on PostgreSQL channel {}", channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        String payload = event.encode();
+        publisher.execute(() -> {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                connection.setAutoCommit(true);
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            } catch (SQLException e) {
+                // Receivers see the version gap and resync
+                log.warn("Failed to publish cache invalidation {}: {}", payload, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        publisher.shutdown();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    // Private helper methods
+
+    private void listen(Listener listener) {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    // Name is validated against CHANNEL_NAME, so it is safe to inline
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // Anything committed while we were not listening is unknown
+                listener.onResync();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        CacheInvalidationEvent.decode(notification.getParameter())
+                                .ifPresentOrElse(listener::onEvent,
+                                        () -> log.warn("Ignoring malformed cache invalidation: {}",
+                                                notification.getParameter()));
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms: {}",
+                        reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package edtech.afrilingo.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache decorator that refuses to re-populate a key with a value loaded before the key was
+ * invalidated.
+ * Every eviction stamps the key (every clear stamps the cache) with a monotonically increasing
+ * version. A miss remembers the version it observed, per key, in the read scope of the calling
+ * thread, and the following put is dropped if the key was invalidated in between: the loaded
+ * value may predate the commit that caused the invalidation.
+ * Read scopes are opened around every cached method invocation (see CacheConfig), so a nested
+ * cached call keeps its misses apart from the outer ones, and misses whose put never comes
+ * (an {@code unless} condition, an exception) are dropped when the invocation returns.
+ */
+public class StampedCache implements Cache {
+
+    // Longer than any load, so a stamp outlives every read that started before it
+    private static final Duration STAMP_RETENTION = Duration.ofMinutes(5);
+
+    private record PendingRead(StampedCache cache, Object key) {
+    }
+
+    // Innermost scope first; each maps a missed key to the version observed on the miss
+    private static final ThreadLocal<Deque<Map<PendingRead, Long>>> READ_SCOPES = new ThreadLocal<>();
+
+    private final Cache delegate;
+    private final AtomicLong clock = new AtomicLong();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> evictionStamps = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(STAMP_RETENTION)
+            .build();
+    private volatile long clearStamp;
+
+    public StampedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Open the read scope of one cached method invocation on the calling thread.
+     * Must be paired with {@link #closeReadScope()} in a finally block.
+     */
+    public static void openReadScope() {
+        Deque<Map<PendingRead, Long>> scopes = READ_SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            READ_SCOPES.set(scopes);
+        }
+        scopes.push(new HashMap<>());
+    }
+
+    /**
+     * Close the innermost read scope, dropping the misses that were never followed by a put
+     */
+    public static void closeReadScope() {
+        Deque<Map<PendingRead, Long>> scopes = READ_SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.poll();
+        if (scopes.isEmpty()) {
+            READ_SCOPES.remove();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            // Outside a scope no put is expected to follow, and nothing would clean up the entry
+            Map<PendingRead, Long> scope = innermostScope();
+            if (scope != null) {
+                scope.put(new PendingRead(this, key), clock.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Loaded atomically by Caffeine; an eviction during the load discards the entry
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (isStale(key)) {
+            return;
+        }
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (isStale(key)) {
+            return null;
+        }
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictionStamps.put(key, clock.incrementAndGet());
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictionStamps.put(key, clock.incrementAndGet());
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        clearStamp = clock.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        clearStamp = clock.incrementAndGet();
+        return delegate.invalidate();
+    }
+
+    private boolean isStale(Object key) {
+        // A cached method's get and put happen in its own scope, the innermost one
+        Map<PendingRead, Long> scope = innermostScope();
+        Long readVersion = scope != null ? scope.remove(new PendingRead(this, key)) : null;
+        if (readVersion == null) {
+            // Not preceded by a miss in this scope (e.g. @CachePut), nothing to compare against
+            return false;
+        }
+
+        if (clearStamp > readVersion) {
+            return true;
+        }
+        Long evicted = evictionStamps.getIfPresent(key);
+        return evicted != null && evicted > readVersion;
+    }
+
+    private static Map<PendingRead, Long> innermostScope() {
+        Deque<Map<PendingRead, Long>> scopes = READ_SCOPES.get();
+        return scopes != null ? scopes.peek() : null;
+    }
+}
@@ -0,0 +1,112 @@
+package edtech.afrilingo.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * A read-only transaction still uses the primary while its caller is pinned by a recent write
+ * ({@link ReadYourWritesTracker}), while the replica lags or is unreachable
+ * ({@link ReplicaLagMonitor}), or when a replica connection cannot be opened.
+ * The transaction's read-only flag is only set once it has begun, so this data source must be
+ * wrapped in a LazyConnectionDataSourceProxy, which defers the choice to the first statement.
+ */
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong pinnedReads = new AtomicLong();
+    private final AtomicLong laggingReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Routing counters and replica state, for the database stats endpoint
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", true);
+        stats.put("replicaReachable", lagMonitor.isReachable());
+        stats.put("replicaUsable", lagMonitor.isUsable());
+        stats.put("replicaLagMillis", lagMonitor.getLagMillis());
+        stats.put("writes", writes.get());
+        stats.put("replicaReads", replicaReads.get());
+        stats.put("pinnedReads", pinnedReads.get());
+        stats.put("laggingReads", laggingReads.get());
+        stats.put("fallbackReads", fallbackReads.get());
+        stats.put("pinnedWriters", readYourWrites.getPinnedCount());
+        return stats;
+    }
+
+    // Private helper methods
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.incrementAndGet();
+            pinWriterOnCommit();
+            return source.open(primary);
+        }
+        if (readYourWrites.isPinned(readYourWrites.currentWriter())) {
+            pinnedReads.incrementAndGet();
+            return source.open(primary);
+        }
+        if (!lagMonitor.isUsable()) {
+            laggingReads.incrementAndGet();
+            return source.open(primary);
+        }
+
+        try {
+            Connection connection = source.open(replica);
+            replicaReads.incrementAndGet();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnreachable(e);
+            fallbackReads.incrementAndGet();
+            return source.open(primary);
+        }
+    }
+
+    // Connections outside a transaction are mostly reads; only a committed transaction pins its writer
+    private void pinWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Resolve now: commit callbacks may run after the request context is gone
+        String writer = readYourWrites.currentWriter();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.pin(writer);
+            }
+        });
+    }
+}
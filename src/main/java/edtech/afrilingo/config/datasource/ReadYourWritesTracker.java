@@ -0,0 +1,71 @@
+package edtech.afrilingo.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Pins a writer's reads to the primary for a short window after its writes commit, so nobody
+ * reads a replica that has not yet replayed their own change. Writers are the authenticated
+ * user, the client address for anonymous requests (registration followed by login), or the
+ * thread for background work. Pins are kept per node; across nodes the lag guard bounds staleness.
+ * Evictions of shared catalog caches pin everyone for the same window: whoever refills the cache
+ * must not read a replica that has not replayed the change that emptied it. Evictions of
+ * per-user caches pin only the writer.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_PINNED_WRITERS = 100_000;
+
+    private final Cache<String, Boolean> pinned;
+    private final long windowNanos;
+    private volatile long everyonePinnedUntilNanos;
+
+    public ReadYourWritesTracker(ReplicaProperties properties) {
+        this.windowNanos = Duration.ofMillis(properties.getStickyWindowMs()).toNanos();
+        this.everyonePinnedUntilNanos = System.nanoTime();
+        this.pinned = Caffeine.newBuilder()
+                .maximumSize(MAX_PINNED_WRITERS)
+                .expireAfterWrite(Duration.ofMillis(properties.getStickyWindowMs()))
+                .build();
+    }
+
+    /**
+     * @return Key of the writer on the current thread
+     */
+    public String currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "client:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return "thread:" + Thread.currentThread().getName();
+    }
+
+    public void pin(String writer) {
+        pinned.put(writer, Boolean.TRUE);
+    }
+
+    public void pinEveryone() {
+        everyonePinnedUntilNanos = System.nanoTime() + windowNanos;
+    }
+
+    public boolean isPinned(String writer) {
+        return everyonePinnedUntilNanos - System.nanoTime() > 0 || pinned.getIfPresent(writer) != null;
+    }
+
+    public long getPinnedCount() {
+        return pinned.estimatedSize();
+    }
+}
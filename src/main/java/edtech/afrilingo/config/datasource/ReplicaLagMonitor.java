@@ -0,0 +1,87 @@
+package edtech.afrilingo.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how far the replica is behind the primary and decides whether reads may use it.
+ * The replica is usable while its last check succeeded, is recent, and found it within the
+ * allowed lag. A replica that has replayed everything it received counts as current, so an idle
+ * primary does not make it look stale.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT), 0) END";
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    // A check older than this no longer vouches for the replica
+    private final long staleAfterNanos;
+
+    private volatile boolean reachable;
+    private volatile long lagMillis = -1;
+    private volatile long checkedAtNanos;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaProperties properties) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = properties.getMaxLagMs();
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(3 * properties.getLagCheckIntervalMs());
+    }
+
+    @Scheduled(fixedDelayString = "${afrilingo.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try {
+            Long lag = replica.queryForObject(LAG_QUERY, Long.class);
+            lagMillis = lag != null ? lag : 0;
+            reachable = true;
+        } catch (DataAccessException e) {
+            if (reachable) {
+                log.warn("Replica check failed: {}", e.getMessage());
+            }
+            reachable = false;
+        }
+        checkedAtNanos = System.nanoTime();
+        updateUsable();
+    }
+
+    /**
+     * Take the replica out of rotation until the next successful check, after a failed connection
+     */
+    public void markUnreachable(Exception cause) {
+        log.warn("Replica connection failed: {}", cause.getMessage());
+        reachable = false;
+        updateUsable();
+    }
+
+    public boolean isUsable() {
+        return usable && System.nanoTime() - checkedAtNanos <= staleAfterNanos;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    // Private helper methods
+
+    private void updateUsable() {
+        boolean nowUsable = reachable && lagMillis <= maxLagMillis;
+        if (nowUsable != usable) {
+            log.info(nowUsable ? "Replica back in rotation (lag {} ms)" : "Replica out of rotation (lag {} ms)", lagMillis);
+        }
+        usable = nowUsable;
+    }
+}
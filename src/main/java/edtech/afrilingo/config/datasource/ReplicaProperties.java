@@ -0,0 +1,25 @@
+package edtech.afrilingo.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica connection and routing settings. Routing is enabled by setting the URL;
+ * username, password and driver default to those of spring.datasource.
+ */
+@Data
+@ConfigurationProperties(prefix = "afrilingo.datasource.replica")
+public class ReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    // Reads fall back to the primary while the replica is further behind than this
+    private long maxLagMs = 2_000;
+    private long lagCheckIntervalMs = 1_000;
+
+    // After a write, the writer's reads stay on the primary this long; keep it above max-lag-ms
+    private long stickyWindowMs = 5_000;
+}
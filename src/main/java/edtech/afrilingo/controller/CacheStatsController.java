@@ -0,0 +1,97 @@
+package edtech.afrilingo.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edtech.afrilingo.config.CatalogResponseFilter;
+import edtech.afrilingo.config.cache.CacheInvalidationBus;
+import edtech.afrilingo.config.cache.EntityCacheRegions;
+import edtech.afrilingo.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Cache statistics")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CatalogResponseFilter catalogResponseFilter;
+    private final EntityCacheRegions entityCacheRegions;
+
+    @Operation(
+            summary = "Get cache statistics",
+            description = "Hit/miss counts, hit rate, evictions and size of every Caffeine cache",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        for (String name : new TreeSet<>(cacheManager.getCacheNames())) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                CacheStats cacheStats = caffeine.stats();
+
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", caffeine.estimatedSize());
+                entry.put("requests", cacheStats.requestCount());
+                entry.put("hits", cacheStats.hitCount());
+                entry.put("misses", cacheStats.missCount());
+                entry.put("hitRate", cacheStats.hitRate());
+                entry.put("evictions", cacheStats.evictionCount());
+                entry.put("evictionWeight", cacheStats.evictionWeight());
+                stats.put(name, entry);
+            }
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @Operation(
+            summary = "Get cache invalidation bus status",
+            description = "Node ID, transport, published/applied event counts and last version seen per peer node",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/invalidation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getInvalidationStats() {
+        return ResponseEntity.ok(ApiResponse.success(cacheInvalidationBus.getStats()));
+    }
+
+    @Operation(
+            summary = "Get catalog response cache statistics",
+            description = "Cached catalog responses, hits, misses, 304s and the current catalog versions",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/responses")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getResponseCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(catalogResponseFilter.getStats()));
+    }
+
+    @Operation(
+            summary = "Get second-level cache statistics",
+            description = "Hibernate second-level and query cache hits, misses and hit rates per region, and the number of statements sent to the database",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/entities")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getEntityCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(entityCacheRegions.getStats()));
+    }
+}
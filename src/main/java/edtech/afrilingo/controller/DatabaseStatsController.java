@@ -0,0 +1,39 @@
+package edtech.afrilingo.controller;
+
+import edtech.afrilingo.config.datasource.ReadWriteRoutingDataSource;
+import edtech.afrilingo.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/db")
+@RequiredArgsConstructor
+@Tag(name = "Database", description = "Database diagnostics")
+public class DatabaseStatsController {
+
+    // Absent unless a read replica is configured
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+    @Operation(
+            summary = "Get read/write routing statistics",
+            description = "Replica lag and reachability, and how many connections went to the primary and the replica and why",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/routing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRoutingStats() {
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        Map<String, Object> stats = routing != null ? routing.getStats() : Map.of("enabled", false);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+}
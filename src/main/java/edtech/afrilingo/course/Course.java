@@ -3,6 +3,8 @@ package edtech.afrilingo.course;
 import edtech.afrilingo.language.Language;
 import edtech.afrilingo.lesson.Lesson;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +19,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "courses")
 public class Course {
     @Id
@@ -51,6 +55,7 @@ public class Course {
     @JsonIgnoreProperties({"courses", "hibernateLazyInitializer", "handler"})
     private Language language;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL)
     @JsonIgnoreProperties("course")
     @JsonIgnore // prevent deep graph serialization on list endpoints
@@ -1,10 +1,18 @@
 package edtech.afrilingo.course;
 
+import edtech.afrilingo.config.HttpCaching;
+import edtech.afrilingo.course.bundle.CourseBundle;
+import edtech.afrilingo.course.bundle.CourseBundleService;
+import edtech.afrilingo.dto.CourseSummaryDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -13,27 +21,46 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseBundleService courseBundleService;
+
+    // Clients revalidate with If-None-Match; unchanged bundles cost a 304
+    private static final CacheControl BUNDLE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
 
     @GetMapping
-    public ResponseEntity<List<Course>> getAllCourses() {
-        return ResponseEntity.ok(courseService.getAllCourses());
+    public ResponseEntity<List<CourseSummaryDTO>> getAllCourses() {
+        return ResponseEntity.ok(courseService.getCourseSummaries());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
-        return courseService.getCourseById(id)
+    public ResponseEntity<CourseSummaryDTO> getCourseById(@PathVariable Long id) {
+        return courseService.getCourseSummaryById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Whole course (lessons, contents, quizzes, questions, options without answers) as one
+     * versioned JSON payload for offline prefetch. Served gzipped when the client accepts it.
+     */
+    @GetMapping("/{id}/bundle")
+    public ResponseEntity<byte[]> getCourseBundle(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return courseBundleService.getBundle(id)
+                .map(bundle -> bundleResponse(bundle, ifNoneMatch, acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/language/{languageId}")
-    public ResponseEntity<List<Course>> getCoursesByLanguageId(@PathVariable Long languageId) {
-        return ResponseEntity.ok(courseService.getCoursesByLanguageId(languageId));
+    public ResponseEntity<List<CourseSummaryDTO>> getCoursesByLanguageId(@PathVariable Long languageId) {
+        return ResponseEntity.ok(courseService.getCourseSummariesByLanguageId(languageId));
     }
 
     @GetMapping("/language/{languageId}/active")
-    public ResponseEntity<List<Course>> getActiveCoursesByLanguageId(@PathVariable Long languageId) {
-        return ResponseEntity.ok(courseService.getActiveCoursesByLanguageId(languageId));
+    public ResponseEntity<List<CourseSummaryDTO>> getActiveCoursesByLanguageId(@PathVariable Long languageId) {
+        return ResponseEntity.ok(courseService.getActiveCourseSummariesByLanguageId(languageId));
     }
 
     @PostMapping
@@ -91,4 +118,25 @@ public class CourseController {
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.internalServerError().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<byte[]> bundleResponse(CourseBundle bundle, String ifNoneMatch, String acceptEncoding) {
+        if (HttpCaching.matchesEtag(ifNoneMatch, bundle.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(bundle.etag())
+                    .cacheControl(BUNDLE_CACHE_CONTROL)
+                    .build();
+        }
+
+        boolean gzip = HttpCaching.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(bundle.etag())
+                .cacheControl(BUNDLE_CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(bundle.gzippedJson());
+        }
+        return response.body(bundle.json());
+    }
+}
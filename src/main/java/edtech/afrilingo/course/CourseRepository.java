@@ -1,5 +1,6 @@
 package edtech.afrilingo.course;
 
+import edtech.afrilingo.dto.CourseSummaryDTO;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> findByLanguageId(Long languageId);
@@ -21,4 +23,22 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @EntityGraph(attributePaths = {"language"})
     @Query("SELECT c FROM Course c")
     List<Course> findAllShallow();
+
+    // Read projections: only the columns the endpoints return, language joined in the same query
+    String SUMMARY_SELECT = "SELECT new edtech.afrilingo.dto.CourseSummaryDTO(" +
+            "c.id, c.version, c.title, c.description, c.level, c.image, c.isActive, " +
+            "l.id, l.name, l.code, l.description, l.flagImage) " +
+            "FROM Course c LEFT JOIN c.language l ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.id")
+    List<CourseSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE c.id = :id")
+    Optional<CourseSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE l.id = :languageId ORDER BY c.id")
+    List<CourseSummaryDTO> findSummariesByLanguageId(@Param("languageId") Long languageId);
+
+    @Query(SUMMARY_SELECT + "WHERE l.id = :languageId AND c.isActive = true ORDER BY c.id")
+    List<CourseSummaryDTO> findActiveSummariesByLanguageId(@Param("languageId") Long languageId);
 }
\ No newline at end of file
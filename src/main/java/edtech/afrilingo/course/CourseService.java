@@ -1,5 +1,6 @@
 package edtech.afrilingo.course;
 
+import edtech.afrilingo.dto.CourseSummaryDTO;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -34,6 +35,34 @@ public interface CourseService {
      * @return Optional containing the course if found
      */
     Optional<Course> getCourseById(Long id);
+
+
+    /**
+     * Get all courses as read projections (one query, language columns joined)
+     * @return List of course summaries
+     */
+    List<CourseSummaryDTO> getCourseSummaries();
+
+    /**
+     * Get course summaries by language ID
+     * @param languageId Language ID
+     * @return List of course summaries for the given language
+     */
+    List<CourseSummaryDTO> getCourseSummariesByLanguageId(Long languageId);
+
+    /**
+     * Get active course summaries by language ID
+     * @param languageId Language ID
+     * @return List of active course summaries for the given language
+     */
+    List<CourseSummaryDTO> getActiveCourseSummariesByLanguageId(Long languageId);
+
+    /**
+     * Get course summary by ID
+     * @param id Course ID
+     * @return Optional containing the course summary if found
+     */
+    Optional<CourseSummaryDTO> getCourseSummaryById(Long id);
     
     /**
      * Create a new course
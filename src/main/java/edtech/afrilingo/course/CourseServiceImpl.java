@@ -1,15 +1,17 @@
 package edtech.afrilingo.course;
 
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.dto.CourseSummaryDTO;
 import edtech.afrilingo.language.LanguageService;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.Lock;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import static edtech.afrilingo.config.CacheConfig.COURSES_CACHE;
+import static edtech.afrilingo.config.CacheConfig.*;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +22,8 @@ public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
     private final LanguageService languageService;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchService searchService;
 
     @Override
     @Cacheable(cacheNames = COURSES_CACHE)
@@ -29,23 +33,49 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Cacheable(cacheNames = COURSES_BY_LANGUAGE_CACHE, key = "'all:' + #languageId")
     public List<Course> getCoursesByLanguageId(Long languageId) {
         return courseRepository.findByLanguageId(languageId);
     }
 
     @Override
+    @Cacheable(cacheNames = COURSES_BY_LANGUAGE_CACHE, key = "'active:' + #languageId")
     public List<Course> getActiveCoursesByLanguageId(Long languageId) {
         return courseRepository.findByLanguageIdAndIsActiveTrue(languageId);
     }
 
     @Override
+    @Cacheable(cacheNames = COURSE_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Course> getCourseById(Long id) {
         return courseRepository.findById(id);
     }
 
+    @Override
+    @Cacheable(cacheNames = COURSES_CACHE, key = "'summaries'")
+    public List<CourseSummaryDTO> getCourseSummaries() {
+        return courseRepository.findAllSummaries();
+    }
+
+    @Override
+    @Cacheable(cacheNames = COURSES_BY_LANGUAGE_CACHE, key = "'summary:all:' + #languageId")
+    public List<CourseSummaryDTO> getCourseSummariesByLanguageId(Long languageId) {
+        return courseRepository.findSummariesByLanguageId(languageId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = COURSES_BY_LANGUAGE_CACHE, key = "'summary:active:' + #languageId")
+    public List<CourseSummaryDTO> getActiveCourseSummariesByLanguageId(Long languageId) {
+        return courseRepository.findActiveSummariesByLanguageId(languageId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = COURSE_BY_ID_CACHE, key = "'summary:' + #id", unless = "#result == null")
+    public Optional<CourseSummaryDTO> getCourseSummaryById(Long id) {
+        return courseRepository.findSummaryById(id);
+    }
+
     @Override
     @Transactional
-    @CacheEvict(cacheNames = COURSES_CACHE, allEntries = true)
     public Course createCourse(Course course) {
         // Validate course data
         if (course.getTitle() == null || course.getLanguage() == null || course.getLanguage().getId() == null) {
@@ -73,7 +103,9 @@ public class CourseServiceImpl implements CourseService {
                 .build();
 
         try {
-            return courseRepository.save(newCourse);
+            Course saved = courseRepository.save(newCourse);
+            evictCourse(null, saved.getLanguage().getId());
+            return saved;
         } catch (Exception e) {
             throw new RuntimeException("Failed to create course: " + e.getMessage(), e);
         }
@@ -81,10 +113,11 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = COURSES_CACHE, allEntries = true)
     public Course updateCourse(Long id, Course courseDetails) {
         return courseRepository.findById(id)
                 .map(existingCourse -> {
+                    Long previousLanguageId = languageIdOf(existingCourse);
+
                     // Update fields
                     if (courseDetails.getTitle() != null) {
                         existingCourse.setTitle(courseDetails.getTitle());
@@ -114,6 +147,7 @@ public class CourseServiceImpl implements CourseService {
                         existingCourse.setLanguage(courseDetails.getLanguage());
                     }
 
+                    evictCourse(id, previousLanguageId, languageIdOf(existingCourse));
                     return courseRepository.save(existingCourse);
                 })
                 .orElseThrow(() -> new RuntimeException("Course not found with id " + id));
@@ -121,11 +155,11 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = COURSES_CACHE, allEntries = true)
     public boolean deleteCourse(Long id) {
         return courseRepository.findById(id)
                 .map(course -> {
                     courseRepository.delete(course);
+                    evictCourse(id, languageIdOf(course));
                     return true;
                 })
                 .orElse(false);
@@ -133,11 +167,11 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = COURSES_CACHE, allEntries = true)
     public Course setActivationStatus(Long id, boolean active) {
         return courseRepository.findById(id)
                 .map(course -> {
                     course.setActive(active);
+                    evictCourse(id, languageIdOf(course));
                     return courseRepository.save(course);
                 })
                 .orElseThrow(() -> new RuntimeException("Course not found with id " + id));
@@ -147,4 +181,36 @@ public class CourseServiceImpl implements CourseService {
     public boolean existsById(Long id) {
         return courseRepository.existsById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Evict a course from the by-id, by-language and "all" caches after commit.
+     * Lessons, quizzes and contents embed their course in cached values, so their caches
+     * are cleared as well; course changes are rare admin operations.
+     * @param courseId Course ID (null for a new course)
+     * @param languageIds Languages whose course lists contain (or contained) the course
+     */
+    private void evictCourse(Long courseId, Long... languageIds) {
+        if (courseId != null) {
+            cacheInvalidator.evict(COURSE_BY_ID_CACHE, courseId, "summary:" + courseId);
+        }
+        cacheInvalidator.evict(COURSE_BUNDLE_CACHE, courseId);
+        for (Long languageId : languageIds) {
+            if (languageId != null) {
+                cacheInvalidator.evict(COURSES_BY_LANGUAGE_CACHE, "all:" + languageId, "active:" + languageId,
+                        "summary:all:" + languageId, "summary:active:" + languageId);
+            }
+        }
+        cacheInvalidator.clear(COURSES_CACHE);
+        if (courseId != null) {
+            cacheInvalidator.clear(LESSONS_CACHE, LESSON_BY_ID_CACHE, LESSONS_BY_COURSE_CACHE,
+                    QUIZ_BY_ID_CACHE, QUIZZES_BY_LESSON_CACHE,
+                    LESSON_CONTENTS_CACHE, LESSON_CONTENT_BY_ID_CACHE, LESSON_CONTENTS_BY_LESSON_CACHE);
+            // Search documents carry the course language
+            searchService.requestRebuild();
+        }
+    }
+
+    private Long languageIdOf(Course course) {
+        return course.getLanguage() != null ? course.getLanguage().getId() : null;
+    }
+}
@@ -0,0 +1,28 @@
+package edtech.afrilingo.course.bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Serialized, gzip-compressed course bundle as cached and served
+ *
+ * @param courseId Course ID
+ * @param etag Strong ETag (quoted content version)
+ * @param gzippedJson Bundle JSON, gzip compressed
+ * @param jsonLength Size of the uncompressed JSON in bytes
+ */
+public record CourseBundle(Long courseId, String etag, byte[] gzippedJson, int jsonLength) {
+
+    /**
+     * Uncompressed JSON, for the rare client that does not accept gzip
+     */
+    public byte[] json() {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzippedJson))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package edtech.afrilingo.course.bundle;
+
+import edtech.afrilingo.lesson.LessonType;
+import edtech.afrilingo.lesson.content.ContentType;
+import edtech.afrilingo.media.MediaInfo;
+import edtech.afrilingo.question.QuestionType;
+
+import java.util.List;
+
+/**
+ * Whole course for offline use: lessons with their ordered contents, quizzes, questions and
+ * options. Options carry no correct flag; answers are graded on the server. Media served by this
+ * server is described inline (versioned URL, size, duration, bitrate) so clients can prefetch it.
+ *
+ * @param formatVersion Bundle schema version, bumped on incompatible changes
+ * @param contentVersion Hash of the bundle content, also used as ETag
+ */
+public record CourseBundleDTO(
+        int formatVersion,
+        String contentVersion,
+        CourseEntry course,
+        List<LessonEntry> lessons) {
+
+    public record CourseEntry(
+            Long id,
+            String title,
+            String description,
+            String level,
+            String image,
+            boolean active,
+            Long languageId,
+            String languageCode,
+            String languageName) {
+    }
+
+    public record LessonEntry(
+            Long id,
+            String title,
+            String description,
+            LessonType type,
+            int orderIndex,
+            boolean required,
+            List<ContentEntry> contents,
+            List<QuizEntry> quizzes) {
+    }
+
+    public record ContentEntry(
+            Long id,
+            ContentType contentType,
+            String contentData,
+            String mediaUrl,
+            MediaInfo media) {
+    }
+
+    public record QuizEntry(
+            Long id,
+            String title,
+            String description,
+            int minPassingScore,
+            List<QuestionEntry> questions) {
+    }
+
+    public record QuestionEntry(
+            Long id,
+            String questionText,
+            QuestionType questionType,
+            String mediaUrl,
+            MediaInfo media,
+            int points,
+            List<OptionEntry> options) {
+    }
+
+    public record OptionEntry(
+            Long id,
+            String optionText,
+            String optionMedia) {
+    }
+}
@@ -0,0 +1,182 @@
+package edtech.afrilingo.course.bundle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.config.HttpCaching;
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.course.CourseRepository;
+import edtech.afrilingo.course.bundle.CourseBundleDTO.*;
+import edtech.afrilingo.lesson.Lesson;
+import edtech.afrilingo.lesson.LessonRepository;
+import edtech.afrilingo.lesson.content.LessonContent;
+import edtech.afrilingo.lesson.content.LessonContentRepository;
+import edtech.afrilingo.media.MediaLibrary;
+import edtech.afrilingo.question.Question;
+import edtech.afrilingo.question.QuestionRepository;
+import edtech.afrilingo.quiz.Quiz;
+import edtech.afrilingo.quiz.QuizRepository;
+import edtech.afrilingo.quiz.option.Option;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static edtech.afrilingo.config.CacheConfig.COURSE_BUNDLE_CACHE;
+
+/**
+ * Assembles, serializes and caches offline course bundles.
+ * A bundle is built with five queries (course, lessons, contents, quizzes, questions with
+ * options) and cached as gzipped JSON until a catalog change touches the course. The content
+ * version is a hash of the bundle itself, so it is identical on every node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseBundleService {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final LessonContentRepository lessonContentRepository;
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidator cacheInvalidator;
+    private final MediaLibrary mediaLibrary;
+
+    /**
+     * Get the bundle of a course, building it on a cache miss
+     * @param courseId Course ID
+     * @return Optional containing the bundle if the course exists
+     */
+    @Cacheable(cacheNames = COURSE_BUNDLE_CACHE, key = "#courseId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<CourseBundle> getBundle(Long courseId) {
+        return courseRepository.findById(courseId).map(this::build);
+    }
+
+    /**
+     * Drop the cached bundles of the given courses after commit
+     * @param courseIds Course IDs (nulls are ignored)
+     */
+    public void evictCourses(Long... courseIds) {
+        cacheInvalidator.evict(COURSE_BUNDLE_CACHE, (Object[]) courseIds);
+    }
+
+    /**
+     * Drop the cached bundles of the courses the given lessons belong to
+     * @param lessonIds Lesson IDs (nulls are ignored)
+     */
+    public void evictByLessons(Long... lessonIds) {
+        List<Long> ids = nonNull(lessonIds);
+        if (!ids.isEmpty()) {
+            evictCourses(lessonRepository.findCourseIdsByLessonIds(ids).toArray(Long[]::new));
+        }
+    }
+
+    /**
+     * Drop the cached bundles of the courses the given quizzes belong to
+     * @param quizIds Quiz IDs (nulls are ignored)
+     */
+    public void evictByQuizzes(Long... quizIds) {
+        List<Long> ids = nonNull(quizIds);
+        if (!ids.isEmpty()) {
+            evictCourses(quizRepository.findCourseIdsByQuizIds(ids).toArray(Long[]::new));
+        }
+    }
+
+    // Private helper methods
+
+    private CourseBundle build(Course course) {
+        long startNanos = System.nanoTime();
+
+        List<Lesson> lessons = lessonRepository.findByCourseIdOrderByOrderIndex(course.getId()).stream()
+                .sorted(Comparator.comparingInt(Lesson::getOrderIndex).thenComparing(Lesson::getId))
+                .toList();
+        List<Long> lessonIds = lessons.stream().map(Lesson::getId).toList();
+
+        Map<Long, List<ContentEntry>> contentsByLesson = new HashMap<>();
+        Map<Long, List<QuizEntry>> quizzesByLesson = new HashMap<>();
+
+        if (!lessonIds.isEmpty()) {
+            for (LessonContent content : lessonContentRepository.findByLessonIdInOrderByIdAsc(lessonIds)) {
+                contentsByLesson.computeIfAbsent(content.getLesson().getId(), id -> new ArrayList<>())
+                        .add(new ContentEntry(content.getId(), content.getContentType(),
+                                content.getContentData(), content.getMediaUrl(),
+                                mediaLibrary.describe(content.getMediaUrl())));
+            }
+
+            List<Quiz> quizzes = quizRepository.findByLessonIdInOrderByIdAsc(lessonIds);
+            Map<Long, List<QuestionEntry>> questionsByQuiz = loadQuestions(quizzes);
+            for (Quiz quiz : quizzes) {
+                quizzesByLesson.computeIfAbsent(quiz.getLesson().getId(), id -> new ArrayList<>())
+                        .add(new QuizEntry(quiz.getId(), quiz.getTitle(), quiz.getDescription(),
+                                quiz.getMinPassingScore(),
+                                questionsByQuiz.getOrDefault(quiz.getId(), List.of())));
+            }
+        }
+
+        List<LessonEntry> lessonEntries = lessons.stream()
+                .map(lesson -> new LessonEntry(lesson.getId(), lesson.getTitle(), lesson.getDescription(),
+                        lesson.getType(), lesson.getOrderIndex(), lesson.isRequired(),
+                        contentsByLesson.getOrDefault(lesson.getId(), List.of()),
+                        quizzesByLesson.getOrDefault(lesson.getId(), List.of())))
+                .toList();
+
+        CourseEntry courseEntry = new CourseEntry(course.getId(), course.getTitle(), course.getDescription(),
+                course.getLevel(), course.getImage(), course.isActive(),
+                course.getLanguage() != null ? course.getLanguage().getId() : null,
+                course.getLanguage() != null ? course.getLanguage().getCode() : null,
+                course.getLanguage() != null ? course.getLanguage().getName() : null);
+
+        // Hash the content without its version, then stamp the version into the final payload
+        String contentVersion = HttpCaching.contentHash(serialize(new CourseBundleDTO(FORMAT_VERSION, null, courseEntry, lessonEntries)));
+        byte[] json = serialize(new CourseBundleDTO(FORMAT_VERSION, contentVersion, courseEntry, lessonEntries));
+        byte[] gzipped = HttpCaching.gzip(json);
+
+        log.info("Built bundle for course {} ({} lessons, {} bytes, {} gzipped) in {} ms",
+                course.getId(), lessons.size(), json.length, gzipped.length,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return new CourseBundle(course.getId(), "\"" + contentVersion + "\"", gzipped, json.length);
+    }
+
+    private Map<Long, List<QuestionEntry>> loadQuestions(List<Quiz> quizzes) {
+        if (quizzes.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> quizIds = quizzes.stream().map(Quiz::getId).toList();
+
+        return questionRepository.findBundleQuestionsByQuizIds(quizIds).stream()
+                .collect(Collectors.groupingBy(question -> question.getQuiz().getId(),
+                        Collectors.mapping(this::toQuestionEntry, Collectors.toList())));
+    }
+
+    private QuestionEntry toQuestionEntry(Question question) {
+        List<OptionEntry> options = question.getOptions() == null ? List.of() : question.getOptions().stream()
+                .sorted(Comparator.comparing(Option::getId))
+                // Never ship the correct flag
+                .map(option -> new OptionEntry(option.getId(), option.getOptionText(), option.getOptionMedia()))
+                .toList();
+        return new QuestionEntry(question.getId(), question.getQuestionText(), question.getQuestionType(),
+                question.getMediaUrl(), mediaLibrary.describe(question.getMediaUrl()),
+                question.getPoints(), options);
+    }
+
+    private byte[] serialize(CourseBundleDTO bundle) {
+        try {
+            return objectMapper.writeValueAsBytes(bundle);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize course bundle: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Long> nonNull(Long[] ids) {
+        return Arrays.stream(ids).filter(Objects::nonNull).distinct().toList();
+    }
+}
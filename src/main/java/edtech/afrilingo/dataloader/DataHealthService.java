@@ -1,5 +1,6 @@
 package edtech.afrilingo.dataloader;
 
+import edtech.afrilingo.config.CacheInvalidator;
 import edtech.afrilingo.course.CourseRepository;
 import edtech.afrilingo.language.LanguageRepository;
 import edtech.afrilingo.lesson.LessonRepository;
@@ -7,14 +8,17 @@ import edtech.afrilingo.lesson.content.LessonContentRepository;
 import edtech.afrilingo.question.QuestionRepository;
 import edtech.afrilingo.quiz.QuizRepository;
 import edtech.afrilingo.quiz.option.OptionRepository;
+import edtech.afrilingo.search.SearchService;
 import edtech.afrilingo.user.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
 
 /**
  * Service for checking data integrity and repairing any inconsistencies in the database.
@@ -33,8 +37,14 @@ public class DataHealthService {
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchService searchService;
+    private final DataSeedFingerprintRepository fingerprintRepository;
     private final org.springframework.context.ApplicationContext applicationContext;
 
+    // Hash of the seed content this build would load, computed on first use
+    private volatile String seedContentHash;
+
     private DataLoaderService getDataLoaderService() {
         return applicationContext.getBean(DataLoaderService.class);
     }
@@ -67,12 +77,49 @@ public class DataHealthService {
         return healthStatus;
     }
     
+    /**
+     * Checks whether the stored seed fingerprint matches the seed of this build.
+     * A single primary key lookup, used at startup in place of {@link #checkDataIntegrity()}.
+     * @return true if the dataset was verified for the current seed version and content
+     */
+    public boolean isFingerprintCurrent() {
+        return fingerprintRepository.findById(DataSeedFingerprint.CATALOG)
+                .map(fingerprint -> fingerprint.getSeedVersion() == DataLoaderService.SEED_VERSION
+                        && fingerprint.getContentHash().equals(getSeedContentHash()))
+                .orElse(false);
+    }
+
+    /**
+     * Records that the dataset now matches the seed of this build
+     */
+    @Transactional
+    public void recordFingerprint() {
+        fingerprintRepository.save(DataSeedFingerprint.builder()
+                .name(DataSeedFingerprint.CATALOG)
+                .seedVersion(DataLoaderService.SEED_VERSION)
+                .contentHash(getSeedContentHash())
+                .verifiedAt(LocalDateTime.now())
+                .build());
+        log.info("Recorded data seed fingerprint (version {}, hash {})",
+                DataLoaderService.SEED_VERSION, getSeedContentHash());
+    }
+
+    /**
+     * Drops the stored fingerprint, so the next startup runs the full integrity check
+     */
+    @Transactional
+    public void clearFingerprint() {
+        fingerprintRepository.deleteById(DataSeedFingerprint.CATALOG);
+    }
+
     /**
      * Repairs any data inconsistencies found in the system.
      * @return A map containing the repair results for each data category
      */
     @Transactional
     public Map<String, Object> repairData() {
+        cacheInvalidator.clearCatalog();
+        searchService.requestRebuild();
         Map<String, Object> repairResults = new HashMap<>();
         Map<String, Object> healthStatus = checkDataIntegrity();
         
@@ -119,6 +166,29 @@ public class DataHealthService {
         return repairResults;
     }
     
+    private String getSeedContentHash() {
+        String hash = seedContentHash;
+        if (hash == null) {
+            hash = hashSeedContent();
+            seedContentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the seed bundle, which holds all seeded catalog content, LanguageContentHelper's
+     * vocabulary included. Structural seed changes in DataLoaderService are covered by SEED_VERSION.
+     * Package-private for SeedFingerprintBenchmark.
+     */
+    static String hashSeedContent() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(SeedCatalog.readResource()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private boolean isHealthy(Map<String, Object> healthStatus, String category) {
         if (healthStatus.containsKey(category) && healthStatus.get(category) instanceof Map) {
             Map<String, Object> categoryStatus = (Map<String, Object>) healthStatus.get(category);
@@ -1,9 +1,12 @@
 package edtech.afrilingo.dataloader;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
@@ -12,6 +15,8 @@ import java.util.Map;
  * DataInitializer is responsible for loading all necessary data when the application starts.
  * It implements CommandLineRunner to execute the data loading process during application startup.
  * The behavior can be controlled via configuration properties in application.properties.
+ * On a warm database whose seed fingerprint matches this build, the integrity scan is skipped;
+ * set afrilingo.data.deep-verify=true to still run it in the background once the application is ready.
  */
 @Component
 @RequiredArgsConstructor
@@ -24,12 +29,24 @@ public class DataInitializer implements CommandLineRunner {
     @Value("${afrilingo.data.auto-load:true}")
     private boolean autoLoadData;
 
+    // Also needs afrilingo.data.reset-enabled=true
     @Value("${afrilingo.data.reset-on-startup:false}")
     private boolean resetDataOnStartup;
 
     @Value("${afrilingo.data.auto-repair:true}")
     private boolean autoRepairData;
 
+    @Value("${afrilingo.data.deep-verify:false}")
+    private boolean deepVerify;
+
+    // Set when startup trusted the fingerprint instead of scanning
+    @Getter
+    private volatile boolean fastPathTaken;
+
+    // Duration of the last run, for the startup measurement in the loadtest profile
+    @Getter
+    private volatile long initializationMillis;
+
     @Override
     public void run(String... args) {
         if (!autoLoadData) {
@@ -38,6 +55,7 @@ public class DataInitializer implements CommandLineRunner {
         }
 
         log.info("Starting data initialization process...");
+        long start = System.nanoTime();
         try {
             if (resetDataOnStartup) {
                 log.info("Resetting all existing data as per configuration...");
@@ -46,34 +64,97 @@ public class DataInitializer implements CommandLineRunner {
                 // After reset, we always need to load data
                 log.info("Loading application data after reset...");
                 dataLoaderService.loadAllData();
+                recordFingerprintIfHealthy();
+            } else if (dataHealthService.isFingerprintCurrent()) {
+                fastPathTaken = true;
+                log.info("Data seed fingerprint matches seed version {}. Skipping integrity check.",
+                        DataLoaderService.SEED_VERSION);
             } else {
-                // Check data health
-                log.info("Checking data integrity...");
-                Map<String, Object> healthStatus = dataHealthService.checkDataIntegrity();
-                boolean isHealthy = (boolean) healthStatus.get("overallHealth");
-
-                if (!isHealthy) {
-                    log.warn("Data integrity issues detected!");
-
-                    if (autoRepairData) {
-                        log.info("Auto-repairing data...");
-                        Map<String, Object> repairResults = dataHealthService.repairData();
-                        log.info("Data repair completed: {}", repairResults.get("status"));
-                    } else {
-                        log.warn("Auto-repair is disabled. Set afrilingo.data.auto-repair=true to enable automatic data repair.");
-                        // Load all data as a fallback
-                        log.info("Loading all data as fallback...");
-                        dataLoaderService.loadAllData();
-                    }
-                } else {
-                    log.info("Data integrity check passed. No issues detected.");
-                }
+                checkAndRepair();
             }
 
-            log.info("Data initialization completed successfully");
+            initializationMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Data initialization completed successfully in {} ms", initializationMillis);
         } catch (Exception e) {
             log.error("Error during data initialization: {}", e.getMessage(), e);
             // We don't rethrow the exception to allow the application to start even if data loading fails
         }
     }
+
+    /**
+     * Runs the full integrity check after startup when the fast path skipped it and deep
+     * verification is configured. A failed check drops the fingerprint, so the next startup
+     * scans again, and repairs the data if auto-repair is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!fastPathTaken || !deepVerify) {
+            return;
+        }
+        Thread verifier = new Thread(this::deepVerify, "data-verifier");
+        verifier.setDaemon(true);
+        verifier.start();
+    }
+
+    // Private helper methods
+
+    private void checkAndRepair() {
+        // Check data health
+        log.info("Checking data integrity...");
+        Map<String, Object> healthStatus = dataHealthService.checkDataIntegrity();
+        boolean isHealthy = (boolean) healthStatus.get("overallHealth");
+
+        if (!isHealthy) {
+            log.warn("Data integrity issues detected!");
+
+            if (autoRepairData) {
+                log.info("Auto-repairing data...");
+                Map<String, Object> repairResults = dataHealthService.repairData();
+                log.info("Data repair completed: {}", repairResults.get("status"));
+            } else {
+                log.warn("Auto-repair is disabled. Set afrilingo.data.auto-repair=true to enable automatic data repair.");
+                // Load all data as a fallback
+                log.info("Loading all data as fallback...");
+                dataLoaderService.loadAllData();
+            }
+            recordFingerprintIfHealthy();
+        } else {
+            log.info("Data integrity check passed. No issues detected.");
+            dataHealthService.recordFingerprint();
+        }
+    }
+
+    private void deepVerify() {
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> healthStatus = dataHealthService.checkDataIntegrity();
+            if ((boolean) healthStatus.get("overallHealth")) {
+                log.info("Deep data verification passed in {} ms", (System.nanoTime() - start) / 1_000_000);
+                return;
+            }
+
+            log.warn("Deep data verification found integrity issues despite a current fingerprint: {}", healthStatus);
+            dataHealthService.clearFingerprint();
+            if (autoRepairData) {
+                Map<String, Object> repairResults = dataHealthService.repairData();
+                log.info("Data repair completed: {}", repairResults.get("status"));
+                recordFingerprintIfHealthy();
+            }
+        } catch (Exception e) {
+            log.error("Error during deep data verification: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records the fingerprint only if the data now passes the integrity check, so a load or
+     * repair that left gaps is checked again on the next startup instead of being trusted
+     */
+    private void recordFingerprintIfHealthy() {
+        Map<String, Object> healthStatus = dataHealthService.checkDataIntegrity();
+        if ((boolean) healthStatus.get("overallHealth")) {
+            dataHealthService.recordFingerprint();
+        } else {
+            log.warn("Data integrity issues remain after loading, not recording the seed fingerprint: {}", healthStatus);
+        }
+    }
 }
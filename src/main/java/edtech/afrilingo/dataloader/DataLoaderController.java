@@ -49,14 +49,14 @@ public class DataLoaderController {
     
     @Operation(
             summary = "Load all data",
-            description = "Loads all initial data into the system (languages, courses, lessons, etc.)",
+            description = "Loads all initial data into the system (languages, courses, lessons, etc.) and reports the time taken by each loading stage",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @PostMapping("/load-all")
     @PreAuthorize("hasAuthority('ROLE_USER')")
-    public ResponseEntity<ApiResponse<String>> loadAllData() {
-        dataLoaderService.loadAllData();
-        return ResponseEntity.ok(ApiResponse.success("All data loaded successfully"));
+    public ResponseEntity<ApiResponse<SeedReport>> loadAllData() {
+        SeedReport report = dataLoaderService.loadAllData();
+        return ResponseEntity.ok(ApiResponse.success(report, "All data loaded successfully"));
     }
     
     @Operation(
@@ -133,11 +133,11 @@ public class DataLoaderController {
     
     @Operation(
             summary = "Reset data",
-            description = "Deletes all data from the system (use with caution)",
+            description = "Deletes all data from the system (use with caution). Admin only, and refused unless afrilingo.data.reset-enabled=true or while a production profile is active",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @DeleteMapping("/reset")
-    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<String>> resetData() {
         dataLoaderService.resetAllData();
         return ResponseEntity.ok(ApiResponse.success("All data reset successfully"));
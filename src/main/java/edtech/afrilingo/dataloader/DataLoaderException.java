@@ -16,7 +16,7 @@ public class DataLoaderException extends RuntimeException {
      *
      * @param message the detail message
      * @param errorCode the error code representing the type of error
-     *
+     */
     public DataLoaderException(String message, DataLoaderErrorCode errorCode) {
         super(message);
         this.errorCode = errorCode;
@@ -91,11 +91,21 @@ public class DataLoaderException extends RuntimeException {
          * Error occurred while loading user profiles.
          */
         USER_PROFILE_LOAD_ERROR,
+
+        /**
+         * Error occurred while loading quiz attempts or notifications of synthetic learners.
+         */
+        LEARNER_ACTIVITY_LOAD_ERROR,
         
         /**
          * Error occurred while resetting data.
          */
         DATA_RESET_ERROR,
+
+        /**
+         * Data reset was refused because resets are disabled or a protected profile is active.
+         */
+        DATA_RESET_FORBIDDEN,
         
         /**
          * Generic error.
@@ -22,7 +22,9 @@ public class DataLoaderExceptionHandler {
      */
     @ExceptionHandler(DataLoaderException.class)
     public ResponseEntity<ApiResponse<String>> handleDataLoaderException(DataLoaderException ex) {
-        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        HttpStatus status = ex.getErrorCode() == DataLoaderException.DataLoaderErrorCode.DATA_RESET_FORBIDDEN
+                ? HttpStatus.FORBIDDEN
+                : HttpStatus.INTERNAL_SERVER_ERROR;
         
         // Build error message with code
         String errorMessage = String.format("Data loading error [%s]: %s", 
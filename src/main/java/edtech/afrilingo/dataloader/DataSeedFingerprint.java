@@ -0,0 +1,38 @@
+package edtech.afrilingo.dataloader;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker row written once the seeded dataset has been loaded and verified.
+ * Startup compares it with the seed the running code would produce; when both the seed version
+ * and the content hash match, the data integrity scan is skipped.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "data_seed_fingerprints")
+public class DataSeedFingerprint {
+
+    public static final String CATALOG = "catalog";
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private int seedVersion;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private LocalDateTime verifiedAt;
+}
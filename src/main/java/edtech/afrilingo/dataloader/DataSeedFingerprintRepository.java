@@ -0,0 +1,8 @@
+package edtech.afrilingo.dataloader;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataSeedFingerprintRepository extends JpaRepository<DataSeedFingerprint, String> {
+}
@@ -0,0 +1,11 @@
+package edtech.afrilingo.dataloader;
+
+/**
+ * Size of a synthetic learner population
+ *
+ * @param users Learners to create
+ * @param attemptsPerUser Past quiz attempts per learner
+ * @param notificationsPerUser Notifications per learner, a third of them unread
+ */
+public record LearnerScale(int users, int attemptsPerUser, int notificationsPerUser) {
+}
@@ -0,0 +1,344 @@
+package edtech.afrilingo.dataloader;
+
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.language.Language;
+import edtech.afrilingo.lesson.Lesson;
+import edtech.afrilingo.lesson.content.LessonContent;
+import edtech.afrilingo.notification.Notification;
+import edtech.afrilingo.profile.UserProfile;
+import edtech.afrilingo.question.Question;
+import edtech.afrilingo.quiz.Quiz;
+import edtech.afrilingo.quiz.option.Option;
+import edtech.afrilingo.user.User;
+import edtech.afrilingo.userProgress.UserQuizAttempt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes seed rows with batched JDBC instead of one JPA insert per entity.
+ * IDs for a whole table are reserved from its ID sequence in a single query and set on
+ * the entities before inserting, so children built against those entities can reference their
+ * parents' IDs without reading anything back. Entities stay detached; callers must run inside
+ * a transaction, and the catalog caches must be cleared after commit as for any other bulk load.
+ * Resets empty the seeded tables the same way, with statements per table rather than per row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeedBulkWriter {
+
+    // Rows per JDBC batch; the driver sends each batch in one round trip
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertLanguages(List<Language> languages) {
+        insert("languages", null, languages, Language::setId,
+                "INSERT INTO languages (id, name, code, description, flag_image) VALUES (?, ?, ?, ?, ?)",
+                (ps, language) -> {
+                    ps.setLong(1, language.getId());
+                    ps.setString(2, language.getName());
+                    ps.setString(3, language.getCode());
+                    ps.setString(4, language.getDescription());
+                    ps.setString(5, language.getFlagImage());
+                });
+    }
+
+    public void insertCourses(List<Course> courses) {
+        insert("courses", null, courses, Course::setId,
+                "INSERT INTO courses (id, version, title, description, level, image, is_active, language_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, course) -> {
+                    ps.setLong(1, course.getId());
+                    ps.setLong(2, course.getVersion() != null ? course.getVersion() : 0L);
+                    ps.setString(3, course.getTitle());
+                    ps.setString(4, course.getDescription());
+                    ps.setString(5, course.getLevel());
+                    ps.setString(6, course.getImage());
+                    ps.setBoolean(7, course.isActive());
+                    ps.setLong(8, course.getLanguage().getId());
+                });
+    }
+
+    public void insertLessons(List<Lesson> lessons) {
+        insert("lessons", null, lessons, Lesson::setId,
+                "INSERT INTO lessons (id, title, description, type, order_index, is_required, course_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                (ps, lesson) -> {
+                    ps.setLong(1, lesson.getId());
+                    ps.setString(2, lesson.getTitle());
+                    ps.setString(3, lesson.getDescription());
+                    ps.setString(4, lesson.getType() != null ? lesson.getType().name() : null);
+                    ps.setInt(5, lesson.getOrderIndex());
+                    ps.setBoolean(6, lesson.isRequired());
+                    ps.setLong(7, lesson.getCourse().getId());
+                });
+    }
+
+    public void insertLessonContents(List<LessonContent> contents) {
+        insert("lesson_contents", null, contents, LessonContent::setId,
+                "INSERT INTO lesson_contents (id, content_type, content_data, media_url, lesson_id) VALUES (?, ?, ?, ?, ?)",
+                (ps, content) -> {
+                    ps.setLong(1, content.getId());
+                    ps.setString(2, content.getContentType() != null ? content.getContentType().name() : null);
+                    ps.setString(3, content.getContentData());
+                    ps.setString(4, content.getMediaUrl());
+                    ps.setLong(5, content.getLesson().getId());
+                });
+    }
+
+    public void insertQuizzes(List<Quiz> quizzes) {
+        insert("quizzes", null, quizzes, Quiz::setId,
+                "INSERT INTO quizzes (id, title, description, min_passing_score, lesson_id) VALUES (?, ?, ?, ?, ?)",
+                (ps, quiz) -> {
+                    ps.setLong(1, quiz.getId());
+                    ps.setString(2, quiz.getTitle());
+                    ps.setString(3, quiz.getDescription());
+                    ps.setInt(4, quiz.getMinPassingScore());
+                    ps.setLong(5, quiz.getLesson().getId());
+                });
+    }
+
+    public void insertQuestions(List<Question> questions) {
+        insert("questions", "questions_seq", questions, Question::setId,
+                "INSERT INTO questions (id, question_text, question_type, media_url, points, quiz_id, " +
+                        "certification_question, certification_level) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, question) -> {
+                    ps.setLong(1, question.getId());
+                    ps.setString(2, question.getQuestionText());
+                    ps.setString(3, question.getQuestionType() != null ? question.getQuestionType().name() : null);
+                    ps.setString(4, question.getMediaUrl());
+                    ps.setInt(5, question.getPoints());
+                    ps.setLong(6, question.getQuiz().getId());
+                    if (question.getCertificationQuestion() != null) {
+                        ps.setBoolean(7, question.getCertificationQuestion());
+                    } else {
+                        ps.setNull(7, Types.BOOLEAN);
+                    }
+                    ps.setString(8, question.getCertificationLevel());
+                });
+    }
+
+    public void insertOptions(List<Option> options) {
+        insert("options", "options_seq", options, Option::setId,
+                "INSERT INTO options (id, option_text, option_media, is_correct, question_id) VALUES (?, ?, ?, ?, ?)",
+                (ps, option) -> {
+                    ps.setLong(1, option.getId());
+                    ps.setString(2, option.getOptionText());
+                    ps.setString(3, option.getOptionMedia());
+                    ps.setBoolean(4, option.isCorrect());
+                    ps.setLong(5, option.getQuestion().getId());
+                });
+    }
+
+    public void insertUsers(List<User> users) {
+        insert("users", serialSequence("users", "user_id"), users, User::setId,
+                "INSERT INTO users (user_id, first_name, last_name, email, password, role) VALUES (?, ?, ?, ?, ?, ?)",
+                (ps, user) -> {
+                    ps.setLong(1, user.getId());
+                    ps.setString(2, user.getFirstName());
+                    ps.setString(3, user.getLastName());
+                    ps.setString(4, user.getEmail());
+                    ps.setString(5, user.getPassword());
+                    ps.setString(6, user.getRole().name());
+                });
+    }
+
+    /**
+     * Insert profiles together with their languages to learn
+     */
+    public void insertUserProfiles(List<UserProfile> profiles) {
+        insert("user_profiles", null, profiles, UserProfile::setId,
+                "INSERT INTO user_profiles (id, country, first_language, profile_picture, learning_reason, " +
+                        "daily_reminders, daily_goal_minutes, preferred_learning_time, user_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, profile) -> {
+                    ps.setLong(1, profile.getId());
+                    ps.setString(2, profile.getCountry());
+                    ps.setString(3, profile.getFirstLanguage());
+                    ps.setString(4, profile.getProfilePicture());
+                    ps.setString(5, profile.getReasonToLearn());
+                    ps.setBoolean(6, profile.isDailyReminders());
+                    ps.setInt(7, profile.getDailyGoalMinutes());
+                    ps.setString(8, profile.getPreferredLearningTime());
+                    ps.setLong(9, profile.getUser().getId());
+                });
+
+        List<Object[]> languageRows = new ArrayList<>();
+        for (UserProfile profile : profiles) {
+            if (profile.getLanguagesToLearn() != null) {
+                profile.getLanguagesToLearn().forEach(language ->
+                        languageRows.add(new Object[]{profile.getId(), language.getId()}));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_languages_to_learn (profile_id, language_id) VALUES (?, ?)",
+                languageRows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                });
+    }
+
+    public void insertQuizAttempts(List<UserQuizAttempt> attempts) {
+        insert("user_quiz_attempts", null, attempts, UserQuizAttempt::setId,
+                "INSERT INTO user_quiz_attempts (id, score, passed, attempted_at, user_id, quiz_id) VALUES (?, ?, ?, ?, ?, ?)",
+                (ps, attempt) -> {
+                    ps.setLong(1, attempt.getId());
+                    ps.setInt(2, attempt.getScore());
+                    ps.setBoolean(3, attempt.isPassed());
+                    ps.setTimestamp(4, Timestamp.valueOf(attempt.getAttemptedAt()));
+                    ps.setLong(5, attempt.getUser().getId());
+                    ps.setLong(6, attempt.getQuiz().getId());
+                });
+    }
+
+    public void insertNotifications(List<Notification> notifications) {
+        insert("notifications", "notifications_seq", notifications, Notification::setId,
+                "INSERT INTO notifications (id, user_id, message, timestamp, read, type, related_entity_id, " +
+                        "snoozed, priority, action_url, image_url) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, notification) -> {
+                    ps.setLong(1, notification.getId());
+                    ps.setLong(2, notification.getUser().getId());
+                    ps.setString(3, notification.getMessage());
+                    ps.setTimestamp(4, Timestamp.valueOf(notification.getTimestamp()));
+                    ps.setBoolean(5, notification.isRead());
+                    ps.setString(6, notification.getType().name());
+                    if (notification.getRelatedEntityId() != null) {
+                        ps.setLong(7, notification.getRelatedEntityId());
+                    } else {
+                        ps.setNull(7, Types.BIGINT);
+                    }
+                    ps.setBoolean(8, notification.isSnoozed());
+                    ps.setInt(9, notification.getPriority());
+                    ps.setString(10, notification.getActionUrl());
+                    ps.setString(11, notification.getImageUrl());
+                });
+    }
+
+    /**
+     * Empty tables in one statement, restarting their identity sequences. Tables with foreign
+     * keys into the set, directly or through other tables, are emptied as well, as TRUNCATE ...
+     * CASCADE would. Where the database user lacks the TRUNCATE privilege, falls back to one
+     * set-based DELETE per table, referencing tables before the tables they reference.
+     * @param tables Tables to empty, in any order
+     * @throws IllegalStateException If the foreign keys between the tables form a cycle
+     */
+    public void truncate(List<String> tables) {
+        long start = System.nanoTime();
+        List<String> ordered = referencingFirst(tables);
+        Boolean canTruncate = jdbcTemplate.queryForObject(
+                "SELECT bool_and(has_table_privilege(t, 'TRUNCATE')) FROM unnest(string_to_array(?, ',')) AS t",
+                Boolean.class, String.join(",", ordered));
+        if (Boolean.TRUE.equals(canTruncate)) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + String.join(", ", ordered) + " RESTART IDENTITY CASCADE");
+        } else {
+            log.warn("TRUNCATE not permitted on {}; deleting table by table", ordered);
+            for (String table : ordered) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+        }
+        log.info("Emptied {} tables in {} ms", ordered.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Private helper methods
+
+    /**
+     * The given tables plus every table referencing one of them, directly or through others,
+     * ordered so each table comes before the tables it references. Self-references are ignored:
+     * a single DELETE removes all rows of a table before its constraints are checked.
+     */
+    private List<String> referencingFirst(List<String> tables) {
+        // Child table -> parent table, one row per foreign key
+        List<String[]> references = jdbcTemplate.query(
+                "SELECT conrelid::regclass::text, confrelid::regclass::text FROM pg_constraint " +
+                        "WHERE contype = 'f' AND conrelid <> confrelid",
+                (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)});
+
+        Set<String> remaining = new LinkedHashSet<>(tables);
+        boolean grown = true;
+        while (grown) {
+            grown = false;
+            for (String[] reference : references) {
+                if (remaining.contains(reference[1]) && remaining.add(reference[0])) {
+                    grown = true;
+                }
+            }
+        }
+
+        List<String> ordered = new ArrayList<>(remaining.size());
+        while (!remaining.isEmpty()) {
+            List<String> unreferenced = remaining.stream()
+                    .filter(table -> references.stream()
+                            .noneMatch(reference -> reference[1].equals(table) && remaining.contains(reference[0])))
+                    .toList();
+            if (unreferenced.isEmpty()) {
+                throw new IllegalStateException("Foreign keys form a cycle between " + remaining
+                        + "; they cannot be emptied table by table");
+            }
+            ordered.addAll(unreferenced);
+            unreferenced.forEach(remaining::remove);
+        }
+        return ordered;
+    }
+
+    /**
+     * @param sequence ID sequence of the table, or null for an identity column
+     */
+    private <T> void insert(String table, String sequence, List<T> rows, BiConsumer<T, Long> idSetter, String sql,
+                            ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (sequence == null) {
+            sequence = serialSequence(table, "id");
+        }
+        List<Long> ids = allocateIds(sequence, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            idSetter.accept(rows.get(i), ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, setter);
+        log.debug("Inserted {} rows into {} in {} ms", rows.size(), table, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private String serialSequence(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, ?)", String.class, table, column);
+    }
+
+    /**
+     * Reserve IDs from a sequence, so explicit IDs never collide with rows inserted later through
+     * JPA. Each value of a sequence with increment n stands for the block of n IDs ending at it,
+     * which is how Hibernate's pooled optimizer reads pooled sequences; identity sequences have
+     * n = 1, so every value is one ID.
+     */
+    private List<Long> allocateIds(String sequence, int count) {
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT seqincrement FROM pg_sequence WHERE seqrelid = ?::regclass", Long.class, sequence);
+        long blockSize = increment != null && increment > 0 ? increment : 1;
+        int calls = (int) ((count + blockSize - 1) / blockSize);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : jdbcTemplate.queryForList(
+                "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, sequence, calls)) {
+            // The first value of a fresh sequence ends a partial block
+            for (long id = Math.max(1, blockEnd - blockSize + 1); id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        // Only a fresh sequence yields a partial block; top up from the next one
+        if (ids.size() < count) {
+            ids.addAll(allocateIds(sequence, count - ids.size()));
+        }
+        return ids;
+    }
+}
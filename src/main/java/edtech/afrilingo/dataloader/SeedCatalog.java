@@ -0,0 +1,107 @@
+package edtech.afrilingo.dataloader;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edtech.afrilingo.lesson.LessonType;
+import edtech.afrilingo.lesson.content.ContentType;
+import edtech.afrilingo.question.QuestionType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The seeded catalog as data: languages with their courses, and each course's lessons with their
+ * contents and quiz. Stored as JSON at {@link #RESOURCE}, generated from LanguageContentHelper by
+ * SeedCatalogGenerator (mvn -Pseed process-test-classes), and loaded by DataLoaderService, which
+ * only maps it to entities and bulk inserts them. Courses are identified by language code and
+ * title, lessons by title within their course.
+ *
+ * @param seedVersion DataLoaderService.SEED_VERSION the bundle was generated for
+ * @param languages Languages in insertion order
+ */
+public record SeedCatalog(int seedVersion, List<LanguageSeed> languages) {
+
+    public static final String RESOURCE = "seed/catalog.json";
+
+    // Absent fields read back as null, so they are left out
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    public record LanguageSeed(String name, String code, String description, String flagImage,
+                               List<CourseSeed> courses) {
+    }
+
+    public record CourseSeed(String title, String description, String level, String image, boolean active,
+                             List<LessonSeed> lessons) {
+    }
+
+    public record LessonSeed(String title, String description, LessonType type, int orderIndex, boolean required,
+                             List<ContentSeed> contents, QuizSeed quiz) {
+    }
+
+    public record ContentSeed(ContentType contentType, String contentData, String mediaUrl) {
+    }
+
+    public record QuizSeed(String title, String description, int minPassingScore, List<QuestionSeed> questions) {
+    }
+
+    public record QuestionSeed(String questionText, QuestionType questionType, String mediaUrl, int points,
+                               List<OptionSeed> options) {
+    }
+
+    public record OptionSeed(String optionText, String optionMedia, boolean correct) {
+    }
+
+    /**
+     * @return The bundle on the classpath, as stored
+     */
+    public static byte[] readResource() {
+        try (InputStream in = SeedCatalog.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Seed bundle " + RESOURCE + " is missing from the classpath");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read seed bundle " + RESOURCE, e);
+        }
+    }
+
+    public static SeedCatalog parse(byte[] json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, SeedCatalog.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse seed bundle " + RESOURCE, e);
+        }
+    }
+
+    public byte[] toJson() {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(this);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write seed bundle", e);
+        }
+    }
+
+    public Optional<LanguageSeed> language(String code) {
+        return languages.stream()
+                .filter(language -> language.code().equals(code))
+                .findFirst();
+    }
+
+    public Optional<CourseSeed> course(String languageCode, String title) {
+        return language(languageCode).flatMap(language -> language.courses().stream()
+                .filter(course -> course.title().equals(title))
+                .findFirst());
+    }
+
+    public Optional<LessonSeed> lesson(String languageCode, String courseTitle, String title) {
+        return course(languageCode, courseTitle).flatMap(course -> course.lessons().stream()
+                .filter(lesson -> lesson.title().equals(title))
+                .findFirst());
+    }
+}
@@ -0,0 +1,20 @@
+package edtech.afrilingo.dataloader;
+
+import java.util.List;
+
+/**
+ * Timing of a full seed run
+ *
+ * @param stages Stages in dependency order
+ * @param totalMillis Wall-clock time of the whole run; less than the sum of the stages when branches overlapped
+ */
+public record SeedReport(List<Stage> stages, long totalMillis) {
+
+    /**
+     * @param name Stage name
+     * @param millis Wall-clock time of the stage, including its commit
+     * @param rowsWritten Rows inserted; 0 when the tables already held data and the stage only read it
+     */
+    public record Stage(String name, long millis, int rowsWritten) {
+    }
+}
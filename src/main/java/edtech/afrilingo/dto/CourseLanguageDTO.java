@@ -0,0 +1,21 @@
+package edtech.afrilingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Language nested in course responses, with the fields the Course entity used to serialize for it
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseLanguageDTO {
+    private Long id;
+    private String name;
+    private String code;
+    private String description;
+    private String flagImage;
+}
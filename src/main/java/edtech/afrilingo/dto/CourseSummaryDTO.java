@@ -5,17 +5,32 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Course as served by the course read endpoints, in the shape the Course entity used to serialize
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class CourseSummaryDTO {
     private Long id;
+    private Long version;
     private String title;
     private String description;
     private String level;
     private String image;
     private boolean active;
-    private Long languageId;
-    private String languageName;
+    private CourseLanguageDTO language;
+
+    /**
+     * Target of CourseRepository.SUMMARY_SELECT, which selects the joined language's columns flat
+     */
+    public CourseSummaryDTO(Long id, Long version, String title, String description, String level, String image,
+                            Boolean active, Long languageId, String languageName, String languageCode,
+                            String languageDescription, String languageFlagImage) {
+        this(id, version, title, description, level, image, Boolean.TRUE.equals(active),
+                languageId != null
+                        ? new CourseLanguageDTO(languageId, languageName, languageCode, languageDescription, languageFlagImage)
+                        : null);
+    }
 }
@@ -0,0 +1,20 @@
+package edtech.afrilingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LanguageCourseDTO {
+    private Long id;
+    private Long version;
+    private String title;
+    private String description;
+    private String level;
+    private String image;
+    private boolean active;
+}
@@ -0,0 +1,24 @@
+package edtech.afrilingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Language as served by /api/v1/languages, with its courses nested the way the entity used to serialize them
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LanguageDTO {
+    private Long id;
+    private String name;
+    private String code;
+    private String description;
+    private String flagImage;
+    private List<LanguageCourseDTO> courses;
+}
@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Lesson as served by the lesson read endpoints, in the shape the Lesson entity used to serialize
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,6 +20,21 @@ public class LessonSummaryDTO {
     private LessonType type;
     private int orderIndex;
     private boolean required;
-    private Long courseId;
-    private String courseTitle;
+    private CourseSummaryDTO course;
+
+    /**
+     * Target of LessonRepository.SUMMARY_SELECT, which selects the joined course's and language's columns flat
+     */
+    public LessonSummaryDTO(Long id, String title, String description, LessonType type, Integer orderIndex,
+                            Boolean required, Long courseId, Long courseVersion, String courseTitle,
+                            String courseDescription, String courseLevel, String courseImage, Boolean courseActive,
+                            Long languageId, String languageName, String languageCode,
+                            String languageDescription, String languageFlagImage) {
+        this(id, title, description, type, orderIndex != null ? orderIndex : 0, Boolean.TRUE.equals(required),
+                courseId != null
+                        ? new CourseSummaryDTO(courseId, courseVersion, courseTitle, courseDescription, courseLevel,
+                                courseImage, courseActive, languageId, languageName, languageCode,
+                                languageDescription, languageFlagImage)
+                        : null);
+    }
 }
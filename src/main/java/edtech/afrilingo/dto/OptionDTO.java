@@ -0,0 +1,23 @@
+package edtech.afrilingo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Answer option. {@code correct} is only set for question management; it is left null (and
+ * omitted from JSON) wherever the learner must not see the answer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OptionDTO {
+    private Long id;
+    private String optionText;
+    private String optionMedia;
+    private Boolean correct;
+}
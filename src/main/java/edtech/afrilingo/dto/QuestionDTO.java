@@ -0,0 +1,23 @@
+package edtech.afrilingo.dto;
+
+import edtech.afrilingo.question.QuestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionDTO {
+    private Long id;
+    private String questionText;
+    private QuestionType questionType;
+    private String mediaUrl;
+    private int points;
+    private Long quizId;
+    private List<OptionDTO> options;
+}
@@ -1,8 +1,11 @@
 package edtech.afrilingo.language;
 
 import edtech.afrilingo.course.Course;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +18,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "languages")
 public class Language {
     @Id
@@ -26,7 +31,9 @@ public class Language {
     private String description;
     private String flagImage;
     // Relationships
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "language", cascade = CascadeType.ALL)
     @JsonIgnoreProperties("language")
+    @JsonIgnore // languages are cached detached; responses nest courses through LanguageDTOMapper
     private List<Course> courses;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package edtech.afrilingo.language;
 
 import edtech.afrilingo.dto.ApiResponse;
+import edtech.afrilingo.dto.LanguageDTO;
 import edtech.afrilingo.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +20,7 @@ import java.util.List;
 public class LanguageController {
 
     private final LanguageService languageService;
+    private final LanguageDTOMapper languageDTOMapper;
 
     @Operation(
             summary = "Get all languages",
@@ -29,35 +31,35 @@ public class LanguageController {
                     content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Language>>> getAllLanguages() {
-        List<Language> languages = languageService.getAllLanguages();
+    public ResponseEntity<ApiResponse<List<LanguageDTO>>> getAllLanguages() {
+        List<LanguageDTO> languages = languageDTOMapper.toDTOsOfAll(languageService.getAllLanguages());
         return ResponseEntity.ok(ApiResponse.success(languages));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Language>> getLanguageById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<LanguageDTO>> getLanguageById(@PathVariable Long id) {
         Language language = languageService.getLanguageById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Language", "id", id));
-        return ResponseEntity.ok(ApiResponse.success(language));
+        return ResponseEntity.ok(ApiResponse.success(languageDTOMapper.toDTO(language)));
     }
 
     @GetMapping("/code/{code}")
-    public ResponseEntity<ApiResponse<Language>> getLanguageByCode(@PathVariable String code) {
+    public ResponseEntity<ApiResponse<LanguageDTO>> getLanguageByCode(@PathVariable String code) {
         Language language = languageService.getLanguageByCode(code)
                 .orElseThrow(() -> new ResourceNotFoundException("Language", "code", code));
-        return ResponseEntity.ok(ApiResponse.success(language));
+        return ResponseEntity.ok(ApiResponse.success(languageDTOMapper.toDTO(language)));
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<Language>> createLanguage(@RequestBody Language language) {
+    public ResponseEntity<ApiResponse<LanguageDTO>> createLanguage(@RequestBody Language language) {
         Language createdLanguage = languageService.createLanguage(language);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(ApiResponse.success(createdLanguage, "Language created successfully"));
+                .body(ApiResponse.success(languageDTOMapper.toDTO(createdLanguage), "Language created successfully"));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Language>> updateLanguage(
+    public ResponseEntity<ApiResponse<LanguageDTO>> updateLanguage(
             @PathVariable Long id,
             @RequestBody Language languageDetails
     ) {
@@ -66,7 +68,7 @@ public class LanguageController {
         }
 
         Language updatedLanguage = languageService.updateLanguage(id, languageDetails);
-        return ResponseEntity.ok(ApiResponse.success(updatedLanguage, "Language updated successfully"));
+        return ResponseEntity.ok(ApiResponse.success(languageDTOMapper.toDTO(updatedLanguage), "Language updated successfully"));
     }
 
     @DeleteMapping("/{id}")
@@ -83,4 +85,4 @@ public class LanguageController {
                         .build()
         );
     }
-}
\ No newline at end of file
+}
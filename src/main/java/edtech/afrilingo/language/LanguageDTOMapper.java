@@ -0,0 +1,69 @@
+package edtech.afrilingo.language;
+
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.course.CourseService;
+import edtech.afrilingo.dto.LanguageCourseDTO;
+import edtech.afrilingo.dto.LanguageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps languages to the LanguageDTO every endpoint serves them as, with their courses nested the
+ * way the entity used to serialize them. Languages are cached detached, so the courses come from
+ * the course caches rather than Language.courses.
+ */
+@Component
+@RequiredArgsConstructor
+public class LanguageDTOMapper {
+
+    private final CourseService courseService;
+
+    public LanguageDTO toDTO(Language language) {
+        return toDTO(language, courseService.getCoursesByLanguageId(language.getId()));
+    }
+
+    public List<LanguageDTO> toDTOs(List<Language> languages) {
+        return languages.stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Every language with its courses, grouped from one read of the course catalog
+     */
+    public List<LanguageDTO> toDTOsOfAll(List<Language> languages) {
+        Map<Long, List<Course>> coursesByLanguage = courseService.getAllCourses().stream()
+                .filter(course -> course.getLanguage() != null)
+                .collect(Collectors.groupingBy(course -> course.getLanguage().getId()));
+        return languages.stream()
+                .map(language -> toDTO(language, coursesByLanguage.getOrDefault(language.getId(), List.of())))
+                .toList();
+    }
+
+    // Private helper methods
+
+    private LanguageDTO toDTO(Language language, List<Course> courses) {
+        return LanguageDTO.builder()
+                .id(language.getId())
+                .name(language.getName())
+                .code(language.getCode())
+                .description(language.getDescription())
+                .flagImage(language.getFlagImage())
+                .courses(courses.stream()
+                        .map(course -> LanguageCourseDTO.builder()
+                                .id(course.getId())
+                                .version(course.getVersion())
+                                .title(course.getTitle())
+                                .description(course.getDescription())
+                                .level(course.getLevel())
+                                .image(course.getImage())
+                                .active(course.isActive())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
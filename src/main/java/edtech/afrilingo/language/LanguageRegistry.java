@@ -0,0 +1,133 @@
+package edtech.afrilingo.language;
+
+import edtech.afrilingo.config.cache.CatalogVersions;
+import edtech.afrilingo.config.cache.CatalogVersions.Area;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * All languages in memory, indexed by ID and by normalized code.
+ * The whole catalog is a few rows, so it is held as one immutable snapshot and replaced as a
+ * whole: when the language catalog version moves (LanguageServiceImpl invalidated the language
+ * area after a create, update or delete, on this node or another, or a bulk load cleared the
+ * catalog), the next read loads a fresh snapshot and swaps it in. Readers never lock and never
+ * see a half-built index.
+ * Languages are detached entities shared by all callers; treat them as read-only.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LanguageRegistry {
+
+    private static final Set<Area> AREAS = EnumSet.of(Area.LANGUAGES);
+
+    private record Snapshot(long version, List<Language> languages, Map<Long, Language> byId, Map<String, Language> byCode) {
+    }
+
+    private final LanguageRepository languageRepository;
+    private final CatalogVersions catalogVersions;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        current();
+    }
+
+    /**
+     * @return Every language, in ID order
+     */
+    public List<Language> getAll() {
+        return current().languages();
+    }
+
+    public Optional<Language> findById(Long id) {
+        return id != null ? Optional.ofNullable(current().byId().get(id)) : Optional.empty();
+    }
+
+    /**
+     * Find a language by code, ignoring case and surrounding whitespace
+     */
+    public Optional<Language> findByCode(String code) {
+        return code != null ? Optional.ofNullable(current().byCode().get(normalizeCode(code))) : Optional.empty();
+    }
+
+    /**
+     * Resolve IDs in one pass
+     * @param ids Language IDs
+     * @return Languages in the order of the IDs, unknown IDs skipped
+     */
+    public List<Language> findAllById(Collection<Long> ids) {
+        Map<Long, Language> byId = current().byId();
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolve client-supplied language references, by ID when set and by code otherwise
+     * @param references Languages carrying an ID or a code
+     * @return Matching catalog languages in the order of the references, unknown ones skipped
+     */
+    public List<Language> resolve(Collection<Language> references) {
+        Snapshot current = current();
+        List<Language> languages = new ArrayList<>();
+        for (Language reference : references) {
+            Language language = null;
+            if (reference.getId() != null) {
+                language = current.byId().get(reference.getId());
+            } else if (reference.getCode() != null) {
+                language = current.byCode().get(normalizeCode(reference.getCode()));
+            }
+            if (language != null) {
+                languages.add(language);
+            }
+        }
+        return languages;
+    }
+
+    static String normalizeCode(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Private helper methods
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == catalogVersions.version(AREAS)) {
+            return current;
+        }
+        return reload();
+    }
+
+    private synchronized Snapshot reload() {
+        // Read before loading: a change committed meanwhile leaves this snapshot already stale
+        long version = catalogVersions.version(AREAS);
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot;
+        }
+
+        List<Language> languages = languageRepository.findAll().stream()
+                .sorted(Comparator.comparing(Language::getId))
+                .toList();
+        Map<Long, Language> byId = languages.stream()
+                .collect(Collectors.toUnmodifiableMap(Language::getId, Function.identity()));
+        Map<String, Language> byCode = languages.stream()
+                .filter(language -> language.getCode() != null)
+                .collect(Collectors.toUnmodifiableMap(language -> normalizeCode(language.getCode()),
+                        Function.identity(), (first, duplicate) -> first));
+
+        snapshot = new Snapshot(version, languages, byId, byCode);
+        log.debug("Loaded {} languages at version {}", languages.size(), version);
+        return snapshot;
+    }
+}
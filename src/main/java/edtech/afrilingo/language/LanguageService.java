@@ -31,6 +31,13 @@ public interface LanguageService {
      * @return Optional containing the language if found
      */
     Optional<Language> getLanguageByCode(String code);
+
+    /**
+     * Resolve language references (each carrying an ID or a code) to catalog languages
+     * @param references Language references
+     * @return Matching languages in the given order, unknown references skipped
+     */
+    List<Language> resolveLanguages(List<Language> references);
     
     /**
      * Create a new language
@@ -1,5 +1,8 @@
 package edtech.afrilingo.language;
 
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.config.cache.CatalogVersions.Area;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -7,30 +10,40 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
+import static edtech.afrilingo.config.CacheConfig.*;
+
 @Service
 @RequiredArgsConstructor
 public class LanguageServiceImpl implements LanguageService {
 
     private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchService searchService;
 
     @Override
     public List<Language> getAllLanguages() {
-        return languageRepository.findAll();
+        return languageRegistry.getAll();
     }
 
     @Override
     public Optional<Language> getLanguageById(Long id) {
-        return languageRepository.findById(id);
+        return languageRegistry.findById(id);
     }
 
     @Override
     public List<Language> getLanguagesByIds(List<Long> ids) {
-        return languageRepository.findAllByIdIn(ids);
+        return languageRegistry.findAllById(ids);
     }
 
     @Override
     public Optional<Language> getLanguageByCode(String code) {
-        return languageRepository.findByCode(code);
+        return languageRegistry.findByCode(code);
+    }
+
+    @Override
+    public List<Language> resolveLanguages(List<Language> references) {
+        return languageRegistry.resolve(references);
     }
 
     @Override
@@ -46,7 +59,9 @@ public class LanguageServiceImpl implements LanguageService {
             throw new IllegalArgumentException("Language with code " + language.getCode() + " already exists");
         }
         
-        return languageRepository.save(language);
+        Language saved = languageRepository.save(language);
+        evictLanguage(null);
+        return saved;
     }
 
     @Override
@@ -77,6 +92,7 @@ public class LanguageServiceImpl implements LanguageService {
                         existingLanguage.setFlagImage(languageDetails.getFlagImage());
                     }
                     
+                    evictLanguage(id);
                     return languageRepository.save(existingLanguage);
                 })
                 .orElseThrow(() -> new RuntimeException("Language not found with id " + id));
@@ -88,6 +104,7 @@ public class LanguageServiceImpl implements LanguageService {
         return languageRepository.findById(id)
                 .map(language -> {
                     languageRepository.delete(language);
+                    evictLanguage(id);
                     return true;
                 })
                 .orElse(false);
@@ -102,4 +119,23 @@ public class LanguageServiceImpl implements LanguageService {
     public boolean existsByCode(String code) {
         return languageRepository.existsByCode(code);
     }
-}
\ No newline at end of file
+
+    /**
+     * Invalidate the language catalog after commit. Bumping the languages area version on
+     * every node makes LanguageRegistry reload.
+     * Every catalog value embeds its language, so changes to an existing language clear the
+     * downstream catalog caches too; this happens only on admin edits.
+     * @param languageId Language ID (null for a new language)
+     */
+    private void evictLanguage(Long languageId) {
+        cacheInvalidator.invalidate(Area.LANGUAGES);
+        if (languageId != null) {
+            cacheInvalidator.clear(COURSES_CACHE, COURSE_BY_ID_CACHE, COURSES_BY_LANGUAGE_CACHE,
+                    LESSONS_CACHE, LESSON_BY_ID_CACHE, LESSONS_BY_COURSE_CACHE,
+                    QUIZ_BY_ID_CACHE, QUIZZES_BY_LESSON_CACHE,
+                    LESSON_CONTENTS_CACHE, LESSON_CONTENT_BY_ID_CACHE, LESSON_CONTENTS_BY_LESSON_CACHE,
+                    COURSE_BUNDLE_CACHE);
+            searchService.requestRebuild();
+        }
+    }
+}
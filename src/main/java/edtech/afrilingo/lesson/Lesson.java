@@ -6,6 +6,8 @@ import edtech.afrilingo.quiz.Quiz;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,8 +20,15 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "lessons")
 public class Lesson {
+
+    // Order keys are spaced this far apart, so a lesson can usually move between two neighbours
+    // by rewriting only its own key
+    public static final int ORDER_GAP = 1024;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,6 +37,8 @@ public class Lesson {
     @Enumerated(EnumType.STRING)
     private LessonType type; // AUDIO, READING, IMAGE_OBJECT
 
+    // Sort key within the course, not a position: keys are ORDER_GAP apart, or between two
+    // neighbours after a move
     private int orderIndex;
     private boolean isRequired;
 
@@ -41,6 +52,7 @@ public class Lesson {
     @JsonIgnore // prevent large content graphs on lesson responses
     private List<LessonContent> contents;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "lesson", cascade = CascadeType.ALL)
     @JsonIgnoreProperties("lesson")
     @JsonIgnore // prevent large quiz/question graphs on lesson responses
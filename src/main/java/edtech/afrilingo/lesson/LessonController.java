@@ -1,11 +1,13 @@
 package edtech.afrilingo.lesson;
 
+import edtech.afrilingo.dto.LessonSummaryDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 
 @RestController
@@ -16,32 +18,36 @@ public class LessonController {
     private final  LessonService lessonService;
 
     @GetMapping
-    public ResponseEntity<List<Lesson>> getAllLessons() {
-        return ResponseEntity.ok(lessonService.getAllLessons());
+    public ResponseEntity<List<LessonSummaryDTO>> getAllLessons() {
+        return ResponseEntity.ok(lessonService.getLessonSummaries());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Lesson> getLessonById(@PathVariable Long id) {
-        return lessonService.getLessonById(id)
+    public ResponseEntity<LessonSummaryDTO> getLessonById(@PathVariable Long id) {
+        return lessonService.getLessonSummaryById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/course/{courseId}")
-    public ResponseEntity<List<Lesson>> getLessonsByCourseId(@PathVariable Long courseId) {
-        return ResponseEntity.ok(lessonService.getLessonsByCourseId(courseId));
+    public ResponseEntity<List<LessonSummaryDTO>> getLessonsByCourseId(@PathVariable Long courseId) {
+        // One lesson per title, as before; the first in course order wins
+        LinkedHashMap<String, LessonSummaryDTO> byTitle = new LinkedHashMap<>();
+        lessonService.getLessonSummariesByCourseIdOrdered(courseId)
+                .forEach(lesson -> byTitle.putIfAbsent(lesson.getTitle(), lesson));
+        return ResponseEntity.ok(List.copyOf(byTitle.values()));
     }
 
     @GetMapping("/course/{courseId}/ordered")
-    public ResponseEntity<List<Lesson>> getLessonsByCourseIdOrdered(@PathVariable Long courseId) {
-        return ResponseEntity.ok(lessonService.getLessonsByCourseIdOrdered(courseId));
+    public ResponseEntity<List<LessonSummaryDTO>> getLessonsByCourseIdOrdered(@PathVariable Long courseId) {
+        return ResponseEntity.ok(lessonService.getLessonSummariesByCourseIdOrdered(courseId));
     }
 
     @GetMapping("/type/{lessonType}")
-    public ResponseEntity<List<Lesson>> getLessonsByType(
+    public ResponseEntity<List<LessonSummaryDTO>> getLessonsByType(
             @PathVariable LessonType lessonType
     ) {
-        return ResponseEntity.ok(lessonService.getLessonsByType(lessonType));
+        return ResponseEntity.ok(lessonService.getLessonSummariesByType(lessonType));
     }
 
     @PostMapping
@@ -84,6 +90,18 @@ public class LessonController {
         }
     }
 
+    @PostMapping("/{id}/move")
+    public ResponseEntity<Lesson> moveLesson(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after
+    ) {
+        try {
+            return ResponseEntity.ok(lessonService.moveLesson(id, after));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLesson(@PathVariable Long id) {
         if (!lessonService.existsById(id)) {
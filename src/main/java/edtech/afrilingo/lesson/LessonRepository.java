@@ -1,9 +1,14 @@
 package edtech.afrilingo.lesson;
 
+import edtech.afrilingo.dto.LessonSummaryDTO;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
     @EntityGraph(attributePaths = {"course"})
@@ -11,6 +16,37 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
     @EntityGraph(attributePaths = {"course"})
     List<Lesson> findByCourseIdOrderByOrderIndex(Long courseId);
     List<Lesson> findByType(LessonType type);
-    List<Lesson> findByCourseIdAndOrderIndexGreaterThan(Long courseId, Integer orderIndex);
     int countByCourseId(Long courseId);
+
+    @Query("SELECT MAX(l.orderIndex) FROM Lesson l WHERE l.course.id = :courseId")
+    Integer findMaxOrderIndexByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Find the order keys of a course without loading its lessons
+     * @return Rows of [lesson ID, order index], in course order
+     */
+    @Query("SELECT l.id, l.orderIndex FROM Lesson l WHERE l.course.id = :courseId ORDER BY l.orderIndex, l.id")
+    List<Object[]> findOrderKeysByCourseId(@Param("courseId") Long courseId);
+
+    @Query("SELECT DISTINCT l.course.id FROM Lesson l WHERE l.id IN :lessonIds")
+    List<Long> findCourseIdsByLessonIds(@Param("lessonIds") Collection<Long> lessonIds);
+
+    // Read projections: only the columns the endpoints return, course and language joined in the same query
+    String SUMMARY_SELECT = "SELECT new edtech.afrilingo.dto.LessonSummaryDTO(" +
+            "l.id, l.title, l.description, l.type, l.orderIndex, l.isRequired, " +
+            "c.id, c.version, c.title, c.description, c.level, c.image, c.isActive, " +
+            "lang.id, lang.name, lang.code, lang.description, lang.flagImage) " +
+            "FROM Lesson l LEFT JOIN l.course c LEFT JOIN c.language lang ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY l.id")
+    List<LessonSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE l.id = :id")
+    Optional<LessonSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE c.id = :courseId ORDER BY l.orderIndex, l.id")
+    List<LessonSummaryDTO> findSummariesByCourseIdOrdered(@Param("courseId") Long courseId);
+
+    @Query(SUMMARY_SELECT + "WHERE l.type = :type ORDER BY l.id")
+    List<LessonSummaryDTO> findSummariesByType(@Param("type") LessonType type);
 }
\ No newline at end of file
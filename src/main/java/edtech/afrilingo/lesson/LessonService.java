@@ -1,5 +1,7 @@
 package edtech.afrilingo.lesson;
 
+import edtech.afrilingo.dto.LessonSummaryDTO;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +40,33 @@ public interface LessonService {
      * @return List of lessons of the given type
      */
     List<Lesson> getLessonsByType(LessonType lessonType);
+
+    /**
+     * Get all lessons as summaries, read straight from the query without loading entities
+     * @return List of lesson summaries
+     */
+    List<LessonSummaryDTO> getLessonSummaries();
+
+    /**
+     * Get lesson summary by ID
+     * @param id Lesson ID
+     * @return Optional containing the lesson summary if found
+     */
+    Optional<LessonSummaryDTO> getLessonSummaryById(Long id);
+
+    /**
+     * Get lesson summaries by course ID, ordered by orderIndex
+     * @param courseId Course ID
+     * @return Ordered list of lesson summaries
+     */
+    List<LessonSummaryDTO> getLessonSummariesByCourseIdOrdered(Long courseId);
+
+    /**
+     * Get lesson summaries by type
+     * @param lessonType Lesson type
+     * @return List of lesson summaries of the given type
+     */
+    List<LessonSummaryDTO> getLessonSummariesByType(LessonType lessonType);
     
     /**
      * Create a new lesson
@@ -68,6 +97,15 @@ public interface LessonService {
      * @return Updated lessons
      */
     List<Lesson> reorderLessons(Long courseId, List<Long> lessonIds);
+
+    /**
+     * Move a lesson within its course. Usually only the moved lesson's order key changes;
+     * the course is respaced when its neighbours leave no room.
+     * @param lessonId Lesson to move
+     * @param afterLessonId Lesson to place it after, or null to make it the first lesson
+     * @return Moved lesson
+     */
+    Lesson moveLesson(Long lessonId, Long afterLessonId);
     
     /**
      * Check if lesson exists by ID
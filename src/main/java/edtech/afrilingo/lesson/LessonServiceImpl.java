@@ -1,16 +1,23 @@
 package edtech.afrilingo.lesson;
 
+import edtech.afrilingo.config.CacheInvalidator;
 import edtech.afrilingo.course.CourseService;
+import edtech.afrilingo.dto.LessonSummaryDTO;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-import static edtech.afrilingo.config.CacheConfig.LESSONS_CACHE;
+import static edtech.afrilingo.config.CacheConfig.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +26,12 @@ public class LessonServiceImpl implements LessonService {
 
     private final LessonRepository lessonRepository;
     private final CourseService courseService;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchService searchService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Two bind parameters per row; far below the PostgreSQL limit of 32767
+    private static final int MAX_ROWS_PER_ORDER_UPDATE = 5_000;
 
     @Override
     @Cacheable(cacheNames = LESSONS_CACHE)
@@ -27,6 +40,7 @@ public class LessonServiceImpl implements LessonService {
     }
 
     @Override
+    @Cacheable(cacheNames = LESSONS_BY_COURSE_CACHE, key = "'distinct:' + #courseId")
     public List<Lesson> getLessonsByCourseId(Long courseId) {
         return lessonRepository.findByCourseId(courseId)
                 .stream()
@@ -42,11 +56,13 @@ public class LessonServiceImpl implements LessonService {
 
 
     @Override
+    @Cacheable(cacheNames = LESSONS_BY_COURSE_CACHE, key = "'ordered:' + #courseId")
     public List<Lesson> getLessonsByCourseIdOrdered(Long courseId) {
         return lessonRepository.findByCourseIdOrderByOrderIndex(courseId);
     }
 
     @Override
+    @Cacheable(cacheNames = LESSON_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Lesson> getLessonById(Long id) {
         return lessonRepository.findById(id);
     }
@@ -56,9 +72,31 @@ public class LessonServiceImpl implements LessonService {
         return lessonRepository.findByType(lessonType);
     }
 
+    @Override
+    @Cacheable(cacheNames = LESSONS_CACHE, key = "'summaries'")
+    public List<LessonSummaryDTO> getLessonSummaries() {
+        return lessonRepository.findAllSummaries();
+    }
+
+    @Override
+    @Cacheable(cacheNames = LESSON_BY_ID_CACHE, key = "'summary:' + #id", unless = "#result == null")
+    public Optional<LessonSummaryDTO> getLessonSummaryById(Long id) {
+        return lessonRepository.findSummaryById(id);
+    }
+
+    @Override
+    @Cacheable(cacheNames = LESSONS_BY_COURSE_CACHE, key = "'summary:' + #courseId")
+    public List<LessonSummaryDTO> getLessonSummariesByCourseIdOrdered(Long courseId) {
+        return lessonRepository.findSummariesByCourseIdOrdered(courseId);
+    }
+
+    @Override
+    public List<LessonSummaryDTO> getLessonSummariesByType(LessonType lessonType) {
+        return lessonRepository.findSummariesByType(lessonType);
+    }
+
     @Override
     @Transactional
-    @CacheEvict(cacheNames = LESSONS_CACHE, allEntries = true)
     public Lesson createLesson(Lesson lesson) {
         // Validate lesson data
         if (lesson.getTitle() == null || lesson.getCourse() == null || lesson.getCourse().getId() == null) {
@@ -76,22 +114,24 @@ public class LessonServiceImpl implements LessonService {
             lesson.setRequired(true);
         }
 
-        // Set order index if it's the default value (0)
+        // Set order index if it's the default value (0): append one gap after the last lesson
         if (lesson.getOrderIndex() == 0) {
-            // Get the count of existing lessons in the course and set order index to that value
-            int lessonCount = lessonRepository.countByCourseId(lesson.getCourse().getId());
-            lesson.setOrderIndex(lessonCount);
+            Integer lastIndex = lessonRepository.findMaxOrderIndexByCourseId(lesson.getCourse().getId());
+            lesson.setOrderIndex((lastIndex != null ? lastIndex : 0) + Lesson.ORDER_GAP);
         }
 
-        return lessonRepository.save(lesson);
+        Lesson saved = lessonRepository.save(lesson);
+        evictLesson(null, saved.getCourse().getId());
+        return saved;
     }
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = LESSONS_CACHE, allEntries = true)
     public Lesson updateLesson(Long id, Lesson lessonDetails) {
         return lessonRepository.findById(id)
                 .map(existingLesson -> {
+                    Long previousCourseId = courseIdOf(existingLesson);
+
                     // Update fields
                     if (lessonDetails.getTitle() != null) {
                         existingLesson.setTitle(lessonDetails.getTitle());
@@ -125,6 +165,7 @@ public class LessonServiceImpl implements LessonService {
                         existingLesson.setCourse(lessonDetails.getCourse());
                     }
 
+                    evictLesson(id, previousCourseId, courseIdOf(existingLesson));
                     return lessonRepository.save(existingLesson);
                 })
                 .orElseThrow(() -> new RuntimeException("Lesson not found with id " + id));
@@ -135,9 +176,9 @@ public class LessonServiceImpl implements LessonService {
     public boolean deleteLesson(Long id) {
         return lessonRepository.findById(id)
                 .map(lesson -> {
+                    // Order keys are sparse, so the remaining lessons keep theirs
                     lessonRepository.delete(lesson);
-                    // Reorder remaining lessons
-                    reorderAfterDelete(lesson.getCourse().getId(), lesson.getOrderIndex());
+                    evictLesson(id, lesson.getCourse().getId());
                     return true;
                 })
                 .orElse(false);
@@ -151,34 +192,79 @@ public class LessonServiceImpl implements LessonService {
             throw new IllegalArgumentException("Course with id " + courseId + " not found");
         }
 
-        // Verify all lessons exist and belong to the course
-        List<Lesson> lessons = lessonRepository.findAllById(lessonIds);
-
-        if (lessons.size() != lessonIds.size()) {
-            throw new IllegalArgumentException("Some lesson IDs are invalid");
-        }
-
-        for (Lesson lesson : lessons) {
-            if (!lesson.getCourse().getId().equals(courseId)) {
-                throw new IllegalArgumentException("Lesson with id " + lesson.getId() +
-                        " does not belong to course with id " + courseId);
+        // Verify all lessons exist and belong to the course, without loading them
+        Set<Long> courseLessonIds = lessonRepository.findOrderKeysByCourseId(courseId).stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toSet());
+        for (Long lessonId : lessonIds) {
+            if (!courseLessonIds.contains(lessonId)) {
+                if (lessonId != null && lessonRepository.existsById(lessonId)) {
+                    throw new IllegalArgumentException("Lesson with id " + lessonId +
+                            " does not belong to course with id " + courseId);
+                }
+                throw new IllegalArgumentException("Some lesson IDs are invalid");
             }
         }
+        if (new HashSet<>(lessonIds).size() != lessonIds.size()) {
+            throw new IllegalArgumentException("Lesson IDs must not repeat");
+        }
 
-        // Update order indexes
-        List<Lesson> updatedLessons = new ArrayList<>();
-        for (int i = 0; i < lessonIds.size(); i++) {
-            Long lessonId = lessonIds.get(i);
-            for (Lesson lesson : lessons) {
-                if (lesson.getId().equals(lessonId)) {
-                    lesson.setOrderIndex(i);
-                    updatedLessons.add(lessonRepository.save(lesson));
+        writeOrderKeys(courseId, lessonIds);
+        evictOrder(courseId, lessonIds);
+
+        // Read back after the bulk update, in the requested order
+        Map<Long, Lesson> lessonsById = lessonRepository.findAllById(lessonIds).stream()
+                .collect(Collectors.toMap(Lesson::getId, lesson -> lesson));
+        return lessonIds.stream().map(lessonsById::get).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Lesson moveLesson(Long lessonId, Long afterLessonId) {
+        Lesson lesson = lessonRepository.findById(lessonId)
+                .orElseThrow(() -> new IllegalArgumentException("Lesson with id " + lessonId + " not found"));
+        Long courseId = courseIdOf(lesson);
+
+        // Course order without the moving lesson
+        List<Object[]> keys = new ArrayList<>(lessonRepository.findOrderKeysByCourseId(courseId));
+        keys.removeIf(row -> row[0].equals(lessonId));
+
+        int position = 0;
+        if (afterLessonId != null) {
+            position = -1;
+            for (int i = 0; i < keys.size(); i++) {
+                if (keys.get(i)[0].equals(afterLessonId)) {
+                    position = i + 1;
                     break;
                 }
             }
+            if (position < 0) {
+                throw new IllegalArgumentException("Lesson with id " + afterLessonId +
+                        " does not belong to course with id " + courseId);
+            }
+        }
+
+        Integer previousKey = position > 0 ? (Integer) keys.get(position - 1)[1] : null;
+        Integer nextKey = position < keys.size() ? (Integer) keys.get(position)[1] : null;
+        Integer key = keyBetween(previousKey, nextKey);
+
+        if (key != null) {
+            // The common case: only this lesson's row changes
+            lesson.setOrderIndex(key);
+            Lesson saved = lessonRepository.save(lesson);
+            evictOrder(courseId, List.of(lessonId));
+            return saved;
         }
 
-        return updatedLessons;
+        // No room left between the neighbours: respace the whole course in one statement
+        List<Long> orderedIds = new ArrayList<>();
+        keys.forEach(row -> orderedIds.add((Long) row[0]));
+        orderedIds.add(position, lessonId);
+        writeOrderKeys(courseId, orderedIds);
+        evictOrder(courseId, orderedIds);
+        // Keep the managed entity in line with the row written above
+        lesson.setOrderIndex((position + 1) * Lesson.ORDER_GAP);
+        return lesson;
     }
 
     @Override
@@ -187,17 +273,78 @@ public class LessonServiceImpl implements LessonService {
     }
 
     /**
-     * Helper method to reorder lessons after a deletion
-     * @param courseId Course ID
-     * @param deletedIndex Index of the deleted lesson
+     * Order key strictly between two neighbours, or null if they are adjacent
+     * @param previousKey Key of the lesson before (null at the start)
+     * @param nextKey Key of the lesson after (null at the end)
      */
-    private void reorderAfterDelete(Long courseId, int deletedIndex) {
-        List<Lesson> lessonsToUpdate = lessonRepository.findByCourseIdAndOrderIndexGreaterThan(
-                courseId, deletedIndex);
-
-        lessonsToUpdate.forEach(lesson -> {
-            lesson.setOrderIndex(lesson.getOrderIndex() - 1);
-            lessonRepository.save(lesson);
-        });
+    static Integer keyBetween(Integer previousKey, Integer nextKey) {
+        if (nextKey == null) {
+            return (previousKey != null ? previousKey : 0) + Lesson.ORDER_GAP;
+        }
+        // Keys stay positive, so 0 still means "not set" on create and update
+        int lower = previousKey != null ? previousKey : 0;
+        return nextKey - lower >= 2 ? lower + (nextKey - lower) / 2 : null;
+    }
+
+    /**
+     * Give the lessons spaced order keys in the given order with one
+     * {@code UPDATE ... FROM (VALUES ...)} statement per chunk (a single one for any real course).
+     * The entities are not loaded; the course condition keeps foreign IDs untouched.
+     */
+    private void writeOrderKeys(Long courseId, List<Long> orderedIds) {
+        for (int from = 0; from < orderedIds.size(); from += MAX_ROWS_PER_ORDER_UPDATE) {
+            int to = Math.min(from + MAX_ROWS_PER_ORDER_UPDATE, orderedIds.size());
+            StringJoiner values = new StringJoiner(", ");
+            List<Object> args = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                values.add("(CAST(? AS BIGINT), CAST(? AS INTEGER))");
+                args.add(orderedIds.get(i));
+                args.add((i + 1) * Lesson.ORDER_GAP);
+            }
+            args.add(courseId);
+            jdbcTemplate.update("UPDATE lessons AS l SET order_index = v.order_index " +
+                    "FROM (VALUES " + values + ") AS v(id, order_index) " +
+                    "WHERE l.id = v.id AND l.course_id = ?", args.toArray());
+        }
+    }
+
+    /**
+     * Evict what an order change touches: the moved lessons and the lesson lists of their course
+     */
+    private void evictOrder(Long courseId, List<Long> lessonIds) {
+        List<Object> keys = new ArrayList<>();
+        for (Long lessonId : lessonIds) {
+            keys.add(lessonId);
+            keys.add("summary:" + lessonId);
+        }
+        cacheInvalidator.evict(LESSON_BY_ID_CACHE, keys.toArray());
+        evictLesson(null, courseId);
+    }
+
+    /**
+     * Evict a lesson from the by-id, by-course and "all" caches after commit.
+     * Quizzes and contents of the lesson embed it in cached values, so they are evicted too.
+     * @param lessonId Lesson ID (null when only the course lists changed)
+     * @param courseIds Courses whose lesson lists contain (or contained) the lesson
+     */
+    private void evictLesson(Long lessonId, Long... courseIds) {
+        for (Long courseId : courseIds) {
+            if (courseId != null) {
+                cacheInvalidator.evict(LESSONS_BY_COURSE_CACHE, "ordered:" + courseId, "distinct:" + courseId, "summary:" + courseId);
+                cacheInvalidator.evict(COURSE_BUNDLE_CACHE, courseId);
+            }
+        }
+        cacheInvalidator.clear(LESSONS_CACHE);
+        if (lessonId != null) {
+            cacheInvalidator.evict(LESSON_BY_ID_CACHE, lessonId, "summary:" + lessonId);
+            cacheInvalidator.evict(QUIZZES_BY_LESSON_CACHE, lessonId);
+            cacheInvalidator.evict(LESSON_CONTENTS_BY_LESSON_CACHE, lessonId);
+            cacheInvalidator.clear(QUIZ_BY_ID_CACHE, LESSON_CONTENT_BY_ID_CACHE, LESSON_CONTENTS_CACHE);
+            searchService.reindexLessons(lessonId);
+        }
+    }
+
+    private Long courseIdOf(Lesson lesson) {
+        return lesson.getCourse() != null ? lesson.getCourse().getId() : null;
     }
 }
\ No newline at end of file
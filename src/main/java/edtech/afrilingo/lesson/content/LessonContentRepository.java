@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LessonContentRepository extends JpaRepository<LessonContent, Long> {
@@ -16,6 +17,13 @@ public interface LessonContentRepository extends JpaRepository<LessonContent, Lo
      */
     List<LessonContent> findByLessonId(Long lessonId);
 
+    /**
+     * Find the contents of several lessons in one query
+     * @param lessonIds Lesson IDs
+     * @return Lesson contents ordered by ID
+     */
+    List<LessonContent> findByLessonIdInOrderByIdAsc(Collection<Long> lessonIds);
+
     /**
      * Find all lesson contents by content type
      * @param contentType Content type
@@ -53,12 +61,23 @@ public interface LessonContentRepository extends JpaRepository<LessonContent, Lo
     Page<LessonContent> findByLessonId(Long lessonId, Pageable pageable);
 
     /**
-     * Search for lesson contents containing the given keyword in contentData
-     * @param keyword Keyword to search for
-     * @return List of matching lesson contents
+     * Find the text of every lesson content for the search index
+     * @return Rows of [content ID, content data, lesson ID, language code]
+     */
+    @Query("SELECT lc.id, lc.contentData, l.id, lang.code FROM LessonContent lc " +
+            "JOIN lc.lesson l LEFT JOIN l.course c LEFT JOIN c.language lang " +
+            "WHERE lc.contentData IS NOT NULL")
+    List<Object[]> findSearchRows();
+
+    /**
+     * Find the text of the contents of some lessons for the search index
+     * @param lessonIds Lesson IDs
+     * @return Rows of [content ID, content data, lesson ID, language code]
      */
-    @Query("SELECT lc FROM LessonContent lc WHERE lc.contentData LIKE %:keyword%")
-    List<LessonContent> findByContentDataContainingKeyword(@Param("keyword") String keyword);
+    @Query("SELECT lc.id, lc.contentData, l.id, lang.code FROM LessonContent lc " +
+            "JOIN lc.lesson l LEFT JOIN l.course c LEFT JOIN c.language lang " +
+            "WHERE l.id IN :lessonIds AND lc.contentData IS NOT NULL")
+    List<Object[]> findSearchRowsByLessonIds(@Param("lessonIds") Collection<Long> lessonIds);
 
     /**
      * Count lesson contents by content type
@@ -94,11 +94,12 @@ public interface LessonContentService {
     Map<ContentType, Long> countByContentType();
 
     /**
-     * Search lesson contents by keyword in content data
+     * Search lesson contents by relevance to a keyword
      * @param keyword Keyword to search for
-     * @return List of matching lesson contents
+     * @param pageable Pagination information
+     * @return Page of matching lesson contents, best match first
      */
-    List<LessonContent> searchByKeyword(String keyword);
+    Page<LessonContent> searchByKeyword(String keyword, Pageable pageable);
 
     /**
      * Copy all contents from one lesson to another
@@ -1,24 +1,37 @@
 package edtech.afrilingo.lesson.content;
 
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.course.bundle.CourseBundleService;
 import edtech.afrilingo.lesson.Lesson;
 import edtech.afrilingo.lesson.LessonService;
+import edtech.afrilingo.search.SearchDocumentType;
+import edtech.afrilingo.search.SearchHit;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static edtech.afrilingo.config.CacheConfig.*;
+
 @Service
 @RequiredArgsConstructor
 public class LessonContentServiceImpl implements LessonContentService {
 
     private final LessonContentRepository lessonContentRepository;
     private final LessonService lessonService;
+    private final CacheInvalidator cacheInvalidator;
+    private final CourseBundleService courseBundleService;
+    private final SearchService searchService;
 
     @Override
     public List<LessonContent> getAllLessonContents() {
@@ -26,6 +39,7 @@ public class LessonContentServiceImpl implements LessonContentService {
     }
 
     @Override
+    @Cacheable(cacheNames = LESSON_CONTENTS_BY_LESSON_CACHE, key = "#lessonId")
     public List<LessonContent> getLessonContentsByLessonId(Long lessonId) {
         return lessonContentRepository.findByLessonId(lessonId);
     }
@@ -36,6 +50,7 @@ public class LessonContentServiceImpl implements LessonContentService {
     }
 
     @Override
+    @Cacheable(cacheNames = LESSON_CONTENT_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<LessonContent> getLessonContentById(Long id) {
         return lessonContentRepository.findById(id);
     }
@@ -58,7 +73,9 @@ public class LessonContentServiceImpl implements LessonContentService {
         // Validate based on content type
         validateContentByType(lessonContent);
 
-        return lessonContentRepository.save(lessonContent);
+        LessonContent saved = lessonContentRepository.save(lessonContent);
+        evictContent(null, saved.getLesson().getId());
+        return saved;
     }
 
     @Override
@@ -66,6 +83,8 @@ public class LessonContentServiceImpl implements LessonContentService {
     public LessonContent updateLessonContent(Long id, LessonContent lessonContentDetails) {
         return lessonContentRepository.findById(id)
                 .map(existingContent -> {
+                    Long previousLessonId = lessonIdOf(existingContent);
+
                     // Update fields
                     if (lessonContentDetails.getContentType() != null) {
                         existingContent.setContentType(lessonContentDetails.getContentType());
@@ -91,6 +110,7 @@ public class LessonContentServiceImpl implements LessonContentService {
                     // Validate updated content
                     validateContentByType(existingContent);
 
+                    evictContent(id, previousLessonId, lessonIdOf(existingContent));
                     return lessonContentRepository.save(existingContent);
                 })
                 .orElseThrow(() -> new RuntimeException("Lesson content not found with id " + id));
@@ -102,6 +122,7 @@ public class LessonContentServiceImpl implements LessonContentService {
         return lessonContentRepository.findById(id)
                 .map(lessonContent -> {
                     lessonContentRepository.delete(lessonContent);
+                    evictContent(id, lessonIdOf(lessonContent));
                     return true;
                 })
                 .orElse(false);
@@ -128,7 +149,9 @@ public class LessonContentServiceImpl implements LessonContentService {
         // Validate all contents before saving
         lessonContents.forEach(this::validateLessonContent);
 
-        return lessonContentRepository.saveAll(lessonContents);
+        List<LessonContent> saved = lessonContentRepository.saveAll(lessonContents);
+        evictContent(null, saved.stream().map(this::lessonIdOf).distinct().toArray(Long[]::new));
+        return saved;
     }
 
     @Override
@@ -143,12 +166,22 @@ public class LessonContentServiceImpl implements LessonContentService {
     }
 
     @Override
-    public List<LessonContent> searchByKeyword(String keyword) {
+    public Page<LessonContent> searchByKeyword(String keyword, Pageable pageable) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new IllegalArgumentException("Search keyword cannot be empty");
         }
 
-        return lessonContentRepository.findByContentDataContainingKeyword(keyword);
+        Page<SearchHit> hits = searchService.search(keyword, SearchDocumentType.LESSON_CONTENT, null, pageable);
+        List<Long> ids = hits.stream().map(SearchHit::id).toList();
+
+        // Keep the relevance order of the hits
+        Map<Long, LessonContent> contentsById = lessonContentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(LessonContent::getId, content -> content));
+        List<LessonContent> contents = ids.stream()
+                .map(contentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(contents, hits.getPageable(), hits.getTotalElements());
     }
 
     @Override
@@ -185,6 +218,7 @@ public class LessonContentServiceImpl implements LessonContentService {
                 .collect(Collectors.toList());
 
         lessonContentRepository.saveAll(newContents);
+        evictContent(null, targetLessonId);
 
         return newContents.size();
     }
@@ -201,10 +235,30 @@ public class LessonContentServiceImpl implements LessonContentService {
         int count = contentsToDelete.size();
 
         lessonContentRepository.deleteByLessonId(lessonId);
+        contentsToDelete.forEach(content -> cacheInvalidator.evict(LESSON_CONTENT_BY_ID_CACHE, content.getId()));
+        evictContent(null, lessonId);
 
         return count;
     }
 
+    /**
+     * Evict lesson content from the by-id, by-lesson and "all" caches and its course bundle, and
+     * reindex the lessons for search, after commit
+     * @param contentId Content ID (null when only the lesson lists changed)
+     * @param lessonIds Lessons whose content lists contain (or contained) the content
+     */
+    private void evictContent(Long contentId, Long... lessonIds) {
+        cacheInvalidator.evict(LESSON_CONTENT_BY_ID_CACHE, contentId);
+        cacheInvalidator.evict(LESSON_CONTENTS_BY_LESSON_CACHE, (Object[]) lessonIds);
+        cacheInvalidator.clear(LESSON_CONTENTS_CACHE);
+        courseBundleService.evictByLessons(lessonIds);
+        searchService.reindexLessons(lessonIds);
+    }
+
+    private Long lessonIdOf(LessonContent content) {
+        return content.getLesson() != null ? content.getLesson().getId() : null;
+    }
+
     /**
      * Helper method to validate a lesson content before saving
      * @param lessonContent Lesson content to validate
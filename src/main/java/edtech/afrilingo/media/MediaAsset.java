@@ -0,0 +1,22 @@
+package edtech.afrilingo.media;
+
+import java.nio.file.Path;
+
+/**
+ * Manifest entry for one media file
+ *
+ * @param info Public description of the file
+ * @param file File on disk the bytes are transferred from
+ * @param hash Content hash (hex), also the URL version
+ * @param lastModified Last modification time in epoch milliseconds
+ */
+public record MediaAsset(MediaInfo info, Path file, String hash, long lastModified) {
+
+    public String etag() {
+        return info.etag();
+    }
+
+    public long size() {
+        return info.size();
+    }
+}
@@ -0,0 +1,161 @@
+package edtech.afrilingo.media;
+
+import edtech.afrilingo.config.HttpCaching;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams lesson media.
+ * Bodies are transferred straight from the file: through Tomcat sendfile when the connector
+ * supports it, otherwise with {@link FileChannel#transferTo}. Single byte ranges are honoured
+ * for scrubbing. URLs from the manifest carry the content hash ({@code ?v=}) and are cached as
+ * immutable; unversioned URLs get a shorter lifetime and revalidate with the strong ETag.
+ */
+@RestController
+@RequestMapping(MediaController.BASE_PATH)
+@RequiredArgsConstructor
+@Slf4j
+public class MediaController {
+
+    public static final String BASE_PATH = "/api/v1/media";
+
+    // Tomcat request attributes for zero-copy transfers
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl VERSIONED_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final MediaLibrary mediaLibrary;
+
+    @Value("${afrilingo.media.max-age:P1D}")
+    private Duration maxAge;
+
+    @Value("${afrilingo.media.cdn-max-age:P7D}")
+    private Duration cdnMaxAge;
+
+    /**
+     * All media files with their versioned URL, ETag, size, duration and bitrate
+     */
+    @GetMapping("/manifest")
+    public ResponseEntity<List<MediaInfo>> getManifest() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(mediaLibrary.getAssets().stream().map(MediaAsset::info).toList());
+    }
+
+    @GetMapping("/{*path}")
+    public void getMedia(
+            @PathVariable String path,
+            @RequestParam(value = "v", required = false) String version,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        MediaAsset asset = mediaLibrary.getAsset(path.startsWith("/") ? path.substring(1) : path).orElse(null);
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        CacheControl cacheControl = asset.hash().equals(version)
+                ? VERSIONED_CACHE_CONTROL
+                : CacheControl.maxAge(maxAge).sMaxAge(cdnMaxAge).cachePublic();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ETAG, asset.etag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, asset.lastModified());
+
+        if (HttpCaching.matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), asset.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = asset.size();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // A stale If-Range (or a date validator) asks for the whole file
+        if (rangeHeader == null || (ifRange != null && !ifRange.trim().equals(asset.etag()))) {
+            transfer(asset, 0, size - 1, request, response);
+            return;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            ranges = List.of();
+        }
+        // Players only ask for one range; multipart byteranges are not worth serving
+        if (ranges.size() != 1) {
+            transfer(asset, 0, size - 1, request, response);
+            return;
+        }
+
+        long start;
+        long end;
+        try {
+            start = ranges.get(0).getRangeStart(size);
+            end = ranges.get(0).getRangeEnd(size);
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        transfer(asset, start, end, request, response);
+    }
+
+    // Private helper methods
+
+    private void transfer(MediaAsset asset, long start, long end, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        long length = end - start + 1;
+        response.setContentType(asset.info().contentType());
+        response.setContentLengthLong(Math.max(0, length));
+        if (length <= 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the region with sendfile once the request completes
+            request.setAttribute(SENDFILE_FILENAME, asset.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(asset.file())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    log.warn("Media file {} shrank while streaming", asset.file());
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package edtech.afrilingo.media;
+
+/**
+ * Public description of a media file, as listed in the manifest and embedded in lesson payloads
+ *
+ * @param name Path of the file inside the media library, e.g. {@code Audios/Colors.m4a}
+ * @param url Versioned URL the file is served from; safe to cache forever
+ * @param etag Strong ETag (quoted content hash)
+ * @param size Size in bytes
+ * @param contentType MIME type
+ * @param durationMs Playing time in milliseconds, null when the format is not probed
+ * @param bitrateKbps Average bitrate in kbit/s, null when the duration is unknown
+ */
+public record MediaInfo(
+        String name,
+        String url,
+        String etag,
+        long size,
+        String contentType,
+        Long durationMs,
+        Integer bitrateKbps) {
+}
@@ -0,0 +1,236 @@
+package edtech.afrilingo.media;
+
+import edtech.afrilingo.config.HttpCaching;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Manifest of the media files the server can stream.
+ * At startup every file is hashed once (strong ETag and URL version) and its duration and
+ * bitrate are read from the container header, so requests and lesson payloads never probe files.
+ * Media bundled on the classpath ({@code afrilingo.media.classpath-location}) is extracted to
+ * {@code afrilingo.media.extract-directory} when it lives inside a jar, so every asset is a real
+ * file that can be transferred with zero copy. Files in {@code afrilingo.media.directory}
+ * override bundled files with the same name.
+ */
+@Component
+@Slf4j
+public class MediaLibrary {
+
+    @Value("${afrilingo.media.classpath-location:Audios}")
+    private String classpathLocation;
+
+    @Value("${afrilingo.media.directory:}")
+    private String directory;
+
+    @Value("${afrilingo.media.extract-directory:${java.io.tmpdir}/afrilingo-media}")
+    private String extractDirectory;
+
+    private volatile Map<String, MediaAsset> assetsByName = Map.of();
+    private volatile Map<String, MediaAsset> assetsByFileName = Map.of();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Rescan the media sources and swap in a new manifest
+     */
+    public synchronized void refresh() {
+        long startNanos = System.nanoTime();
+        Map<String, Path> files = new TreeMap<>();
+
+        try {
+            files.putAll(classpathFiles());
+        } catch (IOException e) {
+            log.error("Failed to load bundled media from {}: {}", classpathLocation, e.getMessage());
+        }
+        if (!directory.isBlank()) {
+            try {
+                files.putAll(directoryFiles(Path.of(directory)));
+            } catch (IOException e) {
+                log.error("Failed to scan media directory {}: {}", directory, e.getMessage());
+            }
+        }
+
+        Map<String, MediaAsset> byName = new LinkedHashMap<>();
+        files.forEach((name, file) -> {
+            try {
+                byName.put(name, buildAsset(name, file));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable media file {}: {}", file, e.getMessage());
+            }
+        });
+
+        // Bare file names only resolve when they are unambiguous
+        Map<String, MediaAsset> byFileName = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        byName.values().forEach(asset -> {
+            String fileName = fileName(asset.info().name());
+            if (byFileName.putIfAbsent(fileName, asset) != null) {
+                ambiguous.add(fileName);
+            }
+        });
+        ambiguous.forEach(byFileName::remove);
+
+        assetsByName = Collections.unmodifiableMap(byName);
+        assetsByFileName = Collections.unmodifiableMap(byFileName);
+        log.info("Media manifest built: {} files in {} ms", byName.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Get an asset by its library name
+     * @param name Name such as {@code Audios/Colors.m4a}
+     * @return Optional containing the asset if it exists
+     */
+    public Optional<MediaAsset> getAsset(String name) {
+        return Optional.ofNullable(assetsByName.get(name));
+    }
+
+    /**
+     * Get all assets, ordered by name
+     * @return Manifest entries
+     */
+    public Collection<MediaAsset> getAssets() {
+        return assetsByName.values();
+    }
+
+    /**
+     * Resolve a stored media URL (LessonContent or Question mediaUrl) to a local asset.
+     * URLs pointing at the media endpoint resolve by name; anything else by its file name.
+     * @param mediaUrl Media URL, may be null
+     * @return Optional containing the asset if the URL refers to a local file
+     */
+    public Optional<MediaAsset> resolve(String mediaUrl) {
+        if (mediaUrl == null || mediaUrl.isBlank()) {
+            return Optional.empty();
+        }
+        String path = stripQuery(mediaUrl);
+        String prefix = MediaController.BASE_PATH + "/";
+        int marker = path.indexOf(prefix);
+        if (marker >= 0) {
+            return getAsset(UriUtils.decode(path.substring(marker + prefix.length()), StandardCharsets.UTF_8));
+        }
+        return Optional.ofNullable(assetsByFileName.get(UriUtils.decode(fileName(path), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Describe a stored media URL for a payload
+     * @param mediaUrl Media URL, may be null
+     * @return Media info, or null if the URL does not refer to a local file
+     */
+    public MediaInfo describe(String mediaUrl) {
+        return resolve(mediaUrl).map(MediaAsset::info).orElse(null);
+    }
+
+    // Private helper methods
+
+    private Map<String, Path> classpathFiles() throws IOException {
+        Map<String, Path> files = new HashMap<>();
+        String marker = classpathLocation + "/";
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:" + marker + "**");
+
+        for (Resource resource : resources) {
+            String url = resource.getURL().toString();
+            int index = url.lastIndexOf(marker);
+            if (index < 0 || url.endsWith("/") || !resource.isReadable()) {
+                continue;
+            }
+            String name = marker + UriUtils.decode(url.substring(index + marker.length()), StandardCharsets.UTF_8);
+
+            if (resource.isFile()) {
+                files.put(name, resource.getFile().toPath());
+            } else {
+                files.put(name, extract(resource, name));
+            }
+        }
+        return files;
+    }
+
+    private Path extract(Resource resource, String name) throws IOException {
+        Path root = Path.of(extractDirectory).toAbsolutePath().normalize();
+        Path target = root.resolve(name).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("Media name escapes the extract directory: " + name);
+        }
+        // Reuse the copy of a previous start when the jar entry has not changed
+        long lastModified = resource.lastModified();
+        if (Files.isRegularFile(target)
+                && Files.size(target) == resource.contentLength()
+                && Files.getLastModifiedTime(target).toMillis() == lastModified) {
+            return target;
+        }
+        Files.createDirectories(target.getParent());
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.setLastModifiedTime(target, FileTime.fromMillis(lastModified));
+        return target;
+    }
+
+    private Map<String, Path> directoryFiles(Path root) throws IOException {
+        Map<String, Path> files = new HashMap<>();
+        if (!Files.isDirectory(root)) {
+            log.warn("Media directory {} does not exist", root);
+            return files;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile)
+                    .forEach(file -> files.put(root.relativize(file).toString().replace('\\', '/'), file));
+        }
+        return files;
+    }
+
+    private MediaAsset buildAsset(String name, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            long size = channel.size();
+            String hash = HttpCaching.contentHash(channel);
+            MediaMetadataReader.Metadata metadata = MediaMetadataReader.read(channel, name);
+            String contentType = MediaTypeFactory.getMediaType(name)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            String url = MediaController.BASE_PATH + "/" + UriUtils.encodePath(name, StandardCharsets.UTF_8) + "?v=" + hash;
+
+            MediaInfo info = new MediaInfo(name, url, "\"" + hash + "\"", size, contentType,
+                    metadata.durationMs(), metadata.bitrateKbps());
+            return new MediaAsset(info, file, hash, Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+
+    private String stripQuery(String url) {
+        int end = url.length();
+        int query = url.indexOf('?');
+        int fragment = url.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        }
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return url.substring(0, end);
+    }
+
+    private String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,160 @@
+package edtech.afrilingo.media;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Reads playing time from container headers without decoding any audio.
+ * MP4/M4A durations come from the {@code moov/mvhd} box, WAV durations from the {@code fmt}
+ * byte rate and the {@code data} chunk size. Other formats report no duration.
+ */
+final class MediaMetadataReader {
+
+    record Metadata(Long durationMs, Integer bitrateKbps) {
+        static final Metadata UNKNOWN = new Metadata(null, null);
+    }
+
+    private MediaMetadataReader() {
+    }
+
+    static Metadata read(FileChannel channel, String fileName) throws IOException {
+        Long durationMs = switch (extension(fileName)) {
+            case "m4a", "mp4", "m4v", "m4b", "mov", "3gp" -> mp4Duration(channel);
+            case "wav" -> wavDuration(channel);
+            default -> null;
+        };
+        if (durationMs == null || durationMs <= 0) {
+            return Metadata.UNKNOWN;
+        }
+        // bits per millisecond == kbit/s
+        int bitrateKbps = (int) Math.round(channel.size() * 8.0 / durationMs);
+        return new Metadata(durationMs, bitrateKbps);
+    }
+
+    // MP4
+
+    private record Box(long offset, int headerSize, long size) {
+        long contentStart() {
+            return offset + headerSize;
+        }
+
+        long end() {
+            return offset + size;
+        }
+    }
+
+    private static Long mp4Duration(FileChannel channel) throws IOException {
+        Box moov = findBox(channel, 0, channel.size(), "moov");
+        if (moov == null) {
+            return null;
+        }
+        Box mvhd = findBox(channel, moov.contentStart(), moov.end(), "mvhd");
+        if (mvhd == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        if (read(channel, buffer, mvhd.contentStart()) < 32) {
+            return null;
+        }
+        int version = buffer.get(0) & 0xff;
+        long timescale;
+        long duration;
+        if (version == 1) {
+            timescale = Integer.toUnsignedLong(buffer.getInt(20));
+            duration = buffer.getLong(24);
+        } else {
+            timescale = Integer.toUnsignedLong(buffer.getInt(12));
+            duration = Integer.toUnsignedLong(buffer.getInt(16));
+        }
+        // All ones means "unknown"
+        if (timescale == 0 || duration <= 0 || duration == 0xFFFFFFFFL) {
+            return null;
+        }
+        return duration * 1000 / timescale;
+    }
+
+    private static Box findBox(FileChannel channel, long from, long to, String type) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(16);
+        long position = from;
+        while (position + 8 <= to) {
+            int read = read(channel, header.clear().limit((int) Math.min(16, to - position)), position);
+            if (read < 8) {
+                return null;
+            }
+            long size = Integer.toUnsignedLong(header.getInt(0));
+            String boxType = new String(header.array(), 4, 4, StandardCharsets.ISO_8859_1);
+            int headerSize = 8;
+            if (size == 1) {
+                if (read < 16) {
+                    return null;
+                }
+                size = header.getLong(8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = to - position;
+            }
+            if (size < headerSize) {
+                return null;
+            }
+            if (boxType.equals(type)) {
+                return new Box(position, headerSize, size);
+            }
+            position += size;
+        }
+        return null;
+    }
+
+    // WAV
+
+    private static Long wavDuration(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        if (read(channel, header, 0) < 12
+                || !"RIFF".equals(new String(header.array(), 0, 4, StandardCharsets.ISO_8859_1))
+                || !"WAVE".equals(new String(header.array(), 8, 4, StandardCharsets.ISO_8859_1))) {
+            return null;
+        }
+
+        ByteBuffer chunk = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        long byteRate = 0;
+        long position = 12;
+        while (position + 8 <= channel.size()) {
+            if (read(channel, chunk.clear(), position) < 8) {
+                return null;
+            }
+            String id = new String(chunk.array(), 0, 4, StandardCharsets.ISO_8859_1);
+            long size = Integer.toUnsignedLong(chunk.getInt(4));
+            if ("fmt ".equals(id)) {
+                byteRate = Integer.toUnsignedLong(chunk.getInt(16));
+            } else if ("data".equals(id)) {
+                return byteRate > 0 ? size * 1000 / byteRate : null;
+            }
+            // Chunks are word aligned
+            position += 8 + size + (size & 1);
+        }
+        return null;
+    }
+
+    // Helpers
+
+    private static int read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
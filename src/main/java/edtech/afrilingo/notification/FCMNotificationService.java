@@ -1,8 +1,12 @@
 package edtech.afrilingo.notification;
 
 import edtech.afrilingo.notification.dto.NotificationDTO;
+import edtech.afrilingo.notification.outbox.DeliveryChannel;
+import edtech.afrilingo.notification.outbox.DeliveryOutcome;
+import edtech.afrilingo.notification.outbox.NotificationOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -12,11 +16,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -34,60 +39,98 @@ public class FCMNotificationService {
     private boolean firebaseEnabled;
 
     private final UserDeviceTokenRepository userDeviceTokenRepository;
-    private final NotificationPreferencesRepository notificationPreferencesRepository;
+    private final PushRoutingService pushRoutingService;
     private final RestTemplate restTemplate;
+    // The outbox delivers pushes through this service, hence looked up lazily
+    private final ObjectProvider<NotificationOutbox> notificationOutbox;
+
+    public boolean isEnabled() {
+        return firebaseEnabled && !firebaseServerKey.isEmpty();
+    }
 
     /**
-     * Send push notification to user's devices
+     * Send push notification to user's devices, best effort and outside the delivery outbox.
+     * A push held back by quiet hours is handed to the outbox, due when they end.
      * @param userId User ID
-     * @param notification Notification to send
+     * @param notification Saved notification to send
      */
     public void sendPushNotification(Long userId, NotificationDTO notification) {
-        if (!firebaseEnabled || firebaseServerKey.isEmpty()) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                DeliveryOutcome outcome = deliverPush(userId, notification, null, null);
+                if (outcome.isDeferred()) {
+                    notificationOutbox.getObject().schedule(notification, userId, DeliveryChannel.PUSH, outcome.deferUntil());
+                }
+            } catch (Exception e) {
+                log.error("Error processing push notification for user {}: {}", userId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Deliver a push notification synchronously, as called by the delivery outbox
+     * @param userId User ID
+     * @param notification Notification to send
+     * @param collapseKey Key letting devices collapse redeliveries of the same notification (nullable)
+     * @param deviceTargetIds Device token ids to limit a retry to, or null for all of the user's devices
+     * @return Done, deferred until quiet hours end, or partial with the device token ids that still need the push
+     * @throws IllegalStateException if no device could be reached, so the outbox retries
+     */
+    public DeliveryOutcome deliverPush(Long userId, NotificationDTO notification, String collapseKey,
+                                       Set<Long> deviceTargetIds) {
+        if (!isEnabled()) {
             log.debug("Firebase push notifications are disabled or not configured");
-            return;
+            return DeliveryOutcome.done();
         }
 
-        try {
-            // Check if user has push notifications enabled
-            NotificationPreferences preferences = notificationPreferencesRepository
-                    .findByUserId(userId)
-                    .orElse(null);
-
-            if (preferences == null || !preferences.isPushNotificationsEnabled()) {
-                log.debug("Push notifications disabled for user {}", userId);
-                return;
-            }
+        PushRoutingProfile profile = pushRoutingService.getProfile(userId);
 
-            // Check notification type preferences
-            if (!isNotificationTypeEnabled(preferences, notification.getType())) {
-                log.debug("Notification type {} disabled for user {}", notification.getType(), userId);
-                return;
-            }
+        // Check if user has push notifications enabled
+        if (!profile.isPushEnabled()) {
+            log.debug("Push notifications disabled for user {}", userId);
+            return DeliveryOutcome.done();
+        }
 
-            // Check quiet hours
-            if (preferences.isRespectQuietHours() && isInQuietHours(preferences)) {
-                log.debug("In quiet hours for user {}, skipping push notification", userId);
-                return;
-            }
+        // Check notification type preferences
+        if (!profile.isTypeEnabled(notification.getType())) {
+            log.debug("Notification type {} disabled for user {}", notification.getType(), userId);
+            return DeliveryOutcome.done();
+        }
 
-            // Get active device tokens
-            List<UserDeviceToken> deviceTokens = userDeviceTokenRepository
-                    .findByUserIdAndActiveTrue(userId);
+        // Low-priority notifications are delivered with the daily digest
+        if (notification.getPriority() <= 1 && profile.isLowPriorityDigested()) {
+            log.debug("Low-priority push for user {} left for the daily digest", userId);
+            return DeliveryOutcome.done();
+        }
 
-            if (deviceTokens.isEmpty()) {
-                log.debug("No active device tokens for user {}", userId);
-                return;
-            }
+        // Hold the push back until quiet hours are over
+        LocalDateTime now = LocalDateTime.now();
+        int minuteOfDay = now.getHour() * 60 + now.getMinute();
+        if (profile.isQuietAt(minuteOfDay)) {
+            int delayMinutes = Math.max(profile.minutesUntilQuietEnd(minuteOfDay), 1);
+            log.debug("In quiet hours for user {}, deferring push notification by {} minutes", userId, delayMinutes);
+            return DeliveryOutcome.deferUntil(now.plusMinutes(delayMinutes));
+        }
+
+        List<PushRoutingProfile.DeviceTarget> devices = profile.getDevices().stream()
+                .filter(device -> deviceTargetIds == null || deviceTargetIds.contains(device.id()))
+                .toList();
+        if (devices.isEmpty()) {
+            log.debug("No active device tokens for user {}", userId);
+            return DeliveryOutcome.done();
+        }
 
-            // Send to each device asynchronously
-            for (UserDeviceToken deviceToken : deviceTokens) {
-                CompletableFuture.runAsync(() -> sendToDevice(deviceToken, notification));
+        Set<Long> failedDevices = new HashSet<>();
+        for (PushRoutingProfile.DeviceTarget device : devices) {
+            if (!sendToDevice(userId, device, notification, collapseKey)) {
+                failedDevices.add(device.id());
             }
+        }
 
-        } catch (Exception e) {
-            log.error("Error processing push notification for user {}: {}", userId, e.getMessage(), e);
+        if (failedDevices.size() == devices.size()) {
+            throw new IllegalStateException("Push delivery failed for all " + failedDevices.size() + " devices of user " + userId);
         }
+        return failedDevices.isEmpty() ? DeliveryOutcome.done() : DeliveryOutcome.partial(failedDevices);
     }
 
     /**
@@ -103,18 +146,22 @@ public class FCMNotificationService {
         log.debug("Sending bulk push notification to {} users", userIds.size());
 
         for (Long userId : userIds) {
-            CompletableFuture.runAsync(() -> sendPushNotification(userId, notification));
+            sendPushNotification(userId, notification);
         }
     }
 
     /**
      * Send notification to a specific device token
+     * @param userId Owner of the device
      * @param deviceToken Device token
      * @param notification Notification to send
+     * @param collapseKey Collapse key for redeliveries (nullable)
+     * @return false on a transient failure worth retrying, true otherwise
      */
-    private void sendToDevice(UserDeviceToken deviceToken, NotificationDTO notification) {
+    private boolean sendToDevice(Long userId, PushRoutingProfile.DeviceTarget deviceToken,
+                                 NotificationDTO notification, String collapseKey) {
         try {
-            Map<String, Object> fcmMessage = buildFCMMessage(deviceToken, notification);
+            Map<String, Object> fcmMessage = buildFCMMessage(deviceToken, notification, collapseKey);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -127,64 +174,77 @@ public class FCMNotificationService {
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 log.debug("Push notification sent successfully to device {}",
-                        deviceToken.getDeviceId());
+                        deviceToken.deviceId());
 
                 // Update last used timestamp
-                deviceToken.setLastUsedAt(java.time.LocalDateTime.now());
-                userDeviceTokenRepository.save(deviceToken);
+                userDeviceTokenRepository.touchLastUsed(deviceToken.id(), LocalDateTime.now());
+                return true;
+            }
 
-            } else {
-                log.warn("Failed to send push notification to device {}: Status {}, Body: {}",
-                        deviceToken.getDeviceId(), response.getStatusCode(), response.getBody());
+            log.warn("Failed to send push notification to device {}: Status {}, Body: {}",
+                    deviceToken.deviceId(), response.getStatusCode(), response.getBody());
 
-                // If the response indicates invalid token, deactivate it
-                if (response.getStatusCode() == HttpStatus.BAD_REQUEST) {
-                    handleInvalidToken(deviceToken, response.getBody());
-                }
+            // If the response indicates invalid token, deactivate it
+            if (response.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                handleInvalidToken(userId, deviceToken, response.getBody());
+                return true;
             }
+            return false;
 
         } catch (RestClientException e) {
             log.error("Network error sending push notification to device {}: {}",
-                    deviceToken.getDeviceId(), e.getMessage());
+                    deviceToken.deviceId(), e.getMessage());
 
             // Check if it's a token-related error
             if (e.getMessage() != null && (
                     e.getMessage().contains("InvalidRegistration") ||
                             e.getMessage().contains("NotRegistered"))) {
-                handleInvalidToken(deviceToken, e.getMessage());
+                handleInvalidToken(userId, deviceToken, e.getMessage());
+                return true;
             }
+            return false;
 
         } catch (Exception e) {
             log.error("Unexpected error sending push notification to device {}: {}",
-                    deviceToken.getDeviceId(), e.getMessage(), e);
+                    deviceToken.deviceId(), e.getMessage(), e);
+            return false;
         }
     }
 
     /**
      * Handle invalid token by deactivating it
+     * @param userId Owner of the device
      * @param deviceToken Device token to deactivate
      * @param errorMessage Error message from FCM
      */
-    private void handleInvalidToken(UserDeviceToken deviceToken, String errorMessage) {
+    private void handleInvalidToken(Long userId, PushRoutingProfile.DeviceTarget deviceToken, String errorMessage) {
         try {
-            deviceToken.setActive(false);
-            userDeviceTokenRepository.save(deviceToken);
+            userDeviceTokenRepository.deactivateById(deviceToken.id());
+            pushRoutingService.invalidate(userId);
             log.info("Deactivated invalid device token for device {}: {}",
-                    deviceToken.getDeviceId(), errorMessage);
+                    deviceToken.deviceId(), errorMessage);
         } catch (Exception e) {
             log.error("Error deactivating invalid token: {}", e.getMessage());
         }
     }
 
     /**
-     * Build FCM message payload
+     * Build FCM message payload.
+     * Package-private for FcmMessageBenchmark.
      * @param deviceToken Device token
      * @param notification Notification data
+     * @param collapseKey Collapse key (nullable)
      * @return FCM message map
      */
-    private Map<String, Object> buildFCMMessage(UserDeviceToken deviceToken, NotificationDTO notification) {
+    Map<String, Object> buildFCMMessage(PushRoutingProfile.DeviceTarget deviceToken,
+                                        NotificationDTO notification, String collapseKey) {
         Map<String, Object> message = new HashMap<>();
-        message.put("to", deviceToken.getToken());
+        message.put("to", deviceToken.token());
+
+        // Lets the device drop a redelivered copy of the same notification
+        if (collapseKey != null) {
+            message.put("collapse_key", collapseKey);
+        }
 
         // Notification payload (for display when app is in background)
         Map<String, Object> notificationPayload = new HashMap<>();
@@ -261,82 +321,6 @@ public class FCMNotificationService {
             case SYSTEM_NOTIFICATION -> "AfriLingo";
         };
     }
-
-    /**
-     * Check if notification type is enabled for user
-     * @param preferences User preferences
-     * @param type Notification type
-     * @return true if enabled
-     */
-    private boolean isNotificationTypeEnabled(NotificationPreferences preferences, NotificationType type) {
-        return switch (type) {
-            case COURSE_COMPLETED -> preferences.isCourseCompletionNotifications();
-            case LESSON_COMPLETED -> preferences.isLessonCompletionNotifications();
-            case QUIZ_COMPLETED -> preferences.isQuizCompletionNotifications();
-            case ACHIEVEMENT_UNLOCKED -> preferences.isAchievementNotifications();
-            case REMINDER -> preferences.isReminderNotifications();
-            case SYSTEM_NOTIFICATION, NEW_COURSE_AVAILABLE -> preferences.isSystemNotifications();
-        };
-    }
-
-    /**
-     * Check if current time is in quiet hours
-     * @param preferences User preferences
-     * @return true if in quiet hours
-     */
-    private boolean isInQuietHours(NotificationPreferences preferences) {
-        if (preferences.getQuietHoursStart() == null || preferences.getQuietHoursEnd() == null) {
-            return false;
-        }
-
-        try {
-            LocalTime now = LocalTime.now();
-            LocalTime start = LocalTime.parse(preferences.getQuietHoursStart());
-            LocalTime end = LocalTime.parse(preferences.getQuietHoursEnd());
-
-            if (start.isBefore(end)) {
-                // Same day quiet hours (e.g., 14:00 to 18:00)
-                return !now.isBefore(start) && now.isBefore(end);
-            } else {
-                // Overnight quiet hours (e.g., 22:00 to 08:00)
-                return !now.isBefore(start) || now.isBefore(end);
-            }
-        } catch (DateTimeParseException e) {
-            log.warn("Error parsing quiet hours for user {}: {}",
-                    preferences.getUser().getId(), e.getMessage());
-            return false;
-        }
-    }
-
-    /**
-     * Test push notification functionality
-     * @param userId User ID to send test notification to
-     * @return true if test was sent successfully
-     */
-    public boolean sendTestNotification(Long userId) {
-        if (!firebaseEnabled) {
-            log.warn("Firebase is disabled, cannot send test notification");
-            return false;
-        }
-
-        try {
-            NotificationDTO testNotification = NotificationDTO.builder()
-                    .id(-1L) // Temporary ID for test
-                    .userId(userId)
-                    .message("This is a test notification to verify your push notification settings.")
-                    .timestamp(java.time.LocalDateTime.now())
-                    .type(NotificationType.SYSTEM_NOTIFICATION)
-                    .priority(2)
-                    .read(false)
-                    .build();
-
-            sendPushNotification(userId, testNotification);
-            return true;
-        } catch (Exception e) {
-            log.error("Error sending test notification: {}", e.getMessage());
-            return false;
-        }
-    }
 }
 
 // Configuration class for RestTemplate
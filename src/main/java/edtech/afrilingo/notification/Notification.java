@@ -15,10 +15,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_notifications_user_feed", columnList = "user_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_notifications_user_unread_feed", columnList = "user_id, read, timestamp DESC, id DESC"),
+        @Index(name = "idx_notifications_snoozed_until", columnList = "snoozed, snoozed_until")
+})
 public class Notification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,7 +3,9 @@ package edtech.afrilingo.notification;
 import edtech.afrilingo.dto.ApiResponse;
 import edtech.afrilingo.notification.dto.DeviceTokenDTO;
 import edtech.afrilingo.notification.dto.NotificationDTO;
+import edtech.afrilingo.notification.dto.NotificationFeedDTO;
 import edtech.afrilingo.notification.dto.NotificationPreferencesDTO;
+import edtech.afrilingo.notification.outbox.NotificationOutbox;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,10 +30,12 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final NotificationEventPublisher notificationEventPublisher;
     private final FCMNotificationService fcmNotificationService;
+    private final NotificationRetentionJob notificationRetentionJob;
+    private final NotificationOutbox notificationOutbox;
 
     // ============ BASIC NOTIFICATION CRUD OPERATIONS ============
 
-    @Operation(summary = "Get current user's notifications", description = "Returns a list of all notifications for the current authenticated user")
+    @Operation(summary = "Get current user's notifications", description = "Returns the most recent notifications for the current authenticated user")
     @GetMapping
     public ResponseEntity<ApiResponse<List<NotificationDTO>>> getCurrentUserNotifications() {
         User currentUser = getCurrentUser();
@@ -47,7 +51,19 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(notifications));
     }
 
-    @Operation(summary = "Get unread notifications", description = "Returns a list of unread notifications for the current user")
+    @Operation(summary = "Get notification feed",
+            description = "Returns a cursor-paginated notification feed, newest first. Pass nextCursor from the previous page to continue.")
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<NotificationFeedDTO>> getNotificationFeed(
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Only active unread notifications") @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        User currentUser = getCurrentUser();
+        NotificationFeedDTO feed = notificationService.getNotificationFeed(currentUser.getId(), cursor, size, unreadOnly);
+        return ResponseEntity.ok(ApiResponse.success(feed));
+    }
+
+    @Operation(summary = "Get unread notifications", description = "Returns the most recent unread notifications for the current user")
     @GetMapping("/unread")
     public ResponseEntity<ApiResponse<List<NotificationDTO>>> getUnreadNotifications() {
         User currentUser = getCurrentUser();
@@ -472,9 +488,10 @@ public class NotificationController {
     @PostMapping("/test/fcm")
     public ResponseEntity<ApiResponse<Void>> sendTestFCMNotification() {
         User currentUser = getCurrentUser();
-        boolean success = fcmNotificationService.sendTestNotification(currentUser.getId());
 
-        if (success) {
+        // Queued through the outbox like any other push, so it waits out quiet hours
+        if (fcmNotificationService.isEnabled()) {
+            notificationService.sendTestPush(currentUser.getId());
             return ResponseEntity.ok(ApiResponse.<Void>builder()
                     .status(200)
                     .message("Test FCM notification sent successfully")
@@ -513,6 +530,22 @@ public class NotificationController {
                 .build());
     }
 
+    @Operation(summary = "Get notification retention report",
+            description = "Returns statistics (rows deleted, rows per second) of the last notification retention run")
+    @GetMapping("/retention/report")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRetentionReport() {
+        return ResponseEntity.ok(ApiResponse.success(notificationRetentionJob.getLastPurgeReport()));
+    }
+
+    @Operation(summary = "Get notification outbox stats",
+            description = "Returns the number of pending, delivered and dead-lettered delivery intents")
+    @GetMapping("/outbox/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOutboxStats() {
+        return ResponseEntity.ok(ApiResponse.success(notificationOutbox.getStats()));
+    }
+
     // ============ HELPER METHODS ============
 
     private User getCurrentUser() {
@@ -0,0 +1,237 @@
+package edtech.afrilingo.notification;
+
+import edtech.afrilingo.userProgress.UserProgressRepository;
+import edtech.afrilingo.userProgress.UserQuizAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Batch generator for daily digests and weekly progress summaries.
+ * Every slot it scans the users whose digest falls into that slot in chunks, loads their
+ * stats with one grouped query per source table per chunk, and sends one notification
+ * (and one push) per user.
+ * Each user is claimed, has their pending notifications collapsed and gets the digest in one
+ * transaction, so a failed send leaves nothing marked read and concurrent nodes never send the
+ * same digest twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDigestJob {
+
+    private final NotificationPreferencesRepository notificationPreferencesRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final UserQuizAttemptRepository userQuizAttemptRepository;
+    private final NotificationEventPublisher notificationPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${afrilingo.notifications.digest.enabled:true}")
+    private boolean digestEnabled;
+
+    // Must match the cron below
+    @Value("${afrilingo.notifications.digest.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${afrilingo.notifications.digest.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${afrilingo.notifications.digest.weekly-time:18:00}")
+    private String weeklyProgressTime;
+
+    // Learning time estimate, same as the dashboard: 10 minutes per lesson, 5 per quiz attempt
+    private static final int MINUTES_PER_LESSON = 10;
+    private static final int MINUTES_PER_QUIZ = 5;
+
+    private record DigestStats(int lessonsCompleted, int quizzesTaken, double averageScore) {
+    }
+
+    @Scheduled(cron = "${afrilingo.notifications.digest.cron:0 */15 * * * *}")
+    public void runDigestSlot() {
+        if (!digestEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int minuteOfDay = now.getHour() * 60 + now.getMinute();
+        int slotStart = minuteOfDay - minuteOfDay % slotMinutes;
+        int slotEnd = slotStart + slotMinutes;
+
+        long startNanos = System.nanoTime();
+        int dailySent = sendDailyDigests(formatMinute(slotStart), formatMinute(slotEnd), now);
+
+        int weeklySent = 0;
+        int weeklyMinute = LocalTime.parse(weeklyProgressTime).toSecondOfDay() / 60;
+        if (weeklyMinute >= slotStart && weeklyMinute < slotEnd) {
+            weeklySent = sendWeeklyProgress(now.getDayOfWeek().name(), now);
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        if (dailySent > 0 || weeklySent > 0) {
+            log.info("Digest slot {} sent {} daily digests and {} weekly summaries in {} ms",
+                    formatMinute(slotStart), dailySent, weeklySent, elapsedMs);
+        }
+        if (elapsedMs > slotMinutes * 60_000L) {
+            log.warn("Digest slot {} took {} ms, longer than the {} minute slot window",
+                    formatMinute(slotStart), elapsedMs, slotMinutes);
+        }
+    }
+
+    /**
+     * Send the daily digest to every user whose digest time falls into [slotStart, slotEnd)
+     * @return Number of digests sent
+     */
+    public int sendDailyDigests(String slotStart, String slotEnd, LocalDateTime now) {
+        LocalDateTime since = now.minusDays(1);
+        LocalDateTime today = now.toLocalDate().atStartOfDay();
+        return forEachChunk(
+                (afterUserId, page) -> notificationPreferencesRepository
+                        .findDailyDigestUserIds(slotStart, slotEnd, afterUserId, page),
+                userIds -> {
+                    Map<Long, DigestStats> stats = loadStats(userIds, since);
+                    Map<Long, List<Long>> pending = loadPendingLowPriority(userIds, since);
+                    int sent = 0;
+                    for (Long userId : userIds) {
+                        DigestStats digest = stats.get(userId);
+                        List<Long> pendingIds = pending.getOrDefault(userId, List.of());
+                        if (pendingIds.isEmpty() && digest.lessonsCompleted() == 0 && digest.quizzesTaken() == 0) {
+                            continue;
+                        }
+                        boolean claimed = sendClaimed(userId,
+                                () -> notificationPreferencesRepository.claimDailyDigest(userId, today, now),
+                                () -> {
+                                    // The digest replaces these notifications, so they no longer count as unread.
+                                    // Rows created after the scan are left for tomorrow's digest.
+                                    int collapsed = pendingIds.isEmpty() ? 0 : notificationRepository.markAsReadByIds(pendingIds);
+                                    notificationPublisher.notifyDailyDigest(userId,
+                                            collapsed, digest.lessonsCompleted(), digest.quizzesTaken());
+                                });
+                        if (claimed) {
+                            sent++;
+                        }
+                    }
+                    return sent;
+                });
+    }
+
+    /**
+     * Send the weekly progress summary to every user who chose the given day
+     * @return Number of summaries sent
+     */
+    public int sendWeeklyProgress(String dayOfWeek, LocalDateTime now) {
+        LocalDateTime since = now.minusDays(7);
+        LocalDateTime today = now.toLocalDate().atStartOfDay();
+        return forEachChunk(
+                (afterUserId, page) -> notificationPreferencesRepository
+                        .findWeeklyProgressUserIds(dayOfWeek, afterUserId, page),
+                userIds -> {
+                    Map<Long, DigestStats> stats = loadStats(userIds, since);
+                    int sent = 0;
+                    for (Long userId : userIds) {
+                        DigestStats week = stats.get(userId);
+                        int minutes = week.lessonsCompleted() * MINUTES_PER_LESSON + week.quizzesTaken() * MINUTES_PER_QUIZ;
+                        boolean claimed = sendClaimed(userId,
+                                () -> notificationPreferencesRepository.claimWeeklyProgress(userId, today, now),
+                                () -> notificationPublisher.notifyWeeklyProgress(userId,
+                                        week.lessonsCompleted(), minutes, week.averageScore()));
+                        if (claimed) {
+                            sent++;
+                        }
+                    }
+                    return sent;
+                });
+    }
+
+    // Private helper methods
+
+    private int forEachChunk(BiFunction<Long, PageRequest, List<Long>> nextChunk,
+                             Function<List<Long>, Integer> processChunk) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        long afterUserId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> userIds = nextChunk.apply(afterUserId, page);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            total += processChunk.apply(userIds);
+            afterUserId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    private Map<Long, DigestStats> loadStats(List<Long> userIds, LocalDateTime since) {
+        Map<Long, Integer> lessons = new HashMap<>();
+        for (Object[] row : userProgressRepository.countCompletedLessonsByUserSince(userIds, since)) {
+            lessons.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
+        Map<Long, Object[]> quizzes = new HashMap<>();
+        for (Object[] row : userQuizAttemptRepository.summarizeAttemptsByUserSince(userIds, since)) {
+            quizzes.put((Long) row[0], row);
+        }
+
+        Map<Long, DigestStats> stats = new HashMap<>();
+        for (Long userId : userIds) {
+            Object[] quiz = quizzes.get(userId);
+            stats.put(userId, new DigestStats(
+                    lessons.getOrDefault(userId, 0),
+                    quiz != null ? ((Number) quiz[1]).intValue() : 0,
+                    quiz != null && quiz[2] != null ? ((Number) quiz[2]).doubleValue() : 0.0));
+        }
+        return stats;
+    }
+
+    private Map<Long, List<Long>> loadPendingLowPriority(List<Long> userIds, LocalDateTime since) {
+        Map<Long, List<Long>> pending = new HashMap<>();
+        for (Object[] row : notificationRepository.findPendingLowPriorityIds(userIds, since)) {
+            pending.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return pending;
+    }
+
+    /**
+     * Run the send in one transaction with the user's claim. Returns false when another node or an
+     * earlier run already served the user, or when the send failed and everything was rolled back.
+     */
+    private boolean sendClaimed(Long userId, IntSupplier claim, Runnable send) {
+        try {
+            Boolean sent = new TransactionTemplate(transactionManager).execute(status -> {
+                if (claim.getAsInt() == 0) {
+                    return false;
+                }
+                send.run();
+                return true;
+            });
+            return Boolean.TRUE.equals(sent);
+        } catch (Exception e) {
+            log.error("Failed to send digest to user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private String formatMinute(int minuteOfDay) {
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
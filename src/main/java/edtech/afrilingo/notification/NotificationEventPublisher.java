@@ -10,6 +10,7 @@ import java.util.List;
 /**
  * Service for publishing notification events.
  * Other services can use this to create notifications for users.
+ * Delivery (WebSocket and push) happens asynchronously through the notification outbox.
  */
 @Service
 @RequiredArgsConstructor
@@ -17,7 +18,6 @@ import java.util.List;
 public class NotificationEventPublisher {
 
     private final NotificationService notificationService;
-    private final FCMNotificationService fcmNotificationService;
 
     // ============ CORE NOTIFICATION METHODS ============
 
@@ -34,14 +34,11 @@ public class NotificationEventPublisher {
     public NotificationDTO notifyUser(Long userId, String message, NotificationType type,
                                       Long relatedEntityId, String actionUrl, String imageUrl, int priority) {
         try {
-            // Create notification in database
+            // Create notification and its delivery intents in one transaction
             NotificationDTO notification = notificationService.createNotification(
                     userId, message, type, relatedEntityId, actionUrl, imageUrl, priority);
 
-            // Send push notification
-            fcmNotificationService.sendPushNotification(userId, notification);
-
-            log.debug("Notification created and sent for user {}: {}", userId, message);
+            log.debug("Notification created and queued for user {}: {}", userId, message);
             return notification;
         } catch (Exception e) {
             log.error("Error creating notification for user {}: {}", userId, e.getMessage(), e);
@@ -197,6 +194,16 @@ public class NotificationEventPublisher {
         return notifyUser(userId, message, NotificationType.SYSTEM_NOTIFICATION, null, actionUrl, null, 2);
     }
 
+    /**
+     * Notify daily digest, replacing the low-priority pushes collected over the last 24 hours
+     */
+    public NotificationDTO notifyDailyDigest(Long userId, int pendingUpdates, int lessonsCompleted, int quizzesTaken) {
+        String message = String.format("📬 Your daily digest: %d new update(s). In the last 24 hours you completed %d lesson(s) and %d quiz(zes).",
+                pendingUpdates, lessonsCompleted, quizzesTaken);
+        String actionUrl = "afrilingo://notifications";
+        return notifyUser(userId, message, NotificationType.SYSTEM_NOTIFICATION, null, actionUrl, null, 2);
+    }
+
     /**
      * Notify monthly progress
      */
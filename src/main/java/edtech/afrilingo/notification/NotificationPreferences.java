@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -59,4 +61,8 @@ public class NotificationPreferences {
     @Column(nullable = false)
     private boolean weeklyProgress = false;
     private String weeklyProgressDay; // "SUNDAY"
+
+    // When the last digest and weekly summary were sent; the digest job claims a user by stamping these
+    private LocalDateTime lastDailyDigestAt;
+    private LocalDateTime lastWeeklyProgressAt;
 }
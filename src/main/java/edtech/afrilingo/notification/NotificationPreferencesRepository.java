@@ -1,13 +1,54 @@
 // NotificationPreferencesRepository.java
 package edtech.afrilingo.notification;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationPreferencesRepository extends JpaRepository<NotificationPreferences, Long> {
     Optional<NotificationPreferences> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
-}
\ No newline at end of file
+
+    // Digest slot scans, keyset-paginated on user id. Times are "HH:mm" strings, so range checks are lexical.
+    @Query("SELECT p.user.id FROM NotificationPreferences p WHERE p.dailyDigest = true " +
+            "AND p.dailyDigestTime >= :slotStart AND p.dailyDigestTime < :slotEnd " +
+            "AND p.user.id > :afterUserId ORDER BY p.user.id")
+    List<Long> findDailyDigestUserIds(@Param("slotStart") String slotStart,
+                                      @Param("slotEnd") String slotEnd,
+                                      @Param("afterUserId") Long afterUserId,
+                                      Pageable pageable);
+
+    @Query("SELECT p.user.id FROM NotificationPreferences p WHERE p.weeklyProgress = true " +
+            "AND UPPER(p.weeklyProgressDay) = :day AND p.user.id > :afterUserId ORDER BY p.user.id")
+    List<Long> findWeeklyProgressUserIds(@Param("day") String day,
+                                         @Param("afterUserId") Long afterUserId,
+                                         Pageable pageable);
+
+    // Digest claims: stamp the user's row unless it was already served since servedSince. SKIP LOCKED makes a
+    // node pass over a row another node is digesting; the lock is held until the digest transaction commits.
+    @Modifying
+    @Query(value = "UPDATE notification_preferences SET last_daily_digest_at = :now WHERE id IN " +
+            "(SELECT id FROM notification_preferences WHERE user_id = :userId " +
+            "AND (last_daily_digest_at IS NULL OR last_daily_digest_at < :servedSince) FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int claimDailyDigest(@Param("userId") Long userId,
+                         @Param("servedSince") LocalDateTime servedSince,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE notification_preferences SET last_weekly_progress_at = :now WHERE id IN " +
+            "(SELECT id FROM notification_preferences WHERE user_id = :userId " +
+            "AND (last_weekly_progress_at IS NULL OR last_weekly_progress_at < :servedSince) FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int claimWeeklyProgress(@Param("userId") Long userId,
+                            @Param("servedSince") LocalDateTime servedSince,
+                            @Param("now") LocalDateTime now);
+}
@@ -1,18 +1,32 @@
 package edtech.afrilingo.notification;
 
+import edtech.afrilingo.notification.dto.NotificationDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    // Projects rows straight into NotificationDTO; n.user.id reads the FK column without a join
+    String DTO_PROJECTION = "SELECT new edtech.afrilingo.notification.dto.NotificationDTO(" +
+            "n.id, n.user.id, n.message, n.timestamp, n.read, n.type, n.relatedEntityId, " +
+            "n.snoozed, n.snoozedUntil, n.priority, n.actionUrl, n.imageUrl) FROM Notification n ";
+
+    String ACTIVE_UNREAD = "n.read = false AND (n.snoozed = false OR n.snoozedUntil <= :now) ";
+
+    String FEED_ORDER = "ORDER BY n.timestamp DESC, n.id DESC";
+
+    String AFTER_CURSOR = "(n.timestamp < :cursorTimestamp OR (n.timestamp = :cursorTimestamp AND n.id < :cursorId)) ";
+
     List<Notification> findByUserId(Long userId);
 
     Page<Notification> findByUserIdOrderByTimestampDesc(Long userId, Pageable pageable);
@@ -33,14 +47,59 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByUserIdAndTimestampAfter(Long userId, LocalDateTime timestamp);
 
-    void deleteByUserId(Long userId);
-
-    @Query("SELECT n FROM Notification n WHERE n.snoozed = true AND n.snoozedUntil <= ?1")
-    List<Notification> findExpiredSnoozedNotifications(LocalDateTime currentTime);
-
-    @Query("SELECT n FROM Notification n WHERE n.user.id = ?1 AND n.read = false AND (n.snoozed = false OR n.snoozedUntil <= ?2)")
-    List<Notification> findActiveUnreadNotifications(Long userId, LocalDateTime currentTime);
-
-    @Query("SELECT n FROM Notification n WHERE n.timestamp < ?1")
-    List<Notification> findOldNotifications(LocalDateTime cutoffDate);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.id = ?1")
+    int deleteAllByUserId(Long userId);
+
+    // Pending low-priority notifications collapsed into the daily digest, as (userId, notificationId) rows
+    @Query("SELECT n.user.id, n.id FROM Notification n WHERE n.user.id IN :userIds " +
+            "AND n.read = false AND n.priority <= 1 AND n.timestamp >= :since")
+    List<Object[]> findPendingLowPriorityIds(@Param("userIds") Collection<Long> userIds,
+                                             @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id IN :ids AND n.read = false")
+    int markAsReadByIds(@Param("ids") Collection<Long> ids);
+
+    // Chunked maintenance statements; each call touches at most batchSize rows so the
+    // retention job can commit and throttle between chunks.
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN " +
+            "(SELECT id FROM notifications WHERE timestamp < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteOldNotificationsBatch(LocalDateTime cutoffDate, int batchSize);
+
+    @Modifying
+    @Query(value = "UPDATE notifications SET snoozed = false, snoozed_until = NULL WHERE id IN " +
+            "(SELECT id FROM notifications WHERE snoozed = true AND snoozed_until <= ?1 LIMIT ?2)", nativeQuery = true)
+    int releaseExpiredSnoozesBatch(LocalDateTime currentTime, int batchSize);
+
+    // Keyset feed queries, served by idx_notifications_user_feed / idx_notifications_user_unread_feed.
+    // Callers pass PageRequest.of(0, limit) to bound the result without a count query.
+    @Query(DTO_PROJECTION + "WHERE n.user.id = :userId " + FEED_ORDER)
+    List<NotificationDTO> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(DTO_PROJECTION + "WHERE n.user.id = :userId AND " + AFTER_CURSOR + FEED_ORDER)
+    List<NotificationDTO> findFeedAfter(@Param("userId") Long userId,
+                                        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    @Query(DTO_PROJECTION + "WHERE n.user.id = :userId AND " + ACTIVE_UNREAD + FEED_ORDER)
+    List<NotificationDTO> findUnreadFeed(@Param("userId") Long userId,
+                                         @Param("now") LocalDateTime now,
+                                         Pageable pageable);
+
+    @Query(DTO_PROJECTION + "WHERE n.user.id = :userId AND " + ACTIVE_UNREAD + "AND " + AFTER_CURSOR + FEED_ORDER)
+    List<NotificationDTO> findUnreadFeedAfter(@Param("userId") Long userId,
+                                              @Param("now") LocalDateTime now,
+                                              @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    @Query(DTO_PROJECTION + "WHERE n.id IN :ids")
+    List<NotificationDTO> findDTOsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = DTO_PROJECTION + "WHERE n.user.id = :userId " + FEED_ORDER,
+            countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId")
+    Page<NotificationDTO> findFeedPage(@Param("userId") Long userId, Pageable pageable);
+}
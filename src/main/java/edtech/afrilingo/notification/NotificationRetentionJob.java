@@ -0,0 +1,158 @@
+package edtech.afrilingo.notification;
+
+import edtech.afrilingo.notification.outbox.NotificationDeliveryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * Scheduled retention for the notifications table.
+ * Old rows are removed and expired snoozes released in bounded chunks, each chunk in its own
+ * short transaction with a pause in between, so replication and IO are never hit by one huge
+ * statement.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${afrilingo.notifications.retention.enabled:true}")
+    private boolean retentionEnabled;
+
+    @Value("${afrilingo.notifications.retention.days-to-keep:90}")
+    private int daysToKeep;
+
+    @Value("${afrilingo.notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${afrilingo.notifications.retention.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs;
+
+    @Value("${afrilingo.notifications.retention.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+
+    @Value("${afrilingo.notifications.outbox.keep-delivered-hours:24}")
+    private int keepDeliveredHours;
+
+    private final AtomicReference<Map<String, Object>> lastPurgeReport = new AtomicReference<>(Map.of());
+
+    // Run every day at 03:30 server time, outside the evening reminder peak
+    @Scheduled(cron = "${afrilingo.notifications.retention.cron:0 30 3 * * *}")
+    public void purgeOldNotifications() {
+        if (!retentionEnabled) {
+            return;
+        }
+        purgeNotificationsOlderThan(LocalDateTime.now().minusDays(daysToKeep));
+
+        LocalDateTime deliveredCutoff = LocalDateTime.now().minusHours(keepDeliveredHours);
+        long purgedIntents = runInChunks(() -> notificationDeliveryRepository.deleteDeliveredBatch(deliveredCutoff, batchSize));
+        log.info("Notification retention removed {} delivered outbox intents", purgedIntents);
+    }
+
+    // Snoozes are short, so release them frequently in small chunks
+    @Scheduled(fixedDelayString = "${afrilingo.notifications.retention.snooze-release-interval-ms:60000}")
+    public void releaseExpiredSnoozes() {
+        if (!retentionEnabled) {
+            return;
+        }
+        releaseExpiredSnoozes(LocalDateTime.now());
+    }
+
+    /**
+     * Delete all notifications older than the cutoff.
+     * @param cutoffDate Notifications with a timestamp before this are removed
+     * @return Number of rows removed
+     */
+    public long purgeNotificationsOlderThan(LocalDateTime cutoffDate) {
+        long startNanos = System.nanoTime();
+
+        long deleted = runInChunks(() -> notificationRepository.deleteOldNotificationsBatch(cutoffDate, batchSize));
+
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        double rowsPerSecond = seconds > 0 ? deleted / seconds : deleted;
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("cutoffDate", cutoffDate);
+        report.put("rowsDeleted", deleted);
+        report.put("durationSeconds", seconds);
+        report.put("rowsPerSecond", rowsPerSecond);
+        report.put("completedAt", LocalDateTime.now());
+        lastPurgeReport.set(report);
+
+        log.info("Notification retention removed {} rows older than {} in {} s ({} rows/s)",
+                deleted, cutoffDate,
+                String.format("%.2f", seconds), String.format("%.0f", rowsPerSecond));
+        return deleted;
+    }
+
+    /**
+     * Clear the snooze flag on every notification whose snooze has expired.
+     * @param currentTime Reference time for expiry
+     * @return Number of notifications released
+     */
+    public long releaseExpiredSnoozes(LocalDateTime currentTime) {
+        long released = runInChunks(() -> notificationRepository.releaseExpiredSnoozesBatch(currentTime, batchSize));
+        if (released > 0) {
+            log.debug("Released {} expired snoozed notifications", released);
+        }
+        return released;
+    }
+
+    /**
+     * Statistics of the most recent purge run.
+     * @return Report map (empty until the first run)
+     */
+    public Map<String, Object> getLastPurgeReport() {
+        return lastPurgeReport.get();
+    }
+
+    // Private helper methods
+
+    private long runInChunks(IntSupplier chunk) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer affected = transactionTemplate.execute(status -> chunk.getAsInt());
+            int rows = affected != null ? affected : 0;
+            total += rows;
+
+            if (rows < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Notification retention interrupted, stopping early");
+            return false;
+        }
+    }
+}
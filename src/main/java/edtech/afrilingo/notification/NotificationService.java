@@ -1,20 +1,30 @@
 package edtech.afrilingo.notification;
 
+import edtech.afrilingo.exception.BadRequestException;
 import edtech.afrilingo.exception.ResourceNotFoundException;
 import edtech.afrilingo.notification.dto.DeviceTokenDTO;
 import edtech.afrilingo.notification.dto.NotificationDTO;
+import edtech.afrilingo.notification.dto.NotificationFeedDTO;
 import edtech.afrilingo.notification.dto.NotificationPreferencesDTO;
+import edtech.afrilingo.notification.outbox.DeliveryChannel;
+import edtech.afrilingo.notification.outbox.NotificationOutbox;
 import edtech.afrilingo.user.User;
 import edtech.afrilingo.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +40,14 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final UserDeviceTokenRepository userDeviceTokenRepository;
     private final NotificationPreferencesRepository notificationPreferencesRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationRetentionJob notificationRetentionJob;
+    private final PushRoutingService pushRoutingService;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
+    @Value("${afrilingo.notifications.feed.max-list-size:200}")
+    private int maxListSize;
 
     /**
      * Create a notification with basic parameters
@@ -40,8 +57,10 @@ public class NotificationService {
     }
 
     /**
-     * Create a notification with all parameters
+     * Create a notification with all parameters.
+     * WebSocket and push delivery are queued in the same transaction and handled by the {@link NotificationOutbox}.
      */
+    @Transactional
     public NotificationDTO createNotification(Long userId, String message, NotificationType type,
                                               Long relatedEntityId, String actionUrl, String imageUrl, int priority) {
         User user = userRepository.findById(userId)
@@ -61,45 +80,94 @@ public class NotificationService {
                 .build();
 
         Notification savedNotification = notificationRepository.save(notification);
-        NotificationDTO notificationDTO = mapToDTO(savedNotification);
+        notificationOutbox.enqueue(savedNotification, user.getUsername());
 
-        // Send real-time notification via WebSocket
-        try {
-            messagingTemplate.convertAndSendToUser(
-                    user.getUsername(),
-                    "/queue/notifications",
-                    notificationDTO
-            );
-            log.debug("Real-time notification sent to user: {}", userId);
-        } catch (Exception e) {
-            log.warn("Failed to send real-time notification to user {}: {}", userId, e.getMessage());
-        }
+        return mapToDTO(savedNotification);
+    }
 
-        return notificationDTO;
+    /**
+     * Send the current user a test push through the delivery outbox, so quiet hours and retries
+     * apply as for any other push
+     */
+    @Transactional
+    public NotificationDTO sendTestPush(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(user)
+                .message("This is a test notification to verify your push notification settings.")
+                .timestamp(LocalDateTime.now())
+                .read(false)
+                .type(NotificationType.SYSTEM_NOTIFICATION)
+                .priority(2)
+                .snoozed(false)
+                .build());
+        notificationOutbox.enqueue(notification, user.getUsername(), List.of(DeliveryChannel.PUSH));
+
+        return mapToDTO(notification);
     }
 
+    /**
+     * Most recent notifications of a user, bounded by afrilingo.notifications.feed.max-list-size.
+     * Use {@link #getNotificationFeed} to page further back.
+     */
     public List<NotificationDTO> getUserNotifications(Long userId) {
         validateUserExists(userId);
-        return notificationRepository.findByUserIdOrderByTimestampDesc(userId, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return notificationRepository.findFeed(userId, PageRequest.of(0, maxListSize));
     }
 
     public Page<NotificationDTO> getPaginatedUserNotifications(Long userId, Pageable pageable) {
         validateUserExists(userId);
-        return notificationRepository.findByUserIdOrderByTimestampDesc(userId, pageable)
-                .map(this::mapToDTO);
+        return notificationRepository.findFeedPage(userId, pageable);
     }
 
+    /**
+     * Most recent active unread notifications, bounded like {@link #getUserNotifications}
+     */
     public List<NotificationDTO> getUnreadNotifications(Long userId) {
         validateUserExists(userId);
+        return notificationRepository.findUnreadFeed(userId, LocalDateTime.now(), PageRequest.of(0, maxListSize));
+    }
+
+    /**
+     * Cursor-based notification feed ordered by (timestamp, id) descending.
+     * Reads stay constant-cost however deep the client scrolls, unlike offset paging.
+     * @param userId User ID
+     * @param cursor Cursor returned by the previous page, or null for the first page
+     * @param size Page size (capped at MAX_FEED_PAGE_SIZE)
+     * @param unreadOnly Only return active unread notifications
+     */
+    @Transactional(readOnly = true)
+    public NotificationFeedDTO getNotificationFeed(Long userId, String cursor, int size, boolean unreadOnly) {
+        validateUserExists(userId);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        // Fetch one extra row to know whether another page exists
+        Pageable limit = PageRequest.of(0, pageSize + 1);
         LocalDateTime now = LocalDateTime.now();
-        return notificationRepository.findActiveUnreadNotifications(userId, now)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+
+        List<NotificationDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadFeed(userId, now, limit)
+                    : notificationRepository.findFeed(userId, limit);
+        } else {
+            FeedCursor position = decodeCursor(cursor);
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadFeedAfter(userId, now, position.timestamp(), position.id(), limit)
+                    : notificationRepository.findFeedAfter(userId, position.timestamp(), position.id(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return NotificationFeedDTO.builder()
+                .notifications(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     public long getUnreadCount(Long userId) {
@@ -157,6 +225,8 @@ public class NotificationService {
         if (existingToken.isPresent()) {
             // Update existing token
             UserDeviceToken token = existingToken.get();
+            // The token may move between accounts on a shared device
+            pushRoutingService.invalidate(token.getUser().getId());
             token.setUser(user); // Ensure it's associated with the current user
             token.setLastUsedAt(LocalDateTime.now());
             token.setActive(true);
@@ -179,6 +249,7 @@ public class NotificationService {
             userDeviceTokenRepository.save(newToken);
             log.debug("Registered new device token for user {}", userId);
         }
+        pushRoutingService.invalidate(userId);
     }
 
     /**
@@ -193,6 +264,7 @@ public class NotificationService {
             deviceToken.get().setActive(false);
             userDeviceTokenRepository.save(deviceToken.get());
             log.debug("Deactivated device token for user {}", userId);
+            pushRoutingService.invalidate(userId);
         } else {
             log.warn("Device token not found for user {} and token {}", userId, token.substring(0, 10) + "...");
         }
@@ -227,6 +299,7 @@ public class NotificationService {
 
         NotificationPreferences savedPreferences = notificationPreferencesRepository.save(preferences);
         log.debug("Updated notification preferences for user {}", userId);
+        pushRoutingService.invalidate(userId);
 
         return mapPreferencesToDTO(savedPreferences);
     }
@@ -287,6 +360,7 @@ public class NotificationService {
     /**
      * Get notification summary with statistics
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getNotificationSummary(Long userId) {
         validateUserExists(userId);
 
@@ -344,48 +418,47 @@ public class NotificationService {
     public void clearAllNotifications(Long userId) {
         validateUserExists(userId);
 
-        long deletedCount = notificationRepository.countByUserId(userId);
-        notificationRepository.deleteByUserId(userId);
+        int deletedCount = notificationRepository.deleteAllByUserId(userId);
 
         log.debug("Cleared {} notifications for user {}", deletedCount, userId);
     }
 
     /**
-     * Process expired snoozed notifications (should be called periodically)
+     * Process expired snoozed notifications (also run periodically by {@link NotificationRetentionJob})
      */
-    @Transactional
     public void processExpiredSnoozedNotifications() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Notification> expiredNotifications = notificationRepository
-                .findExpiredSnoozedNotifications(now);
-
-        if (!expiredNotifications.isEmpty()) {
-            expiredNotifications.forEach(notification -> {
-                notification.setSnoozed(false);
-                notification.setSnoozedUntil(null);
-            });
-
-            notificationRepository.saveAll(expiredNotifications);
-            log.debug("Processed {} expired snoozed notifications", expiredNotifications.size());
-        }
+        notificationRetentionJob.releaseExpiredSnoozes(LocalDateTime.now());
     }
 
     /**
-     * Clean up old notifications (should be called periodically)
+     * Clean up old notifications (also run periodically by {@link NotificationRetentionJob})
      */
-    @Transactional
     public void cleanupOldNotifications(int daysToKeep) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysToKeep);
-        List<Notification> oldNotifications = notificationRepository.findOldNotifications(cutoffDate);
-
-        if (!oldNotifications.isEmpty()) {
-            notificationRepository.deleteAll(oldNotifications);
-            log.info("Cleaned up {} old notifications older than {} days", oldNotifications.size(), daysToKeep);
-        }
+        notificationRetentionJob.purgeNotificationsOlderThan(LocalDateTime.now().minusDays(daysToKeep));
     }
 
     // Private helper methods
 
+    record FeedCursor(LocalDateTime timestamp, Long id) {
+    }
+
+    static String encodeCursor(NotificationDTO last) {
+        String raw = last.getTimestamp() + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static FeedCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid notification feed cursor");
+        }
+    }
+
     private void validateUserExists(Long userId) {
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User", "id", userId);
@@ -412,6 +485,7 @@ public class NotificationService {
 
         NotificationPreferences saved = notificationPreferencesRepository.save(preferences);
         log.debug("Created default notification preferences for user {}", userId);
+        pushRoutingService.invalidate(userId);
 
         return saved;
     }
@@ -428,11 +502,23 @@ public class NotificationService {
         preferences.setQuietHoursEnd(dto.getQuietHoursEnd());
         preferences.setRespectQuietHours(dto.isRespectQuietHours());
         preferences.setDailyDigest(dto.isDailyDigest());
-        preferences.setDailyDigestTime(dto.getDailyDigestTime());
+        preferences.setDailyDigestTime(normalizeDigestTime(dto.getDailyDigestTime()));
         preferences.setWeeklyProgress(dto.isWeeklyProgress());
         preferences.setWeeklyProgressDay(dto.getWeeklyProgressDay());
     }
 
+    // Digest slots are matched lexically on "HH:mm", so store times zero-padded (V5 pads older rows)
+    private String normalizeDigestTime(String time) {
+        if (time == null || time.isBlank()) {
+            return time;
+        }
+        try {
+            return LocalTime.parse(time.trim(), DateTimeFormatter.ofPattern("H:mm")).format(DateTimeFormatter.ofPattern("HH:mm"));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Daily digest time must be formatted as HH:mm");
+        }
+    }
+
     private NotificationPreferencesDTO mapPreferencesToDTO(NotificationPreferences preferences) {
         return NotificationPreferencesDTO.builder()
                 .id(preferences.getId())
@@ -0,0 +1,146 @@
+package edtech.afrilingo.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Precompiled, immutable view of a user's push preferences and active devices.
+ * Built once from NotificationPreferences and UserDeviceToken rows and cached by
+ * {@link PushRoutingService}, so routing a push needs no queries and no time parsing.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PushRoutingProfile {
+
+    private static final int NO_QUIET_HOURS = -1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Long userId;
+    private final boolean pushEnabled;
+
+    // Daily digest users get low-priority notifications in the digest instead of as pushes
+    private final boolean lowPriorityDigested;
+
+    // One bit per NotificationType ordinal
+    private final int enabledTypeMask;
+
+    // Quiet hours as minute-of-day, NO_QUIET_HOURS when not configured
+    private final int quietStartMinute;
+    private final int quietEndMinute;
+
+    private final List<DeviceTarget> devices;
+
+    /**
+     * Active device a push can be sent to, detached from the persistence context
+     */
+    public record DeviceTarget(Long id, String token, String deviceId) {
+    }
+
+    public static PushRoutingProfile disabled(Long userId) {
+        return PushRoutingProfile.builder()
+                .userId(userId)
+                .pushEnabled(false)
+                .lowPriorityDigested(false)
+                .enabledTypeMask(0)
+                .quietStartMinute(NO_QUIET_HOURS)
+                .quietEndMinute(NO_QUIET_HOURS)
+                .devices(List.of())
+                .build();
+    }
+
+    public static PushRoutingProfile compile(Long userId, NotificationPreferences preferences, List<UserDeviceToken> tokens) {
+        int mask = 0;
+        for (NotificationType type : NotificationType.values()) {
+            if (isTypeEnabled(preferences, type)) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+
+        int quietStart = NO_QUIET_HOURS;
+        int quietEnd = NO_QUIET_HOURS;
+        if (preferences.isRespectQuietHours()) {
+            quietStart = toMinuteOfDay(preferences.getQuietHoursStart());
+            quietEnd = toMinuteOfDay(preferences.getQuietHoursEnd());
+            if (quietStart == NO_QUIET_HOURS || quietEnd == NO_QUIET_HOURS || quietStart == quietEnd) {
+                quietStart = NO_QUIET_HOURS;
+                quietEnd = NO_QUIET_HOURS;
+            }
+        }
+
+        List<DeviceTarget> devices = tokens.stream()
+                .map(token -> new DeviceTarget(token.getId(), token.getToken(), token.getDeviceId()))
+                .toList();
+
+        return PushRoutingProfile.builder()
+                .userId(userId)
+                .pushEnabled(preferences.isPushNotificationsEnabled())
+                .lowPriorityDigested(preferences.isDailyDigest())
+                .enabledTypeMask(mask)
+                .quietStartMinute(quietStart)
+                .quietEndMinute(quietEnd)
+                .devices(devices)
+                .build();
+    }
+
+    public boolean isTypeEnabled(NotificationType type) {
+        return (enabledTypeMask & (1 << type.ordinal())) != 0;
+    }
+
+    /**
+     * Check if the given minute of the day falls into quiet hours
+     * @param minuteOfDay Minutes since midnight
+     * @return true if in quiet hours
+     */
+    public boolean isQuietAt(int minuteOfDay) {
+        if (quietStartMinute == NO_QUIET_HOURS) {
+            return false;
+        }
+        if (quietStartMinute < quietEndMinute) {
+            // Same day quiet hours (e.g., 14:00 to 18:00)
+            return minuteOfDay >= quietStartMinute && minuteOfDay < quietEndMinute;
+        }
+        // Overnight quiet hours (e.g., 22:00 to 08:00)
+        return minuteOfDay >= quietStartMinute || minuteOfDay < quietEndMinute;
+    }
+
+    /**
+     * Minutes from the given minute of the day until quiet hours end
+     * @param minuteOfDay Minutes since midnight
+     * @return Minutes until delivery is allowed again (0 when not in quiet hours)
+     */
+    public int minutesUntilQuietEnd(int minuteOfDay) {
+        if (!isQuietAt(minuteOfDay)) {
+            return 0;
+        }
+        return Math.floorMod(quietEndMinute - minuteOfDay, MINUTES_PER_DAY);
+    }
+
+    private static boolean isTypeEnabled(NotificationPreferences preferences, NotificationType type) {
+        return switch (type) {
+            case COURSE_COMPLETED -> preferences.isCourseCompletionNotifications();
+            case LESSON_COMPLETED -> preferences.isLessonCompletionNotifications();
+            case QUIZ_COMPLETED -> preferences.isQuizCompletionNotifications();
+            case ACHIEVEMENT_UNLOCKED -> preferences.isAchievementNotifications();
+            case REMINDER -> preferences.isReminderNotifications();
+            case SYSTEM_NOTIFICATION, NEW_COURSE_AVAILABLE -> preferences.isSystemNotifications();
+        };
+    }
+
+    private static int toMinuteOfDay(String time) {
+        if (time == null || time.isBlank()) {
+            return NO_QUIET_HOURS;
+        }
+        try {
+            LocalTime parsed = LocalTime.parse(time.trim());
+            return parsed.getHour() * 60 + parsed.getMinute();
+        } catch (DateTimeParseException e) {
+            return NO_QUIET_HOURS;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package edtech.afrilingo.notification;
+
+import edtech.afrilingo.config.CacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import static edtech.afrilingo.config.CacheConfig.PUSH_ROUTING_CACHE;
+
+/**
+ * Resolves and caches {@link PushRoutingProfile}s.
+ * Profiles are invalidated by NotificationService whenever preferences or device tokens change.
+ */
+@Service
+@RequiredArgsConstructor
+public class PushRoutingService {
+
+    private final NotificationPreferencesRepository notificationPreferencesRepository;
+    private final UserDeviceTokenRepository userDeviceTokenRepository;
+    private final CacheInvalidator cacheInvalidator;
+
+    /**
+     * Get the routing profile of a user, compiling it on a cache miss
+     * @param userId User ID
+     * @return Routing profile (disabled when the user has no preferences yet)
+     */
+    @Cacheable(cacheNames = PUSH_ROUTING_CACHE, key = "#userId")
+    public PushRoutingProfile getProfile(Long userId) {
+        return notificationPreferencesRepository.findByUserId(userId)
+                .map(preferences -> PushRoutingProfile.compile(userId, preferences,
+                        userDeviceTokenRepository.findByUserIdAndActiveTrue(userId)))
+                .orElseGet(() -> PushRoutingProfile.disabled(userId));
+    }
+
+    /**
+     * Drop the cached profile of a user.
+     * Inside a transaction the eviction runs after commit, so a concurrent push cannot
+     * re-cache the old rows in between.
+     * @param userId User ID
+     */
+    public void invalidate(Long userId) {
+        cacheInvalidator.evict(PUSH_ROUTING_CACHE, userId);
+    }
+}
@@ -2,8 +2,10 @@
 package edtech.afrilingo.notification;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,4 +25,15 @@ public interface UserDeviceTokenRepository extends JpaRepository<UserDeviceToken
     List<UserDeviceToken> findInactiveTokens(LocalDateTime cutoffDate);
     
     void deleteByUserIdAndToken(Long userId, String token);
-}
\ No newline at end of file
+
+    // Used from async push delivery, which works on detached device targets
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserDeviceToken udt SET udt.lastUsedAt = ?2 WHERE udt.id = ?1")
+    int touchLastUsed(Long id, LocalDateTime lastUsedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserDeviceToken udt SET udt.active = false WHERE udt.id = ?1")
+    int deactivateById(Long id);
+}
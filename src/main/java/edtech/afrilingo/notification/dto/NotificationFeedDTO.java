@@ -0,0 +1,20 @@
+package edtech.afrilingo.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFeedDTO {
+    private List<NotificationDTO> notifications;
+
+    // Opaque keyset cursor over (timestamp, id); pass back to fetch the next page
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,6 @@
+package edtech.afrilingo.notification.outbox;
+
+public enum DeliveryChannel {
+    WEBSOCKET,
+    PUSH
+}
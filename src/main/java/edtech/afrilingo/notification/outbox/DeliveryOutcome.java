@@ -0,0 +1,37 @@
+package edtech.afrilingo.notification.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Result of a successful channel call: done, postponed without counting as a failed attempt
+ * (e.g. the recipient is in quiet hours), or partially delivered with some targets left to retry.
+ * Failures that reached no target at all are reported by throwing.
+ */
+public record DeliveryOutcome(LocalDateTime deferUntil, Set<Long> failedTargets) {
+
+    private static final DeliveryOutcome DONE = new DeliveryOutcome(null, Set.of());
+
+    public static DeliveryOutcome done() {
+        return DONE;
+    }
+
+    public static DeliveryOutcome deferUntil(LocalDateTime time) {
+        return new DeliveryOutcome(time, Set.of());
+    }
+
+    /**
+     * Some targets (e.g. device tokens) were reached; only the failed ones should be retried
+     */
+    public static DeliveryOutcome partial(Set<Long> failedTargets) {
+        return new DeliveryOutcome(null, Set.copyOf(failedTargets));
+    }
+
+    public boolean isDeferred() {
+        return deferUntil != null;
+    }
+
+    public boolean isPartial() {
+        return !failedTargets.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package edtech.afrilingo.notification.outbox;
+
+public enum DeliveryStatus {
+    PENDING,
+    DELIVERED,
+    DEAD // retries exhausted, kept for inspection
+}
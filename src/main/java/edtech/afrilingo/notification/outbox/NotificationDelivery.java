@@ -0,0 +1,92 @@
+package edtech.afrilingo.notification.outbox;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delivery intent written in the same transaction as its notification.
+ * The outbox poller picks it up once due and delivers it to its channel.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "notification_deliveries", indexes = {
+        @Index(name = "idx_notification_deliveries_due", columnList = "status, next_attempt_at")
+})
+public class NotificationDelivery {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_deliveries_seq")
+    @SequenceGenerator(name = "notification_deliveries_seq", sequenceName = "notification_deliveries_seq", allocationSize = 50)
+    private Long id;
+
+    // Plain column rather than a foreign key, so notification cleanup never blocks on the outbox
+    @Column(nullable = false)
+    private Long notificationId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // Principal name used for user-specific WebSocket destinations
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryChannel channel;
+
+    // One intent per notification and channel; also sent along so devices can collapse redeliveries
+    @Column(nullable = false, unique = true)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // Next time the intent is due; while claimed it doubles as the worker's lease
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Comma-separated target ids (device tokens for push) a retry is limited to after a partial delivery;
+    // null means every target of the user
+    @Column(length = 1000)
+    private String retryTargets;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deliveredAt;
+
+    /**
+     * Targets a retry is limited to, or null for all of them
+     */
+    public Set<Long> getRetryTargetIds() {
+        if (retryTargets == null || retryTargets.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(retryTargets.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    public void setRetryTargetIds(Set<Long> targetIds) {
+        this.retryTargets = targetIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,27 @@
+package edtech.afrilingo.notification.outbox;
+
+import edtech.afrilingo.notification.dto.NotificationDTO;
+
+/**
+ * A transport the outbox can deliver notifications through.
+ * Implementations are picked up as Spring beans, one per {@link DeliveryChannel}.
+ */
+public interface NotificationDeliveryChannel {
+
+    DeliveryChannel getChannel();
+
+    /**
+     * Whether intents should be written for this channel at all
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Deliver one notification. Throw to have the intent retried with backoff.
+     * @param delivery Delivery intent
+     * @param notification Notification payload
+     * @return Outcome of the delivery
+     */
+    DeliveryOutcome deliver(NotificationDelivery delivery, NotificationDTO notification) throws Exception;
+}
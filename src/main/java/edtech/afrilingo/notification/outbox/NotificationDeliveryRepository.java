@@ -0,0 +1,36 @@
+package edtech.afrilingo.notification.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationDeliveryRepository extends JpaRepository<NotificationDelivery, Long> {
+
+    // SKIP LOCKED lets several workers claim disjoint batches without waiting on each other
+    @Query(value = "SELECT id FROM notification_deliveries WHERE status = 'PENDING' AND next_attempt_at <= ?1 " +
+            "ORDER BY next_attempt_at LIMIT ?2 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueDeliveryIds(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("UPDATE NotificationDelivery d SET d.nextAttemptAt = ?2 WHERE d.id IN ?1")
+    int leaseUntil(Collection<Long> ids, LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE NotificationDelivery d SET d.status = ?2, d.deliveredAt = ?3 WHERE d.id IN ?1")
+    int markDelivered(Collection<Long> ids, DeliveryStatus delivered, LocalDateTime deliveredAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM notification_deliveries WHERE id IN " +
+            "(SELECT id FROM notification_deliveries WHERE status = 'DELIVERED' AND delivered_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteDeliveredBatch(LocalDateTime cutoffDate, int batchSize);
+
+    long countByStatus(DeliveryStatus status);
+
+    boolean existsByDedupKey(String dedupKey);
+}
@@ -0,0 +1,305 @@
+package edtech.afrilingo.notification.outbox;
+
+import edtech.afrilingo.notification.Notification;
+import edtech.afrilingo.notification.NotificationRepository;
+import edtech.afrilingo.notification.dto.NotificationDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox for notification delivery.
+ * Delivery intents are written in the notification's own transaction; a pool of poller workers
+ * claims due intents in batches (SELECT ... FOR UPDATE SKIP LOCKED), delivers them through the
+ * matching {@link NotificationDeliveryChannel} and retries failures with exponential backoff
+ * until they are dead-lettered.
+ */
+@Component
+@Slf4j
+public class NotificationOutbox {
+
+    private final NotificationDeliveryRepository deliveryRepository;
+    private final NotificationRepository notificationRepository;
+    private final Map<DeliveryChannel, NotificationDeliveryChannel> channels;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${afrilingo.notifications.outbox.workers:2}")
+    private int workers;
+
+    @Value("${afrilingo.notifications.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${afrilingo.notifications.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    // How long a claimed intent stays invisible to other workers
+    @Value("${afrilingo.notifications.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${afrilingo.notifications.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${afrilingo.notifications.outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${afrilingo.notifications.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    private ScheduledExecutorService workerPool;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    public NotificationOutbox(NotificationDeliveryRepository deliveryRepository,
+                              NotificationRepository notificationRepository,
+                              List<NotificationDeliveryChannel> deliveryChannels,
+                              PlatformTransactionManager transactionManager) {
+        this.deliveryRepository = deliveryRepository;
+        this.notificationRepository = notificationRepository;
+        this.channels = deliveryChannels.stream()
+                .collect(Collectors.toMap(NotificationDeliveryChannel::getChannel, Function.identity()));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        workerPool = Executors.newScheduledThreadPool(workers + 1);
+        for (int i = 0; i < workers; i++) {
+            // Stagger workers so their polls spread over the interval
+            long initialDelay = pollIntervalMs * (i + 1) / workers;
+            workerPool.scheduleWithFixedDelay(this::drain, initialDelay, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        log.info("Notification outbox started with {} poller workers", workers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * Write delivery intents for a notification.
+     * Must be called inside the transaction that saves the notification, so both commit or neither does.
+     * @param notification Saved notification
+     * @param recipient Principal name of the user, for WebSocket delivery
+     */
+    public void enqueue(Notification notification, String recipient) {
+        enqueue(notification, recipient, channels.keySet());
+    }
+
+    /**
+     * Write delivery intents for a notification on some channels only.
+     * Must be called inside the transaction that saves the notification, so both commit or neither does.
+     * @param notification Saved notification
+     * @param recipient Principal name of the user, for WebSocket delivery
+     * @param deliveryChannels Channels to deliver it through; disabled ones are skipped
+     */
+    public void enqueue(Notification notification, String recipient, Collection<DeliveryChannel> deliveryChannels) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationDelivery> intents = new ArrayList<>();
+
+        for (DeliveryChannel deliveryChannel : deliveryChannels) {
+            NotificationDeliveryChannel channel = channels.get(deliveryChannel);
+            if (channel == null || !channel.isEnabled()) {
+                continue;
+            }
+            intents.add(NotificationDelivery.builder()
+                    .notificationId(notification.getId())
+                    .userId(notification.getUser().getId())
+                    .recipient(recipient)
+                    .channel(channel.getChannel())
+                    .dedupKey(dedupKey(channel.getChannel(), notification.getId()))
+                    .status(DeliveryStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+
+        deliveryRepository.saveAll(intents);
+
+        // Deliver right after commit instead of waiting for the next poll
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        }
+    }
+
+    /**
+     * Write a push or WebSocket intent for a notification sent outside {@link #enqueue}, due at the
+     * given time. Used when such a send is held back (quiet hours), so it is delivered and retried
+     * like any other intent. An intent the notification already has for that channel and user is kept.
+     * @param notification Saved notification
+     * @param userId User to deliver it to
+     * @param deliveryChannel Channel to deliver it through
+     * @param dueAt When the intent becomes due
+     */
+    public void schedule(NotificationDTO notification, Long userId, DeliveryChannel deliveryChannel, LocalDateTime dueAt) {
+        // A bulk send reuses one notification for several users, each needing an intent of their own
+        String dedupKey = userId.equals(notification.getUserId())
+                ? dedupKey(deliveryChannel, notification.getId())
+                : dedupKey(deliveryChannel, notification.getId()) + "-" + userId;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (deliveryRepository.existsByDedupKey(dedupKey)) {
+                return;
+            }
+            deliveryRepository.save(NotificationDelivery.builder()
+                    .notificationId(notification.getId())
+                    .userId(userId)
+                    .channel(deliveryChannel)
+                    .dedupKey(dedupKey)
+                    .status(DeliveryStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(dueAt)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        });
+    }
+
+    /**
+     * Outbox backlog by status
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        for (DeliveryStatus status : DeliveryStatus.values()) {
+            stats.put(status.name().toLowerCase(), deliveryRepository.countByStatus(status));
+        }
+        stats.put("workers", workers);
+        return stats;
+    }
+
+    // Private helper methods
+
+    private static String dedupKey(DeliveryChannel channel, Long notificationId) {
+        return channel.name().toLowerCase() + "-" + notificationId;
+    }
+
+    private void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            workerPool.execute(() -> {
+                wakeUpPending.set(false);
+                drain();
+            });
+        }
+    }
+
+    private void drain() {
+        try {
+            // Keep going while batches come back full, so a backlog clears without waiting for the next tick
+            while (pollOnce() == batchSize) {
+                log.debug("Outbox batch full, polling again");
+            }
+        } catch (Exception e) {
+            log.error("Notification outbox poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int pollOnce() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NotificationDelivery> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = deliveryRepository.lockDueDeliveryIds(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            deliveryRepository.leaseUntil(ids, now.plusSeconds(leaseSeconds));
+            return deliveryRepository.findAllById(ids);
+        });
+
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> notificationIds = claimed.stream()
+                .map(NotificationDelivery::getNotificationId)
+                .collect(Collectors.toSet());
+        Map<Long, NotificationDTO> payloads = notificationRepository.findDTOsByIds(notificationIds).stream()
+                .collect(Collectors.toMap(NotificationDTO::getId, Function.identity()));
+
+        List<Long> delivered = new ArrayList<>();
+        List<NotificationDelivery> rescheduled = new ArrayList<>();
+
+        for (NotificationDelivery delivery : claimed) {
+            NotificationDTO payload = payloads.get(delivery.getNotificationId());
+            if (payload == null) {
+                // Notification was deleted before delivery; nothing left to send
+                delivered.add(delivery.getId());
+                continue;
+            }
+
+            try {
+                NotificationDeliveryChannel channel = channels.get(delivery.getChannel());
+                if (channel == null) {
+                    throw new IllegalStateException("No delivery channel registered for " + delivery.getChannel());
+                }
+
+                DeliveryOutcome outcome = channel.deliver(delivery, payload);
+                if (outcome.isDeferred()) {
+                    delivery.setNextAttemptAt(outcome.deferUntil());
+                    rescheduled.add(delivery);
+                } else if (outcome.isPartial()) {
+                    // Retry only the targets that failed; the ones reached must not get a duplicate
+                    delivery.setRetryTargetIds(outcome.failedTargets());
+                    recordFailure(delivery, new IllegalStateException(
+                            "Delivery failed for " + outcome.failedTargets().size() + " target(s)"));
+                    rescheduled.add(delivery);
+                } else {
+                    delivered.add(delivery.getId());
+                }
+            } catch (Exception e) {
+                recordFailure(delivery, e);
+                rescheduled.add(delivery);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                deliveryRepository.markDelivered(delivered, DeliveryStatus.DELIVERED, LocalDateTime.now());
+            }
+            deliveryRepository.saveAll(rescheduled);
+        });
+
+        log.debug("Outbox batch: {} delivered, {} rescheduled", delivered.size(), rescheduled.size());
+        return claimed.size();
+    }
+
+    private void recordFailure(NotificationDelivery delivery, Exception e) {
+        int attempts = delivery.getAttempts() + 1;
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+
+        delivery.setAttempts(attempts);
+        delivery.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (attempts >= maxAttempts) {
+            delivery.setStatus(DeliveryStatus.DEAD);
+            log.warn("Dead-lettered {} delivery {} after {} attempts: {}",
+                    delivery.getChannel(), delivery.getDedupKey(), attempts, error);
+            return;
+        }
+
+        // Exponential backoff with up to 20% jitter so retries of a failed batch spread out
+        long backoff = Math.min(maxBackoffSeconds, baseBackoffSeconds << Math.min(attempts - 1, 20));
+        long jitter = ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+        delivery.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoff + jitter));
+        log.debug("{} delivery {} failed (attempt {}), retrying in {} s: {}",
+                delivery.getChannel(), delivery.getDedupKey(), attempts, backoff + jitter, error);
+    }
+}
@@ -0,0 +1,29 @@
+package edtech.afrilingo.notification.outbox;
+
+import edtech.afrilingo.notification.FCMNotificationService;
+import edtech.afrilingo.notification.dto.NotificationDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PushDeliveryChannel implements NotificationDeliveryChannel {
+
+    private final FCMNotificationService fcmNotificationService;
+
+    @Override
+    public DeliveryChannel getChannel() {
+        return DeliveryChannel.PUSH;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return fcmNotificationService.isEnabled();
+    }
+
+    @Override
+    public DeliveryOutcome deliver(NotificationDelivery delivery, NotificationDTO notification) {
+        return fcmNotificationService.deliverPush(delivery.getUserId(), notification,
+                delivery.getDedupKey(), delivery.getRetryTargetIds());
+    }
+}
@@ -0,0 +1,24 @@
+package edtech.afrilingo.notification.outbox;
+
+import edtech.afrilingo.notification.dto.NotificationDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WebSocketDeliveryChannel implements NotificationDeliveryChannel {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public DeliveryChannel getChannel() {
+        return DeliveryChannel.WEBSOCKET;
+    }
+
+    @Override
+    public DeliveryOutcome deliver(NotificationDelivery delivery, NotificationDTO notification) {
+        messagingTemplate.convertAndSendToUser(delivery.getRecipient(), "/queue/notifications", notification);
+        return DeliveryOutcome.done();
+    }
+}
@@ -1,11 +1,13 @@
 package edtech.afrilingo.profile;
 
+import edtech.afrilingo.config.HttpCaching;
 import edtech.afrilingo.course.Course;
 import edtech.afrilingo.course.CourseService;
-import edtech.afrilingo.dto.ApiResponse;
 import edtech.afrilingo.exception.ResourceNotFoundException;
 import edtech.afrilingo.language.Language;
+import edtech.afrilingo.language.LanguageDTOMapper;
 import edtech.afrilingo.language.LanguageService;
+import edtech.afrilingo.lesson.LessonService;
 import edtech.afrilingo.userProgress.UserProgress;
 import edtech.afrilingo.userProgress.UserProgressRepository;
 import edtech.afrilingo.userProgress.UserQuizAttempt;
@@ -13,9 +15,14 @@ import edtech.afrilingo.userProgress.UserQuizAttemptRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,79 +37,35 @@ import java.util.stream.Collectors;
 @Tag(name = "Profile Setup", description = "Endpoints for user profile setup options")
 public class ProfileSetupController {
 
-    private final LanguageService languageService;
+    private final ProfileSetupOptionsService profileSetupOptionsService;
+
+    // Clients revalidate with If-None-Match; unchanged options cost a 304
+    private static final CacheControl OPTIONS_CACHE_CONTROL = CacheControl.noCache();
+
     @Operation(summary = "Get profile setup options", description = "Returns options for profile setup including countries, languages, and learning reasons")
     @GetMapping("/options")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getProfileSetupOptions() {
-        Map<String, Object> options = new HashMap<>();
-        
-        // List of countries
-        List<String> countries = Arrays.asList(
-                "Algeria", "Angola", "Benin", "Botswana", "Burkina Faso", 
-                "Burundi", "Cabo Verde", "Cameroon", "Central African Republic", 
-                "Chad", "Comoros", "Congo", "Côte d'Ivoire", "Djibouti", 
-                "Egypt", "Equatorial Guinea", "Eritrea", "Eswatini", "Ethiopia",
-                "Gabon", "Gambia", "Ghana", "Guinea", "Guinea-Bissau", 
-                "Kenya", "Lesotho", "Liberia", "Libya", "Madagascar", 
-                "Malawi", "Mali", "Mauritania", "Mauritius", "Morocco", 
-                "Mozambique", "Namibia", "Niger", "Nigeria", "Rwanda", 
-                "Sao Tome and Principe", "Senegal", "Seychelles", "Sierra Leone", 
-                "Somalia", "South Africa", "South Sudan", "Sudan", "Tanzania", 
-                "Togo", "Tunisia", "Uganda", "Zambia", "Zimbabwe",
-                "United States", "United Kingdom", "Canada", "Australia", 
-                "Germany", "France", "Brazil", "India", "China", "Japan",
-                "Other"
-        );
-        
-        // List of common languages
-        List<String> commonLanguages = Arrays.asList(
-                "English", "French", "Spanish", "Portuguese", "German", 
-                "Italian", "Russian", "Arabic", "Chinese", "Japanese", 
-                "Korean", "Hindi", "Urdu", "Bengali", "Turkish",
-                "Swahili", "Yoruba", "Igbo", "Hausa", "Amharic",
-                "Zulu", "Xhosa", "Shona", "Berber", "Oromo",
-                "Other"
-        );
-        
-        // Learning reasons
-        List<String> learningReasons = Arrays.asList(
-                "Travel to African countries",
-                "Connect with heritage/ancestry",
-                "Business/work opportunities",
-                "Academic research",
-                "Cultural appreciation",
-                "Personal interest",
-                "Communicate with friends/family",
-                "Relocating to an African country",
-                "Religious reasons",
-                "Other"
-        );
-        
-        // List of available learning languages
-        List<Language> availableLanguages = languageService.getAllLanguages();
-        
-        // List of preferred learning times
-        List<String> preferredLearningTimes = Arrays.asList(
-                "Early morning (5AM-8AM)",
-                "Morning (8AM-12PM)",
-                "Afternoon (12PM-5PM)",
-                "Evening (5PM-8PM)",
-                "Night (8PM-12AM)",
-                "Late night (12AM-5AM)",
-                "No preference"
-        );
-        
-        // Daily goal minutes options
-        List<Integer> dailyGoalOptions = Arrays.asList(5, 10, 15, 20, 30, 45, 60);
-        
-        options.put("countries", countries);
-        options.put("commonLanguages", commonLanguages);
-        options.put("learningReasons", learningReasons);
-        options.put("availableLanguages", availableLanguages);
-        options.put("preferredLearningTimes", preferredLearningTimes);
-        options.put("dailyGoalOptions", dailyGoalOptions);
-        
-        return ResponseEntity.ok(ApiResponse.success(options));
+    public ResponseEntity<byte[]> getProfileSetupOptions(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ProfileSetupOptionsService.Snapshot options = profileSetupOptionsService.getSnapshot();
+        if (HttpCaching.matchesEtag(ifNoneMatch, options.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(options.etag())
+                    .cacheControl(OPTIONS_CACHE_CONTROL)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(options.etag())
+                .cacheControl(OPTIONS_CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (HttpCaching.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(options.gzippedJson());
+        }
+        return response.body(options.json());
     }
 
     @Service
@@ -111,7 +74,9 @@ public class ProfileSetupController {
 
         private final UserProfileService userProfileService;
         private final CourseService courseService;
+        private final LessonService lessonService;
         private final LanguageService languageService;
+        private final LanguageDTOMapper languageDTOMapper;
         private final UserProgressRepository userProgressRepository;
         private final UserQuizAttemptRepository userQuizAttemptRepository;
 
@@ -153,7 +118,7 @@ public class ProfileSetupController {
             Map<Long, Double> courseProgress = calculateCourseProgress(userId, allUserProgress);
 
             dashboardData.put("userProfile", userProfile);
-            dashboardData.put("languagesToLearn", languagesToLearn);
+            dashboardData.put("languagesToLearn", languageDTOMapper.toDTOs(languagesToLearn));
             dashboardData.put("coursesByLanguage", coursesByLanguage);
             dashboardData.put("learningStats", learningStats);
             dashboardData.put("recommendedCourses", recommendedCourses);
@@ -315,8 +280,7 @@ public class ProfileSetupController {
                 // Get course details to find total number of lessons
                 Optional<Course> courseOpt = courseService.getCourseById(courseId);
                 if (courseOpt.isPresent()) {
-                    Course course = courseOpt.get();
-                    int totalLessons = course.getLessons().size();
+                    int totalLessons = lessonService.getLessonsByCourseIdOrdered(courseId).size();
 
                     if (totalLessons > 0) {
                         // Count completed lessons for this course
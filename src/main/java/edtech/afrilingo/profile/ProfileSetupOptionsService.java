@@ -0,0 +1,144 @@
+package edtech.afrilingo.profile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edtech.afrilingo.config.HttpCaching;
+import edtech.afrilingo.config.cache.CatalogVersions;
+import edtech.afrilingo.config.cache.CatalogVersions.Area;
+import edtech.afrilingo.dto.ApiResponse;
+import edtech.afrilingo.language.LanguageDTOMapper;
+import edtech.afrilingo.language.LanguageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Profile setup (onboarding) options as a ready-to-send payload.
+ * Everything but the available languages is constant, so the whole response is serialized once
+ * and kept as JSON and gzipped JSON with a strong ETag. The languages nest their courses, so the
+ * snapshot is rebuilt whenever the language or course catalog version moves, which happens when a
+ * language or course is created, updated or deleted (on this node or another).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileSetupOptionsService {
+
+    private static final Set<Area> AREAS = EnumSet.of(Area.LANGUAGES, Area.COURSES);
+
+    private static final List<String> COUNTRIES = List.of(
+            "Algeria", "Angola", "Benin", "Botswana", "Burkina Faso",
+            "Burundi", "Cabo Verde", "Cameroon", "Central African Republic",
+            "Chad", "Comoros", "Congo", "C\u00f4te d'Ivoire", "Djibouti",
+            "Egypt", "Equatorial Guinea", "Eritrea", "Eswatini", "Ethiopia",
+            "Gabon", "Gambia", "Ghana", "Guinea", "Guinea-Bissau",
+            "Kenya", "Lesotho", "Liberia", "Libya", "Madagascar",
+            "Malawi", "Mali", "Mauritania", "Mauritius", "Morocco",
+            "Mozambique", "Namibia", "Niger", "Nigeria", "Rwanda",
+            "Sao Tome and Principe", "Senegal", "Seychelles", "Sierra Leone",
+            "Somalia", "South Africa", "South Sudan", "Sudan", "Tanzania",
+            "Togo", "Tunisia", "Uganda", "Zambia", "Zimbabwe",
+            "United States", "United Kingdom", "Canada", "Australia",
+            "Germany", "France", "Brazil", "India", "China", "Japan",
+            "Other"
+    );
+
+    private static final List<String> COMMON_LANGUAGES = List.of(
+            "English", "French", "Spanish", "Portuguese", "German",
+            "Italian", "Russian", "Arabic", "Chinese", "Japanese",
+            "Korean", "Hindi", "Urdu", "Bengali", "Turkish",
+            "Swahili", "Yoruba", "Igbo", "Hausa", "Amharic",
+            "Zulu", "Xhosa", "Shona", "Berber", "Oromo",
+            "Other"
+    );
+
+    private static final List<String> LEARNING_REASONS = List.of(
+            "Travel to African countries",
+            "Connect with heritage/ancestry",
+            "Business/work opportunities",
+            "Academic research",
+            "Cultural appreciation",
+            "Personal interest",
+            "Communicate with friends/family",
+            "Relocating to an African country",
+            "Religious reasons",
+            "Other"
+    );
+
+    private static final List<String> PREFERRED_LEARNING_TIMES = List.of(
+            "Early morning (5AM-8AM)",
+            "Morning (8AM-12PM)",
+            "Afternoon (12PM-5PM)",
+            "Evening (5PM-8PM)",
+            "Night (8PM-12AM)",
+            "Late night (12AM-5AM)",
+            "No preference"
+    );
+
+    private static final List<Integer> DAILY_GOAL_OPTIONS = List.of(5, 10, 15, 20, 30, 45, 60);
+
+    /**
+     * Serialized options response
+     *
+     * @param version Language and course catalog version the snapshot was built at
+     * @param etag Strong ETag (quoted hash of the options)
+     * @param json ApiResponse JSON
+     * @param gzippedJson The same JSON, gzip compressed
+     */
+    public record Snapshot(long version, String etag, byte[] json, byte[] gzippedJson) {
+    }
+
+    private final LanguageService languageService;
+    private final LanguageDTOMapper languageDTOMapper;
+    private final CatalogVersions catalogVersions;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the current options, rebuilding them if a language or course changed since the last build
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == catalogVersions.version(AREAS)) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    // Private helper methods
+
+    private synchronized Snapshot rebuild() {
+        // Read before loading: a change committed meanwhile leaves this snapshot already stale
+        long version = catalogVersions.version(AREAS);
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot;
+        }
+
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("countries", COUNTRIES);
+        options.put("commonLanguages", COMMON_LANGUAGES);
+        options.put("learningReasons", LEARNING_REASONS);
+        options.put("availableLanguages", languageDTOMapper.toDTOsOfAll(languageService.getAllLanguages()));
+        options.put("preferredLearningTimes", PREFERRED_LEARNING_TIMES);
+        options.put("dailyGoalOptions", DAILY_GOAL_OPTIONS);
+
+        // The ETag covers the options only, not the response timestamp, so every node agrees on it
+        String etag = "\"" + HttpCaching.contentHash(serialize(options)) + "\"";
+        byte[] json = serialize(ApiResponse.success(options));
+        snapshot = new Snapshot(version, etag, json, HttpCaching.gzip(json));
+        log.info("Built profile setup options at catalog version {} ({} bytes, {} gzipped)",
+                version, json.length, snapshot.gzippedJson().length);
+        return snapshot;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize profile setup options: " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package edtech.afrilingo.profile;
 
 import edtech.afrilingo.course.Course;
 import edtech.afrilingo.course.CourseService;
+import edtech.afrilingo.dto.CourseSummaryDTO;
 import edtech.afrilingo.exception.ResourceNotFoundException;
 import edtech.afrilingo.language.Language;
 import edtech.afrilingo.language.LanguageService;
+import edtech.afrilingo.lesson.LessonService;
 import edtech.afrilingo.lesson.Lesson;
 import edtech.afrilingo.user.User;
 import edtech.afrilingo.userProgress.UserProgress;
@@ -13,6 +15,7 @@ import edtech.afrilingo.userProgress.UserQuizAttempt;
 import edtech.afrilingo.userProgress.UserQuizAttemptRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -30,6 +33,7 @@ public class UserDashboardService {
 
     private final UserProfileService userProfileService;
     private final CourseService courseService;
+    private final LessonService lessonService;
     private final LanguageService languageService;
     private final UserProgressRepository userProgressRepository;
     private final UserQuizAttemptRepository userQuizAttemptRepository;
@@ -39,6 +43,7 @@ public class UserDashboardService {
      * @param userId User ID
      * @return Map containing dashboard data
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getUserDashboardData(Long userId) {
         Map<String, Object> dashboardData = new HashMap<>();
         
@@ -66,7 +71,7 @@ public class UserDashboardService {
         Map<String, Object> learningStats = calculateLearningStats(userId, allUserProgress, allQuizAttempts);
         
         // Get recommended courses based on user's profile and progress
-        List<Course> recommendedCourses = getRecommendedCourses(userId, userProfile, allUserProgress);
+        List<CourseSummaryDTO> recommendedCourses = getRecommendedCourses(userId, userProfile, allUserProgress);
         
         // Get course progress for each course the user has engaged with
         Map<Long, Double> courseProgress = calculateCourseProgress(userId, allUserProgress);
@@ -95,28 +100,7 @@ public class UserDashboardService {
         dashboardData.put("userProfile", profileDTO);
         dashboardData.put("learningStats", learningStats);
         
-        // Convert recommended courses to DTOs to avoid circular references
-        List<Map<String, Object>> recommendedCourseDTOs = new ArrayList<>();
-        for (Course course : recommendedCourses) {
-            Map<String, Object> courseDTO = new HashMap<>();
-            courseDTO.put("id", course.getId());
-            courseDTO.put("title", course.getTitle());
-            courseDTO.put("description", course.getDescription());
-            courseDTO.put("level", course.getLevel());
-            courseDTO.put("image", course.getImage());
-            
-            // Add language info without circular reference
-            if (course.getLanguage() != null) {
-                Map<String, Object> languageDTO = new HashMap<>();
-                languageDTO.put("id", course.getLanguage().getId());
-                languageDTO.put("name", course.getLanguage().getName());
-                languageDTO.put("code", course.getLanguage().getCode());
-                courseDTO.put("language", languageDTO);
-            }
-            
-            recommendedCourseDTOs.add(courseDTO);
-        }
-        dashboardData.put("recommendedCourses", recommendedCourseDTOs);
+        dashboardData.put("recommendedCourses", recommendedCourses);
         dashboardData.put("courseProgress", courseProgress);
         
         return dashboardData;
@@ -222,10 +206,10 @@ public class UserDashboardService {
      * @param userId User ID
      * @param userProfile User profile
      * @param allUserProgress All user progress records
-     * @return List of recommended courses
+     * @return List of recommended course summaries
      */
-    private List<Course> getRecommendedCourses(Long userId, UserProfile userProfile, List<UserProgress> allUserProgress) {
-        List<Course> recommendations = new ArrayList<>();
+    private List<CourseSummaryDTO> getRecommendedCourses(Long userId, UserProfile userProfile, List<UserProgress> allUserProgress) {
+        List<CourseSummaryDTO> recommendations = new ArrayList<>();
         
         // Get user's languages to learn
         List<Language> languagesToLearn = userProfile.getLanguagesToLearn();
@@ -237,9 +221,9 @@ public class UserDashboardService {
         
         // For each language, get active courses that the user hasn't started yet
         for (Language language : languagesToLearn) {
-            List<Course> activeCourses = courseService.getActiveCoursesByLanguageId(language.getId());
+            List<CourseSummaryDTO> activeCourses = courseService.getActiveCourseSummariesByLanguageId(language.getId());
             
-            List<Course> notStartedCourses = activeCourses.stream()
+            List<CourseSummaryDTO> notStartedCourses = activeCourses.stream()
                     .filter(course -> !startedCourseIds.contains(course.getId()))
                     .collect(Collectors.toList());
             
@@ -275,8 +259,7 @@ public class UserDashboardService {
             // Get course details to find total number of lessons
             Optional<Course> courseOpt = courseService.getCourseById(courseId);
             if (courseOpt.isPresent()) {
-                Course course = courseOpt.get();
-                int totalLessons = course.getLessons().size();
+                int totalLessons = lessonService.getLessonsByCourseIdOrdered(courseId).size();
                 
                 if (totalLessons > 0) {
                     // Count completed lessons for this course
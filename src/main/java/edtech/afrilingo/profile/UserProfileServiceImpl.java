@@ -9,9 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -112,17 +112,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         
         // Process languages to learn if provided
         if (userProfile.getLanguagesToLearn() != null && !userProfile.getLanguagesToLearn().isEmpty()) {
-            List<Language> languages = new ArrayList<>();
-            for (Language lang : userProfile.getLanguagesToLearn()) {
-                if (lang.getId() != null) {
-                    languageService.getLanguageById(lang.getId())
-                            .ifPresent(languages::add);
-                } else if (lang.getCode() != null) {
-                    languageService.getLanguageByCode(lang.getCode())
-                            .ifPresent(languages::add);
-                }
-            }
-            existingProfile.setLanguagesToLearn(languages);
+            existingProfile.setLanguagesToLearn(languageService.resolveLanguages(userProfile.getLanguagesToLearn()));
         }
 
         return userProfileRepository.save(existingProfile);
@@ -134,10 +124,15 @@ public class UserProfileServiceImpl implements UserProfileService {
         UserProfile userProfile = userProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("UserProfile", "userId", userId));
         
-        List<Language> languages = languageIds.stream()
-                .map(id -> languageService.getLanguageById(id)
-                        .orElseThrow(() -> new ResourceNotFoundException("Language", "id", id)))
-                .collect(Collectors.toList());
+        List<Language> languages = languageService.getLanguagesByIds(languageIds);
+        if (languages.size() != languageIds.size()) {
+            Set<Long> foundIds = languages.stream().map(Language::getId).collect(Collectors.toSet());
+            Long missingId = languageIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .findFirst()
+                    .orElse(null);
+            throw new ResourceNotFoundException("Language", "id", missingId);
+        }
         
         userProfile.setLanguagesToLearn(languages);
         
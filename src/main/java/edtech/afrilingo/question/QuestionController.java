@@ -1,6 +1,7 @@
 package edtech.afrilingo.question;
 
 import edtech.afrilingo.dto.ApiResponse;
+import edtech.afrilingo.dto.QuestionDTO;
 import edtech.afrilingo.exception.ResourceNotFoundException;
 import edtech.afrilingo.quiz.option.Option;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,15 +26,15 @@ public class QuestionController {
 
     @Operation(summary = "Get all questions", description = "Returns a list of all questions")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Question>>> getAllQuestions() {
-        List<Question> questions = questionService.getAllQuestions();
+    public ResponseEntity<ApiResponse<List<QuestionDTO>>> getAllQuestions() {
+        List<QuestionDTO> questions = questionService.getAllQuestionDTOs();
         return ResponseEntity.ok(ApiResponse.success(questions));
     }
 
     @Operation(summary = "Get question by ID", description = "Returns a question by its ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Question>> getQuestionById(@PathVariable Long id) {
-        Question question = questionService.getQuestionById(id)
+    public ResponseEntity<ApiResponse<QuestionDTO>> getQuestionById(@PathVariable Long id) {
+        QuestionDTO question = questionService.getQuestionDTOById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question", "id", id));
         return ResponseEntity.ok(ApiResponse.success(question));
     }
@@ -147,26 +148,26 @@ public class QuestionController {
 
     @Operation(summary = "Get questions by quiz ID", description = "Returns questions for a specific quiz")
     @GetMapping("/quiz/{quizId}")
-    public ResponseEntity<ApiResponse<List<Question>>> getQuestionsByQuizId(@PathVariable Long quizId) {
-        List<Question> questions = questionService.getQuestionsByQuizId(quizId);
+    public ResponseEntity<ApiResponse<List<QuestionDTO>>> getQuestionsByQuizId(@PathVariable Long quizId) {
+        List<QuestionDTO> questions = questionService.getQuestionDTOsByQuizId(quizId);
         return ResponseEntity.ok(ApiResponse.success(questions));
     }
 
     @Operation(summary = "Get questions by quiz ID and type", description = "Returns questions of a specific type for a quiz")
     @GetMapping("/quiz/{quizId}/type/{questionType}")
-    public ResponseEntity<ApiResponse<List<Question>>> getQuestionsByQuizIdAndType(
+    public ResponseEntity<ApiResponse<List<QuestionDTO>>> getQuestionsByQuizIdAndType(
             @PathVariable Long quizId,
             @PathVariable QuestionType questionType
     ) {
-        List<Question> questions = questionService.getQuestionsByQuizIdAndType(quizId, questionType);
+        List<QuestionDTO> questions = questionService.getQuestionDTOsByQuizIdAndType(quizId, questionType);
         return ResponseEntity.ok(ApiResponse.success(questions));
     }
 
-    @Operation(summary = "Search questions by keyword", description = "Returns questions containing the given keyword")
+    @Operation(summary = "Search questions by keyword", description = "Returns a page of questions ranked by relevance to the keyword")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Question>>> searchQuestionsByKeyword(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<Page<QuestionDTO>>> searchQuestionsByKeyword(@RequestParam String keyword, Pageable pageable) {
         try {
-            List<Question> questions = questionService.searchQuestionsByKeyword(keyword);
+            Page<QuestionDTO> questions = questionService.searchQuestionsByKeyword(keyword, pageable);
             return ResponseEntity.ok(ApiResponse.success(questions));
         } catch (IllegalArgumentException e) {
             return ResponseEntity
@@ -177,8 +178,8 @@ public class QuestionController {
 
     @Operation(summary = "Get paginated questions", description = "Returns a paginated list of questions")
     @GetMapping("/paginated")
-    public ResponseEntity<ApiResponse<Page<Question>>> getPaginatedQuestions(Pageable pageable) {
-        Page<Question> questions = questionService.getQuestions(pageable);
+    public ResponseEntity<ApiResponse<Page<QuestionDTO>>> getPaginatedQuestions(Pageable pageable) {
+        Page<QuestionDTO> questions = questionService.getQuestions(pageable);
         return ResponseEntity.ok(ApiResponse.success(questions));
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package edtech.afrilingo.question;
+
+/**
+ * One question joined with one of its options (option columns are null for a question without
+ * options). Questions and their options are read in a single query as rows of this shape and
+ * grouped into QuestionDTOs.
+ */
+public record QuestionOptionRow(
+        Long questionId,
+        String questionText,
+        QuestionType questionType,
+        String mediaUrl,
+        int points,
+        Long quizId,
+        Long optionId,
+        String optionText,
+        String optionMedia,
+        Boolean optionCorrect) {
+}
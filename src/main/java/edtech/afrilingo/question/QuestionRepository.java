@@ -1,12 +1,18 @@
 package edtech.afrilingo.question;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     /**
@@ -15,8 +21,21 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      * @return List of questions
      */
     @EntityGraph(attributePaths = {"options"})
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Question> findByQuizId(Long quizId);
 
+    /**
+     * Find the practice questions of several quizzes with their options, for course bundles.
+     * Certification questions are excluded so exam content never ships offline.
+     * @param quizIds Quiz IDs
+     * @return Questions ordered by ID
+     */
+    @EntityGraph(attributePaths = {"options"})
+    @Query("SELECT q FROM Question q WHERE q.quiz.id IN :quizIds " +
+            "AND (q.certificationQuestion IS NULL OR q.certificationQuestion = false) " +
+            "ORDER BY q.id")
+    List<Question> findBundleQuestionsByQuizIds(@Param("quizIds") Collection<Long> quizIds);
+
     /**
      * Find questions by quiz ID and question type
      * @param quizId Quiz ID
@@ -55,13 +74,50 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     @Query("SELECT SUM(q.points) FROM Question q WHERE q.quiz.id = :quizId")
     Integer calculateTotalPoints(@Param("quizId") Long quizId);
 
+    // Read projection: questions with their options as flat rows, one query per endpoint
+    String OPTION_ROW_SELECT = "SELECT new edtech.afrilingo.question.QuestionOptionRow(" +
+            "q.id, q.questionText, q.questionType, q.mediaUrl, q.points, qz.id, " +
+            "o.id, o.optionText, o.optionMedia, o.isCorrect) " +
+            "FROM Question q LEFT JOIN q.quiz qz LEFT JOIN q.options o ";
+
+    @Query(OPTION_ROW_SELECT + "ORDER BY q.id, o.id")
+    List<QuestionOptionRow> findAllOptionRows();
+
+    @Query(OPTION_ROW_SELECT + "WHERE q.id IN :ids ORDER BY q.id, o.id")
+    List<QuestionOptionRow> findOptionRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // IDs only, so a page can be filled from the option rows without loading entities
+    @Query(value = "SELECT q.id FROM Question q", countQuery = "SELECT COUNT(q) FROM Question q")
+    Page<Long> findIdPage(Pageable pageable);
+
+    @Query(OPTION_ROW_SELECT + "WHERE qz.id = :quizId ORDER BY q.id, o.id")
+    List<QuestionOptionRow> findOptionRowsByQuizId(@Param("quizId") Long quizId);
+
+    @Query(OPTION_ROW_SELECT + "WHERE qz.id = :quizId AND q.questionType = :type ORDER BY q.id, o.id")
+    List<QuestionOptionRow> findOptionRowsByQuizIdAndType(@Param("quizId") Long quizId,
+                                                          @Param("type") QuestionType type);
+
     /**
-     * Find questions containing a keyword in questionText
-     * @param keyword Keyword to search for
-     * @return List of questions
+     * Find the text of every practice question for the search index.
+     * Certification questions are excluded so exam content is never searchable.
+     * @return Rows of [question ID, question text, quiz ID, language code]
+     */
+    @Query("SELECT q.id, q.questionText, qz.id, lang.code FROM Question q " +
+            "JOIN q.quiz qz LEFT JOIN qz.lesson l LEFT JOIN l.course c LEFT JOIN c.language lang " +
+            "WHERE q.questionText IS NOT NULL " +
+            "AND (q.certificationQuestion IS NULL OR q.certificationQuestion = false)")
+    List<Object[]> findSearchRows();
+
+    /**
+     * Find the text of the practice questions of some quizzes for the search index
+     * @param quizIds Quiz IDs
+     * @return Rows of [question ID, question text, quiz ID, language code]
      */
-    @Query("SELECT q FROM Question q WHERE q.questionText LIKE CONCAT('%', :keyword, '%')")
-    List<Question> findByQuestionTextContaining(@Param("keyword") String keyword);
+    @Query("SELECT q.id, q.questionText, qz.id, lang.code FROM Question q " +
+            "JOIN q.quiz qz LEFT JOIN qz.lesson l LEFT JOIN l.course c LEFT JOIN c.language lang " +
+            "WHERE qz.id IN :quizIds AND q.questionText IS NOT NULL " +
+            "AND (q.certificationQuestion IS NULL OR q.certificationQuestion = false)")
+    List<Object[]> findSearchRowsByQuizIds(@Param("quizIds") Collection<Long> quizIds);
 
     @Query("SELECT q FROM Question q " +
            "WHERE q.certificationQuestion = true " +
@@ -1,5 +1,6 @@
 package edtech.afrilingo.question;
 
+import edtech.afrilingo.dto.QuestionDTO;
 import edtech.afrilingo.quiz.option.Option;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +38,42 @@ public interface QuestionService {
      */
     Optional<Question> getQuestionById(Long id);
 
+    /**
+     * Get all questions with their options, answers included
+     * @return List of question DTOs
+     */
+    List<QuestionDTO> getAllQuestionDTOs();
+
+    /**
+     * Get a question with its options, answers included
+     * @param id Question ID
+     * @return Optional containing the question DTO if found
+     */
+    Optional<QuestionDTO> getQuestionDTOById(Long id);
+
+    /**
+     * Get the questions of a quiz with their options, answers included
+     * @param quizId Quiz ID
+     * @return List of question DTOs for the given quiz
+     */
+    List<QuestionDTO> getQuestionDTOsByQuizId(Long quizId);
+
+    /**
+     * Get the questions of a quiz of one type with their options, answers included
+     * @param quizId Quiz ID
+     * @param questionType Question type
+     * @return List of question DTOs of the given type for the given quiz
+     */
+    List<QuestionDTO> getQuestionDTOsByQuizIdAndType(Long quizId, QuestionType questionType);
+
+    /**
+     * Get questions with their options in a single query
+     * @param ids Question IDs; the result keeps this order and skips unknown IDs
+     * @param includeAnswers Whether options carry their correct flag
+     * @return List of question DTOs
+     */
+    List<QuestionDTO> getQuestionDTOsByIds(List<Long> ids, boolean includeAnswers);
+
     /**
      * Create a new question
      * @param question Question to create
@@ -67,11 +104,11 @@ public interface QuestionService {
     boolean existsById(Long id);
 
     /**
-     * Get paginated questions
+     * Get paginated questions with their options, answers included
      * @param pageable Pagination information
-     * @return Page of questions
+     * @return Page of question DTOs
      */
-    Page<Question> getQuestions(Pageable pageable);
+    Page<QuestionDTO> getQuestions(Pageable pageable);
 
     /**
      * Add an option to a question
@@ -111,11 +148,12 @@ public interface QuestionService {
     int calculateTotalPoints(Long quizId);
 
     /**
-     * Search questions by keyword in question text
+     * Search practice questions by relevance to a keyword
      * @param keyword Keyword to search for
-     * @return List of matching questions
+     * @param pageable Pagination information
+     * @return Page of matching questions with their options, best match first
      */
-    List<Question> searchQuestionsByKeyword(String keyword);
+    Page<QuestionDTO> searchQuestionsByKeyword(String keyword, Pageable pageable);
     List<Question> getCertificationQuestions(String languageCode, String testLevel, int count);
     public boolean isAnswerCorrect(Long questionId, Long selectedOptionId);
     public Optional<Option> getCorrectAnswer(Long questionId);
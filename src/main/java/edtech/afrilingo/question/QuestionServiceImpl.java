@@ -1,12 +1,19 @@
 package edtech.afrilingo.question;
 
+import edtech.afrilingo.course.bundle.CourseBundleService;
+import edtech.afrilingo.dto.OptionDTO;
+import edtech.afrilingo.dto.QuestionDTO;
 import edtech.afrilingo.quiz.Quiz;
 import edtech.afrilingo.quiz.QuizRepository;
 import edtech.afrilingo.quiz.option.Option;
 import edtech.afrilingo.quiz.option.OptionRepository;
+import edtech.afrilingo.search.SearchDocumentType;
+import edtech.afrilingo.search.SearchHit;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +36,8 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final QuizRepository quizRepository;
     private final OptionRepository optionRepository;
+    private final CourseBundleService courseBundleService;
+    private final SearchService searchService;
 
     @Override
     public List<Question> getAllQuestions() {
@@ -48,6 +59,40 @@ public class QuestionServiceImpl implements QuestionService {
         return questionRepository.findById(id);
     }
 
+    @Override
+    public List<QuestionDTO> getAllQuestionDTOs() {
+        return toQuestionDTOs(questionRepository.findAllOptionRows(), true);
+    }
+
+    @Override
+    public Optional<QuestionDTO> getQuestionDTOById(Long id) {
+        return toQuestionDTOs(questionRepository.findOptionRowsByIds(List.of(id)), true).stream().findFirst();
+    }
+
+    @Override
+    public List<QuestionDTO> getQuestionDTOsByQuizId(Long quizId) {
+        return toQuestionDTOs(questionRepository.findOptionRowsByQuizId(quizId), true);
+    }
+
+    @Override
+    public List<QuestionDTO> getQuestionDTOsByQuizIdAndType(Long quizId, QuestionType questionType) {
+        return toQuestionDTOs(questionRepository.findOptionRowsByQuizIdAndType(quizId, questionType), true);
+    }
+
+    @Override
+    public List<QuestionDTO> getQuestionDTOsByIds(List<Long> ids, boolean includeAnswers) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, QuestionDTO> questionsById = toQuestionDTOs(questionRepository.findOptionRowsByIds(ids), includeAnswers)
+                .stream()
+                .collect(Collectors.toMap(QuestionDTO::getId, question -> question));
+        return ids.stream()
+                .map(questionsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public Question createQuestion(Question question) {
@@ -77,6 +122,8 @@ public class QuestionServiceImpl implements QuestionService {
         // Validate options based on question type
         validateOptionsForQuestionType(question);
 
+        courseBundleService.evictByQuizzes(question.getQuiz().getId());
+        searchService.reindexQuizzes(question.getQuiz().getId());
         return questionRepository.save(question);
     }
 
@@ -85,6 +132,8 @@ public class QuestionServiceImpl implements QuestionService {
     public Question updateQuestion(Long id, Question questionDetails) {
         return questionRepository.findById(id)
                 .map(existingQuestion -> {
+                    Long previousQuizId = existingQuestion.getQuiz() != null ? existingQuestion.getQuiz().getId() : null;
+
                     // Update fields
                     if (questionDetails.getQuestionText() != null) {
                         existingQuestion.setQuestionText(questionDetails.getQuestionText());
@@ -127,6 +176,9 @@ public class QuestionServiceImpl implements QuestionService {
                         existingQuestion.setCertificationLevel(questionDetails.getCertificationLevel());
                     }
 
+                    Long quizId = existingQuestion.getQuiz() != null ? existingQuestion.getQuiz().getId() : null;
+                    courseBundleService.evictByQuizzes(previousQuizId, quizId);
+                    searchService.reindexQuizzes(previousQuizId, quizId);
                     return questionRepository.save(existingQuestion);
                 })
                 .orElseThrow(() -> new RuntimeException("Question not found with id " + id));
@@ -142,6 +194,9 @@ public class QuestionServiceImpl implements QuestionService {
 
                     // Then delete the question
                     questionRepository.delete(question);
+                    Long quizId = question.getQuiz() != null ? question.getQuiz().getId() : null;
+                    courseBundleService.evictByQuizzes(quizId);
+                    searchService.reindexQuizzes(quizId);
                     return true;
                 })
                 .orElse(false);
@@ -153,8 +208,9 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     @Override
-    public Page<Question> getQuestions(Pageable pageable) {
-        return questionRepository.findAll(pageable);
+    public Page<QuestionDTO> getQuestions(Pageable pageable) {
+        Page<Long> ids = questionRepository.findIdPage(pageable);
+        return new PageImpl<>(getQuestionDTOsByIds(ids.getContent(), true), ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
@@ -178,6 +234,7 @@ public class QuestionServiceImpl implements QuestionService {
         // Validate options based on question type
         validateOptionsForQuestionType(question);
 
+        courseBundleService.evictByQuizzes(question.getQuiz() != null ? question.getQuiz().getId() : null);
         return questionRepository.save(question);
     }
 
@@ -206,6 +263,7 @@ public class QuestionServiceImpl implements QuestionService {
         // Validate remaining options based on question type
         validateOptionsForQuestionType(question);
 
+        courseBundleService.evictByQuizzes(question.getQuiz() != null ? question.getQuiz().getId() : null);
         return questionRepository.save(question);
     }
 
@@ -238,12 +296,16 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     @Override
-    public List<Question> searchQuestionsByKeyword(String keyword) {
+    public Page<QuestionDTO> searchQuestionsByKeyword(String keyword, Pageable pageable) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new IllegalArgumentException("Search keyword cannot be empty");
         }
 
-        return questionRepository.findByQuestionTextContaining(keyword);
+        Page<SearchHit> hits = searchService.search(keyword, SearchDocumentType.QUESTION, null, pageable);
+        List<Long> ids = hits.stream().map(SearchHit::id).toList();
+
+        // getQuestionDTOsByIds keeps the relevance order of the hits
+        return new PageImpl<>(getQuestionDTOsByIds(ids, true), hits.getPageable(), hits.getTotalElements());
     }
 
     @Override
@@ -335,6 +397,33 @@ public class QuestionServiceImpl implements QuestionService {
 
 
 
+    /**
+     * Group question/option rows (sorted by question) into one DTO per question
+     */
+    private List<QuestionDTO> toQuestionDTOs(List<QuestionOptionRow> rows, boolean includeAnswers) {
+        Map<Long, QuestionDTO> questions = new LinkedHashMap<>();
+        for (QuestionOptionRow row : rows) {
+            QuestionDTO question = questions.computeIfAbsent(row.questionId(), id -> QuestionDTO.builder()
+                    .id(id)
+                    .questionText(row.questionText())
+                    .questionType(row.questionType())
+                    .mediaUrl(row.mediaUrl())
+                    .points(row.points())
+                    .quizId(row.quizId())
+                    .options(new ArrayList<>())
+                    .build());
+            if (row.optionId() != null) {
+                question.getOptions().add(OptionDTO.builder()
+                        .id(row.optionId())
+                        .optionText(row.optionText())
+                        .optionMedia(row.optionMedia())
+                        .correct(includeAnswers ? row.optionCorrect() : null)
+                        .build());
+            }
+        }
+        return new ArrayList<>(questions.values());
+    }
+
     /**
      * Helper method to validate options based on question type
      */
@@ -431,6 +520,10 @@ public class QuestionServiceImpl implements QuestionService {
                     question.setCertificationQuestion(true);
                     question.setCertificationLevel(certificationLevel);
                     questionRepository.save(question);
+                    // Certification questions are left out of course bundles and search
+                    Long quizId = question.getQuiz() != null ? question.getQuiz().getId() : null;
+                    courseBundleService.evictByQuizzes(quizId);
+                    searchService.reindexQuizzes(quizId);
                 }
             }
             log.info("Marked {} questions as certification level {}", questionIds.size(), certificationLevel);
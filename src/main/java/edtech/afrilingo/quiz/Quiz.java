@@ -5,6 +5,8 @@ import edtech.afrilingo.question.Question;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +19,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "quizzes")
 public class Quiz {
     @Id
@@ -32,6 +36,7 @@ public class Quiz {
     @JsonIgnoreProperties({"quizzes", "hibernateLazyInitializer", "handler"})
     private Lesson lesson;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL)
     @JsonIgnoreProperties("quiz")
     @JsonIgnore // fetch questions via dedicated endpoint to avoid huge payloads
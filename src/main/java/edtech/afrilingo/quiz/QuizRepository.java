@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
     @EntityGraph(attributePaths = {"lesson"})
@@ -18,6 +20,29 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     @EntityGraph(attributePaths = {"lesson"})
     List<Quiz> findByLessonId(Long lessonId);
 
+    /**
+     * Find a quiz with its lesson and questions fetched in one query
+     * @param id Quiz ID
+     * @return Optional containing the quiz if found
+     */
+    @EntityGraph(attributePaths = {"lesson", "questions"})
+    Optional<Quiz> findWithQuestionsById(Long id);
+
+    /**
+     * Find the quizzes of several lessons in one query
+     * @param lessonIds Lesson IDs
+     * @return Quizzes ordered by ID
+     */
+    List<Quiz> findByLessonIdInOrderByIdAsc(Collection<Long> lessonIds);
+
+    /**
+     * Find the courses the given quizzes belong to
+     * @param quizIds Quiz IDs
+     * @return Distinct course IDs
+     */
+    @Query("SELECT DISTINCT q.lesson.course.id FROM Quiz q WHERE q.id IN :quizIds")
+    List<Long> findCourseIdsByQuizIds(@Param("quizIds") Collection<Long> quizIds);
+
     /**
      * Find quizzes by minimum passing score
      * @param minPassingScore Minimum passing score
@@ -26,6 +26,13 @@ public interface QuizService {
      * @return Optional containing the quiz if found
      */
     Optional<Quiz> getQuizById(Long id);
+
+    /**
+     * Get quiz by ID with its questions loaded, for grading
+     * @param id Quiz ID
+     * @return Optional containing the quiz if found
+     */
+    Optional<Quiz> getQuizWithQuestions(Long id);
     
     /**
      * Create a new quiz
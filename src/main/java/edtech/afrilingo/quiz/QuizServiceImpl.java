@@ -1,10 +1,14 @@
 package edtech.afrilingo.quiz;
 
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.course.bundle.CourseBundleService;
 import edtech.afrilingo.lesson.Lesson;
 import edtech.afrilingo.lesson.LessonService;
 import edtech.afrilingo.question.Question;
 import edtech.afrilingo.question.QuestionRepository;
+import edtech.afrilingo.search.SearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,6 +19,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static edtech.afrilingo.config.CacheConfig.QUIZZES_BY_LESSON_CACHE;
+import static edtech.afrilingo.config.CacheConfig.QUIZ_BY_ID_CACHE;
+
 @Service
 @RequiredArgsConstructor
 public class QuizServiceImpl implements QuizService {
@@ -22,6 +29,9 @@ public class QuizServiceImpl implements QuizService {
     private final QuizRepository quizRepository;
     private final LessonService lessonService;
     private final QuestionRepository questionRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchService searchService;
+    private final CourseBundleService courseBundleService;
     public static void fun(){
         List<Integer> nums = new ArrayList<>();
         nums.stream().map(String::valueOf).collect(Collectors.joining(""));
@@ -35,15 +45,23 @@ public class QuizServiceImpl implements QuizService {
     }
 
     @Override
+    @Cacheable(cacheNames = QUIZZES_BY_LESSON_CACHE, key = "#lessonId")
     public List<Quiz> getQuizzesByLessonId(Long lessonId) {
         return quizRepository.findByLessonId(lessonId);
     }
 
     @Override
+    @Cacheable(cacheNames = QUIZ_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Quiz> getQuizById(Long id) {
         return quizRepository.findById(id);
     }
 
+    @Override
+    public Optional<Quiz> getQuizWithQuestions(Long id) {
+        // Not cached: callers walk the questions and options inside the current session
+        return quizRepository.findWithQuestionsById(id);
+    }
+
     @Override
     @Transactional
     public Quiz createQuiz(Quiz quiz) {
@@ -66,7 +84,9 @@ public class QuizServiceImpl implements QuizService {
             quiz.setMinPassingScore(70); // Default 70% passing score
         }
 
-        return quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        evictQuiz(null, saved.getLesson().getId());
+        return saved;
     }
 
     @Override
@@ -74,6 +94,8 @@ public class QuizServiceImpl implements QuizService {
     public Quiz updateQuiz(Long id, Quiz quizDetails) {
         return quizRepository.findById(id)
                 .map(existingQuiz -> {
+                    Long previousLessonId = lessonIdOf(existingQuiz);
+
                     // Update fields
                     if (quizDetails.getTitle() != null) {
                         existingQuiz.setTitle(quizDetails.getTitle());
@@ -101,6 +123,7 @@ public class QuizServiceImpl implements QuizService {
                         existingQuiz.setLesson(lesson);
                     }
 
+                    evictQuiz(id, previousLessonId, lessonIdOf(existingQuiz));
                     return quizRepository.save(existingQuiz);
                 })
                 .orElseThrow(() -> new RuntimeException("Quiz not found with id " + id));
@@ -112,6 +135,7 @@ public class QuizServiceImpl implements QuizService {
         return quizRepository.findById(id)
                 .map(quiz -> {
                     quizRepository.delete(quiz);
+                    evictQuiz(id, lessonIdOf(quiz));
                     return true;
                 })
                 .orElse(false);
@@ -144,6 +168,8 @@ public class QuizServiceImpl implements QuizService {
             quiz.setQuestions(new ArrayList<>());
         }
         quiz.getQuestions().add(savedQuestion);
+        cacheInvalidator.evict(QUIZ_BY_ID_CACHE, quizId);
+        courseBundleService.evictByQuizzes(quizId);
         
         return quizRepository.save(quiz);
     }
@@ -169,6 +195,8 @@ public class QuizServiceImpl implements QuizService {
         
         // Delete the question
         questionRepository.delete(question);
+        cacheInvalidator.evict(QUIZ_BY_ID_CACHE, quizId);
+        courseBundleService.evictByQuizzes(quizId);
         
         return quizRepository.save(quiz);
     }
@@ -192,4 +220,20 @@ public class QuizServiceImpl implements QuizService {
         Double passRate = quizRepository.calculatePassRate(quizId);
         return passRate != null ? passRate * 100 : 0.0; // Convert to percentage
     }
-}
\ No newline at end of file
+
+    /**
+     * Evict a quiz from the by-id and by-lesson caches and its course bundle after commit
+     * @param quizId Quiz ID (null for a new quiz)
+     * @param lessonIds Lessons whose quiz lists contain (or contained) the quiz
+     */
+    private void evictQuiz(Long quizId, Long... lessonIds) {
+        cacheInvalidator.evict(QUIZ_BY_ID_CACHE, quizId);
+        cacheInvalidator.evict(QUIZZES_BY_LESSON_CACHE, (Object[]) lessonIds);
+        courseBundleService.evictByLessons(lessonIds);
+        searchService.reindexQuizzes(quizId);
+    }
+
+    private Long lessonIdOf(Quiz quiz) {
+        return quiz.getLesson() != null ? quiz.getLesson().getId() : null;
+    }
+}
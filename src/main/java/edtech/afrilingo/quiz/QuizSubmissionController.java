@@ -36,7 +36,7 @@ public class QuizSubmissionController {
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
         // Get the quiz
-        Optional<Quiz> quizOpt = quizService.getQuizById(quizId);
+        Optional<Quiz> quizOpt = quizService.getQuizWithQuestions(quizId);
         if (quizOpt.isEmpty()) {
             return ResponseEntity.badRequest().body(ApiResponse.error(400, "Quiz not found"));
         }
@@ -1,18 +1,27 @@
 package edtech.afrilingo.quiz.option;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
+/**
+ * Option lookups by question run on every answer check, so their results are kept in the
+ * Hibernate query cache; the options themselves come from the second-level cache.
+ */
 public interface OptionRepository extends JpaRepository<Option, Long> {
     /**
      * Find options by question ID
      * @param questionId Question ID
      * @return List of options
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Option> findByQuestionId(Long questionId);
 
     /**
@@ -20,6 +29,7 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
      * @param questionId Question ID
      * @return List of correct options
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Option> findByQuestionIdAndIsCorrectTrue(Long questionId);
 
     /**
@@ -27,6 +37,7 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
      * @param questionId Question ID
      * @return List of options ordered by ID
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Option> findByQuestionIdOrderById(Long questionId);
 
     /**
@@ -57,6 +68,7 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
     @Query("SELECT ua.option.id, COUNT(ua) FROM UserAnswer ua WHERE ua.question.id = :questionId GROUP BY ua.option.id ORDER BY COUNT(ua) DESC")
     List<Object[]> findMostSelectedOption(@Param("questionId") Long questionId);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT o FROM Option o WHERE o.question.id = :questionId AND o.isCorrect = true")
     Optional<Option> findByQuestionIdAndCorrectTrue(@Param("questionId") Long questionId);
 }
\ No newline at end of file
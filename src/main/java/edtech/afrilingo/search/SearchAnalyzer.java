@@ -0,0 +1,113 @@
+package edtech.afrilingo.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns text into index terms.
+ * Text is case-folded and stripped of diacritics (NFD minus combining marks), so "Muraho" and
+ * "muraho" are the same term with or without accents. Apostrophes split elided words (Kinyarwanda
+ * "n'umutuku" is "n" + "umutuku") except after "ng", where the Swahili "ng'" is one letter.
+ * Bantu words carry noun-class and infinitive prefixes (umu-/aba-, iki-/ibi-, ku-, ...), so
+ * every word also yields a stem term without its prefix: "umukobwa" and "abakobwa" meet at "kobwa".
+ */
+final class SearchAnalyzer {
+
+    // Stem terms live in their own namespace so they never collide with whole words
+    static final String STEM_MARKER = "~";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}']+");
+
+    // Longest first; Kinyarwanda augment + class prefixes, Swahili class prefixes, infinitives
+    private static final String[] PREFIXES = {
+            "umu", "umw", "aba", "imi", "ama", "iki", "icy", "ibi", "iby", "aka", "utu", "ubu",
+            "ubw", "uku", "ukw", "uru", "urw", "kwi",
+            "mu", "mw", "ba", "mi", "ma", "ki", "ch", "vi", "vy", "wa", "ji", "ku", "kw", "gu", "gw"
+    };
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private SearchAnalyzer() {
+    }
+
+    /**
+     * Normalized words of a text, in order, duplicates kept
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        for (String part : SEPARATORS.split(normalize(text))) {
+            for (String word : splitApostrophes(part)) {
+                if (word.length() >= MIN_TOKEN_LENGTH) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Index terms of a text: every word plus its stem term when it has a class prefix
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            terms.add(word);
+            String stem = stem(word);
+            if (stem != null) {
+                terms.add(STEM_MARKER + stem);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * The word without its noun-class or infinitive prefix, or null if it has none
+     */
+    static String stem(String word) {
+        for (String prefix : PREFIXES) {
+            if (word.startsWith(prefix) && word.length() - prefix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('\u2019', '\'')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> splitApostrophes(String part) {
+        if (part.indexOf('\'') < 0) {
+            return List.of(part);
+        }
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < part.length(); i++) {
+            char c = part.charAt(i);
+            if (c != '\'') {
+                current.append(c);
+            } else if (current.length() >= 2 && current.substring(current.length() - 2).equals("ng")) {
+                // Swahili ng' (ng'ombe) is a single consonant, keep the word whole
+                continue;
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
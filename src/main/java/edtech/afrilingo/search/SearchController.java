@@ -0,0 +1,36 @@
+package edtech.afrilingo.search;
+
+import edtech.afrilingo.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text search over lessons, questions and vocabulary")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "Search", description = "Returns ranked lesson content, questions and vocabulary matching the query")
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<SearchHit>>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) SearchDocumentType type,
+            @RequestParam(required = false) String language,
+            Pageable pageable
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(searchService.search(query, type, language, pageable)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+}
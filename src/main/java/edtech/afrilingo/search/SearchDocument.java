@@ -0,0 +1,13 @@
+package edtech.afrilingo.search;
+
+/**
+ * Text handed to the index
+ *
+ * @param type Kind of document
+ * @param id Document ID, unique within its type
+ * @param parentId Lesson ID for lesson content, quiz ID for questions
+ * @param languageCode Language code, may be null
+ * @param text Text to index
+ */
+record SearchDocument(SearchDocumentType type, long id, Long parentId, String languageCode, String text) {
+}
@@ -0,0 +1,7 @@
+package edtech.afrilingo.search;
+
+public enum SearchDocumentType {
+    LESSON_CONTENT,
+    QUESTION,
+    VOCABULARY
+}
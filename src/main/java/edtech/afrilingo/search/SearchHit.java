@@ -0,0 +1,20 @@
+package edtech.afrilingo.search;
+
+/**
+ * One ranked search result
+ *
+ * @param type Kind of document
+ * @param id Lesson content or question ID; a stable ordinal for vocabulary entries
+ * @param parentId Lesson ID for lesson content, quiz ID for questions, null for vocabulary
+ * @param languageCode Language of the document, when known
+ * @param snippet Beginning of the indexed text
+ * @param score Relevance score, higher is better
+ */
+public record SearchHit(
+        SearchDocumentType type,
+        long id,
+        Long parentId,
+        String languageCode,
+        String snippet,
+        double score) {
+}
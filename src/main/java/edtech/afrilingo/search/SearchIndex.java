@@ -0,0 +1,241 @@
+package edtech.afrilingo.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index ranked with BM25.
+ * A query only touches the posting lists of its own terms (plus a bounded number of prefix
+ * expansions for the last word), so latency depends on how common the terms are, not on the
+ * corpus size. Documents can be added, replaced and removed at any time; searches run under a
+ * read lock and never see a half-applied update.
+ */
+final class SearchIndex {
+
+    /**
+     * One page of ranked hits
+     * @param hits Hits of the requested page
+     * @param total Number of matching documents
+     */
+    record Result(List<SearchHit> hits, int total) {
+        static final Result EMPTY = new Result(List.of(), 0);
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // A stem or prefix match counts less than the word itself
+    private static final double STEM_WEIGHT = 0.6;
+    private static final double PREFIX_WEIGHT = 0.4;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_WORDS = 32;
+
+    private static final int SNIPPET_LENGTH = 160;
+
+    private record DocKey(SearchDocumentType type, long id) {
+    }
+
+    private record ParentKey(SearchDocumentType type, Long parentId) {
+    }
+
+    private record Entry(SearchDocument document, String snippet, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    private final Map<DocKey, Entry> documents = new HashMap<>();
+    private final NavigableMap<String, Map<DocKey, Integer>> postings = new TreeMap<>();
+    private final Map<ParentKey, Set<DocKey>> childrenByParent = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add a document, replacing an existing one with the same type and ID
+     */
+    void put(SearchDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        List<String> terms = SearchAnalyzer.terms(document.text());
+        terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        DocKey key = new DocKey(document.type(), document.id());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+            Entry entry = new Entry(document, snippet(document.text()), terms.size(), termFrequencies);
+            documents.put(key, entry);
+            totalLength += entry.length();
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+            if (document.parentId() != null) {
+                childrenByParent.computeIfAbsent(new ParentKey(document.type(), document.parentId()), p -> new HashSet<>())
+                        .add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace every document of the given type whose parent is one of the given parents
+     * @param type Document type
+     * @param parentIds Parents whose children are replaced
+     * @param replacements Current children of those parents
+     */
+    void replaceChildren(SearchDocumentType type, Collection<Long> parentIds, Collection<SearchDocument> replacements) {
+        lock.writeLock().lock();
+        try {
+            for (Long parentId : parentIds) {
+                Set<DocKey> children = childrenByParent.get(new ParentKey(type, parentId));
+                if (children != null) {
+                    new ArrayList<>(children).forEach(this::removeLocked);
+                }
+            }
+            // Reentrant: put takes the write lock again
+            replacements.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked, filtered, paginated search.
+     * Every query word contributes its best match per document: the word itself, its stem, or
+     * (for the last word, as the user may still be typing) a longer word it prefixes. Documents
+     * matching more of the query words rank higher.
+     * @param query Free text query
+     * @param type Only this document type, or null for all
+     * @param languageCode Only this language, or null for all
+     * @param offset Index of the first hit to return
+     * @param limit Maximum number of hits to return
+     */
+    Result search(String query, SearchDocumentType type, String languageCode, int offset, int limit) {
+        List<String> words = SearchAnalyzer.words(query).stream().distinct().limit(MAX_QUERY_WORDS).toList();
+        if (words.isEmpty()) {
+            return Result.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return Result.EMPTY;
+            }
+            double averageLength = (double) totalLength / documents.size();
+            Map<DocKey, Double> scores = new HashMap<>();
+            Map<DocKey, Integer> matchedWords = new HashMap<>();
+
+            for (int i = 0; i < words.size(); i++) {
+                String word = words.get(i);
+                Map<DocKey, Double> best = new HashMap<>();
+
+                collect(word, 1.0, averageLength, best);
+                collect(SearchAnalyzer.STEM_MARKER + word, STEM_WEIGHT, averageLength, best);
+                String stem = SearchAnalyzer.stem(word);
+                if (stem != null) {
+                    collect(SearchAnalyzer.STEM_MARKER + stem, STEM_WEIGHT, averageLength, best);
+                }
+                if (i == words.size() - 1 && word.length() >= MIN_PREFIX_LENGTH) {
+                    postings.subMap(word, false, word + Character.MAX_VALUE, false).keySet().stream()
+                            .limit(MAX_PREFIX_EXPANSIONS)
+                            .forEach(term -> collect(term, PREFIX_WEIGHT, averageLength, best));
+                }
+
+                best.forEach((key, score) -> {
+                    scores.merge(key, score, Double::sum);
+                    matchedWords.merge(key, 1, Integer::sum);
+                });
+            }
+
+            List<SearchHit> hits = new ArrayList<>();
+            scores.forEach((key, score) -> {
+                Entry entry = documents.get(key);
+                if (matches(entry.document(), type, languageCode)) {
+                    double coordination = (double) matchedWords.get(key) / words.size();
+                    hits.add(toHit(entry, score * coordination));
+                }
+            });
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::type)
+                    .thenComparingLong(SearchHit::id));
+
+            int from = Math.min(offset, hits.size());
+            int to = (int) Math.min((long) from + limit, hits.size());
+            return new Result(List.copyOf(hits.subList(from, to)), hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Private helper methods
+
+    private void collect(String term, double weight, double averageLength, Map<DocKey, Double> best) {
+        Map<DocKey, Integer> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+        int n = documents.size();
+        int df = posting.size();
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        posting.forEach((key, tf) -> {
+            int length = documents.get(key).length();
+            double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+            best.merge(key, weight * idf * norm, Math::max);
+        });
+    }
+
+    private void removeLocked(DocKey key) {
+        Entry entry = documents.remove(key);
+        if (entry == null) {
+            return;
+        }
+        totalLength -= entry.length();
+        entry.termFrequencies().keySet().forEach(term -> {
+            Map<DocKey, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+        Long parentId = entry.document().parentId();
+        if (parentId != null) {
+            ParentKey parentKey = new ParentKey(key.type(), parentId);
+            Set<DocKey> children = childrenByParent.get(parentKey);
+            if (children != null) {
+                children.remove(key);
+                if (children.isEmpty()) {
+                    childrenByParent.remove(parentKey);
+                }
+            }
+        }
+    }
+
+    private boolean matches(SearchDocument document, SearchDocumentType type, String languageCode) {
+        return (type == null || document.type() == type)
+                && (languageCode == null || languageCode.equalsIgnoreCase(document.languageCode()));
+    }
+
+    private SearchHit toHit(Entry entry, double score) {
+        SearchDocument document = entry.document();
+        return new SearchHit(document.type(), document.id(), document.parentId(), document.languageCode(),
+                entry.snippet(), Math.round(score * 1000) / 1000.0);
+    }
+
+    private String snippet(String text) {
+        String collapsed = text.strip().replaceAll("\\s+", " ");
+        return collapsed.length() <= SNIPPET_LENGTH ? collapsed : collapsed.substring(0, SNIPPET_LENGTH) + "\u2026";
+    }
+}
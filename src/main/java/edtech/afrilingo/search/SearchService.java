@@ -0,0 +1,223 @@
+package edtech.afrilingo.search;
+
+import edtech.afrilingo.dataloader.LanguageContentHelper;
+import edtech.afrilingo.lesson.content.LessonContentRepository;
+import edtech.afrilingo.question.QuestionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Full-text search over lesson content, practice questions and the built-in vocabulary.
+ * The index lives in memory and is maintained by a single indexer thread: services report the
+ * lessons and quizzes they changed, and after commit the indexer re-reads just those rows.
+ * A periodic full rebuild picks up changes made on other nodes or outside the services.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LessonContentRepository lessonContentRepository;
+    private final QuestionRepository questionRepository;
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile SearchIndex index = new SearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    @Scheduled(initialDelayString = "${afrilingo.search.rebuild-interval-ms:900000}",
+            fixedDelayString = "${afrilingo.search.rebuild-interval-ms:900000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * Ranked search
+     * @param query Free text query
+     * @param type Only this document type, or null for all
+     * @param languageCode Only this language, or null for all
+     * @param pageable Page and size (at most 100); sorting is always by relevance
+     * @return Page of hits
+     */
+    public Page<SearchHit> search(String query, SearchDocumentType type, String languageCode, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        Pageable page = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE))
+                : PageRequest.of(0, MAX_PAGE_SIZE);
+        if (page.getOffset() > Integer.MAX_VALUE) {
+            return Page.empty(page);
+        }
+        SearchIndex.Result result = index.search(query, type, languageCode, (int) page.getOffset(), page.getPageSize());
+        return new PageImpl<>(result.hits(), page, result.total());
+    }
+
+    /**
+     * Re-read the contents of the given lessons after commit
+     * @param lessonIds Lesson IDs (nulls are ignored)
+     */
+    public void reindexLessons(Long... lessonIds) {
+        List<Long> ids = nonNull(lessonIds);
+        if (!ids.isEmpty()) {
+            afterCommit(() -> indexer.execute(() -> reindex(SearchDocumentType.LESSON_CONTENT, ids)));
+        }
+    }
+
+    /**
+     * Re-read the questions of the given quizzes after commit
+     * @param quizIds Quiz IDs (nulls are ignored)
+     */
+    public void reindexQuizzes(Long... quizIds) {
+        List<Long> ids = nonNull(quizIds);
+        if (!ids.isEmpty()) {
+            afterCommit(() -> indexer.execute(() -> reindex(SearchDocumentType.QUESTION, ids)));
+        }
+    }
+
+    /**
+     * Rebuild the whole index after commit, for bulk loads and structural changes.
+     * Requests made while a rebuild is already queued are merged into it.
+     */
+    public void requestRebuild() {
+        afterCommit(() -> {
+            if (rebuildPending.compareAndSet(false, true)) {
+                indexer.execute(this::rebuild);
+            }
+        });
+    }
+
+    /**
+     * @return Number of indexed documents
+     */
+    public int getIndexedDocumentCount() {
+        return index.size();
+    }
+
+    // Private helper methods
+
+    private void rebuild() {
+        rebuildPending.set(false);
+        long startNanos = System.nanoTime();
+        try {
+            SearchIndex fresh = new SearchIndex();
+            lessonContentRepository.findSearchRows().forEach(row -> fresh.put(toDocument(SearchDocumentType.LESSON_CONTENT, row)));
+            questionRepository.findSearchRows().forEach(row -> fresh.put(toDocument(SearchDocumentType.QUESTION, row)));
+            vocabulary().forEach(fresh::put);
+            index = fresh;
+            log.info("Search index rebuilt: {} documents in {} ms", fresh.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Search index rebuild failed, keeping the previous index: {}", e.getMessage(), e);
+        }
+    }
+
+    private void reindex(SearchDocumentType type, List<Long> parentIds) {
+        try {
+            List<Object[]> rows = type == SearchDocumentType.LESSON_CONTENT
+                    ? lessonContentRepository.findSearchRowsByLessonIds(parentIds)
+                    : questionRepository.findSearchRowsByQuizIds(parentIds);
+            index.replaceChildren(type, parentIds, rows.stream().map(row -> toDocument(type, row)).toList());
+            log.debug("Reindexed {} {} documents of parents {}", rows.size(), type, parentIds);
+        } catch (RuntimeException e) {
+            // The next full rebuild repairs the index
+            log.warn("Failed to reindex {} for parents {}: {}", type, parentIds, e.getMessage());
+        }
+    }
+
+    // Rows are [id, text, parent id, language code]
+    private SearchDocument toDocument(SearchDocumentType type, Object[] row) {
+        return new SearchDocument(type, (Long) row[0], (Long) row[2],
+                row[3] != null ? row[3].toString().toUpperCase(Locale.ROOT) : null, (String) row[1]);
+    }
+
+    /**
+     * Built-in vocabulary, one document per term with its translation.
+     * IDs are ordinals over a fixed iteration order, so they are stable between rebuilds.
+     */
+    private List<SearchDocument> vocabulary() {
+        List<Map<String, String[]>> wordLists = List.of(
+                LanguageContentHelper.getGreetings(),
+                LanguageContentHelper.getNumbers(),
+                LanguageContentHelper.getDaysOfWeek(),
+                LanguageContentHelper.getMonths());
+        List<Map<String, Map<String, String>>> translations = List.of(
+                LanguageContentHelper.getFamilyTerms(),
+                LanguageContentHelper.getCommonPhrases(),
+                LanguageContentHelper.getColors(),
+                LanguageContentHelper.getFoodAndDrinks(),
+                LanguageContentHelper.getWeatherTerms(),
+                LanguageContentHelper.getCommonVerbs(),
+                LanguageContentHelper.getBusinessTerms(),
+                LanguageContentHelper.getEducationalTerms(),
+                LanguageContentHelper.getPastTenseExamples(),
+                LanguageContentHelper.getFutureTenseExamples(),
+                LanguageContentHelper.getDirectionPhrases(),
+                LanguageContentHelper.getIdiomsAndProverbs());
+
+        List<SearchDocument> documents = new ArrayList<>();
+        for (Map<String, String[]> wordList : wordLists) {
+            new TreeMap<>(wordList).forEach((code, words) -> {
+                for (String word : words) {
+                    documents.add(new SearchDocument(SearchDocumentType.VOCABULARY, documents.size() + 1L,
+                            null, code, word));
+                }
+            });
+        }
+        for (Map<String, Map<String, String>> translation : translations) {
+            new TreeMap<>(translation).forEach((code, terms) ->
+                    new TreeMap<>(terms).forEach((english, term) ->
+                            documents.add(new SearchDocument(SearchDocumentType.VOCABULARY, documents.size() + 1L,
+                                    null, code, term + " - " + english))));
+        }
+        return documents;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<Long> nonNull(Long[] ids) {
+        return Arrays.stream(ids).filter(Objects::nonNull).distinct().toList();
+    }
+}
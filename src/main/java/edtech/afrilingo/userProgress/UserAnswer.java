@@ -17,7 +17,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "user_answers")
 public class UserAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_answers_seq")
+    @SequenceGenerator(name = "user_answers_seq", sequenceName = "user_answers_seq", allocationSize = 50)
     private Long id;
 
     private boolean isCorrect;
@@ -199,7 +199,8 @@ public class UserProgressController {
      * @param allQuizAttempts All user quiz attempts
      * @return Streak count
      */
-    private int calculateStreak(List<UserProgress> allUserProgress, List<UserQuizAttempt> allQuizAttempts) {
+    // Package-private for StreakBenchmark
+    static int calculateStreak(List<UserProgress> allUserProgress, List<UserQuizAttempt> allQuizAttempts) {
         // Combine all completion dates and attempt dates
         List<LocalDateTime> activityDates = new ArrayList<>();
         
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +56,15 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
      */
     @Query("SELECT up FROM UserProgress up WHERE up.user.id = :userId AND up.lesson.id IN :lessonIds")
     List<UserProgress> findByUserIdAndLessonIdIn(@Param("userId") Long userId, @Param("lessonIds") List<Long> lessonIds);
+
+    /**
+     * Count lessons completed since a given time, grouped by user
+     * @param userIds User IDs
+     * @param since Start of the window
+     * @return Rows of [userId, completedLessons]
+     */
+    @Query("SELECT up.user.id, COUNT(up) FROM UserProgress up WHERE up.user.id IN :userIds " +
+           "AND up.completed = true AND up.completedAt >= :since GROUP BY up.user.id")
+    List<Object[]> countCompletedLessonsByUserSince(@Param("userIds") Collection<Long> userIds,
+                                                    @Param("since") LocalDateTime since);
 }
\ No newline at end of file
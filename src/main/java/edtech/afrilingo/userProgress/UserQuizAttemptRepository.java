@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserQuizAttemptRepository extends JpaRepository<UserQuizAttempt, Long> {
@@ -72,4 +73,15 @@ public interface UserQuizAttemptRepository extends JpaRepository<UserQuizAttempt
      */
     @Query("SELECT AVG(uqa.score) FROM UserQuizAttempt uqa WHERE uqa.user.id = :userId")
     Double calculateAverageScoreByUserId(@Param("userId") Long userId);
+
+    /**
+     * Summarize quiz attempts made since a given time, grouped by user
+     * @param userIds User IDs
+     * @param since Start of the window
+     * @return Rows of [userId, attemptCount, averageScore]
+     */
+    @Query("SELECT uqa.user.id, COUNT(uqa), AVG(uqa.score) FROM UserQuizAttempt uqa " +
+           "WHERE uqa.user.id IN :userIds AND uqa.attemptedAt >= :since GROUP BY uqa.user.id")
+    List<Object[]> summarizeAttemptsByUserSince(@Param("userIds") Collection<Long> userIds,
+                                                @Param("since") LocalDateTime since);
 }
\ No newline at end of file
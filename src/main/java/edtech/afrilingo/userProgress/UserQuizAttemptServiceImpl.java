@@ -146,7 +146,27 @@ public class UserQuizAttemptServiceImpl implements UserQuizAttemptService {
             return userQuizAttemptRepository.save(attempt);
         }
 
-        // Calculate score by summing points for correctly answered questions
+        int score = calculateScore(questions, answers, totalPossiblePoints);
+
+        // Check if passed
+        boolean passed = score >= quiz.getMinPassingScore();
+
+        // Update attempt
+        attempt.setScore(score);
+        attempt.setPassed(passed);
+
+        return userQuizAttemptRepository.save(attempt);
+    }
+
+    /**
+     * Score an attempt as the percentage of points earned by correctly answered questions.
+     * Package-private for QuizScoringBenchmark.
+     * @param questions Questions of the quiz
+     * @param answers Answers of the attempt; a question with several answers counts only if all are correct
+     * @param totalPossiblePoints Sum of the questions' points, greater than zero
+     * @return Score from 0 to 100
+     */
+    static int calculateScore(List<Question> questions, List<UserAnswer> answers, int totalPossiblePoints) {
         Map<Long, Boolean> questionCorrectMap = answers.stream()
                 .collect(Collectors.toMap(
                         answer -> answer.getQuestion().getId(),
@@ -162,17 +182,7 @@ public class UserQuizAttemptServiceImpl implements UserQuizAttemptService {
             }
         }
 
-        // Calculate score as percentage
-        int score = (int) Math.round((double) earnedPoints / totalPossiblePoints * 100);
-
-        // Check if passed
-        boolean passed = score >= quiz.getMinPassingScore();
-
-        // Update attempt
-        attempt.setScore(score);
-        attempt.setPassed(passed);
-
-        return userQuizAttemptRepository.save(attempt);
+        return (int) Math.round((double) earnedPoints / totalPossiblePoints * 100);
     }
 
     @Override
@@ -248,6 +258,7 @@ public class UserQuizAttemptServiceImpl implements UserQuizAttemptService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getQuizAttemptStatisticsForUser(Long userId) {
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User", "id", userId);
@@ -0,0 +1,7 @@
+-- One row per seeded dataset, compared at startup instead of scanning every catalog table
+CREATE TABLE IF NOT EXISTS data_seed_fingerprints (
+    name         VARCHAR(32) PRIMARY KEY,
+    seed_version INTEGER     NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    verified_at  TIMESTAMP   NOT NULL
+);
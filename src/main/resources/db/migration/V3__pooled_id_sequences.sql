@@ -0,0 +1,26 @@
+-- Move high-volume tables from IDENTITY ids to pooled sequences (allocationSize = 50), so
+-- Hibernate can batch their inserts. Existing ids are kept: each sequence is positioned so that
+-- the first block it hands out starts right after the current maximum id.
+DO $$
+DECLARE
+    t          TEXT;
+    next_block BIGINT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['questions', 'options', 'user_answers', 'notifications',
+                             'notification_deliveries', 'proctor_events', 'certification_responses']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_seq');
+
+        IF to_regclass(t) IS NULL THEN
+            -- Created later by Hibernate; the sequence starts with the first block
+            PERFORM setval(t || '_seq', 50, false);
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', t);
+        -- A pooled block ends at the sequence value, so the next value is max + 50
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) + 50 FROM %I', t) INTO next_block;
+        PERFORM setval(t || '_seq', next_block, false);
+    END LOOP;
+END $$;
@@ -0,0 +1,70 @@
+-- Indexes for the predicates of the hot repository queries. PostgreSQL does not index foreign
+-- keys on its own, so every lookup by parent id below was a sequential scan before.
+-- Names match the @Index declarations where an entity already declares one, so schemas created
+-- by Hibernate and by this migration end up with the same set.
+
+-- Progress: findByUserIdAndLessonId, findByUserIdAndLessonIdIn, findByUserId
+CREATE INDEX IF NOT EXISTS idx_user_progress_user_lesson
+    ON user_progress (user_id, lesson_id);
+-- Completed lessons: countByUserIdAndCompletedTrue, countCompletedLessonsByUserSince (digest)
+CREATE INDEX IF NOT EXISTS idx_user_progress_user_completed_at
+    ON user_progress (user_id, completed_at) WHERE completed = true;
+
+-- Quiz attempts: findLatestByUserIdAndQuizId, findByUserIdAndQuizId
+CREATE INDEX IF NOT EXISTS idx_user_quiz_attempts_user_quiz_attempted
+    ON user_quiz_attempts (user_id, quiz_id, attempted_at DESC);
+-- findByUserIdAndAttemptedAtAfter, summarizeAttemptsByUserSince (digest)
+CREATE INDEX IF NOT EXISTS idx_user_quiz_attempts_user_attempted
+    ON user_quiz_attempts (user_id, attempted_at);
+-- Average score per quiz
+CREATE INDEX IF NOT EXISTS idx_user_quiz_attempts_quiz
+    ON user_quiz_attempts (quiz_id);
+
+-- Grading and answer statistics
+CREATE INDEX IF NOT EXISTS idx_user_answers_attempt
+    ON user_answers (attempt_id);
+CREATE INDEX IF NOT EXISTS idx_user_answers_question
+    ON user_answers (question_id);
+
+-- Notification feeds (declared on Notification as well)
+CREATE INDEX IF NOT EXISTS idx_notifications_user_feed
+    ON notifications (user_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread_feed
+    ON notifications (user_id, read, timestamp DESC, id DESC);
+-- Unread badge count and the digest's pending low-priority scan touch only unread rows
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id, timestamp) WHERE read = false;
+
+-- Tokens: findByToken is served by the unique constraint on token.token.
+-- findAllValidTokenByUser (on every login and logout) only wants live tokens.
+CREATE INDEX IF NOT EXISTS idx_token_user_valid
+    ON token (user_id) WHERE expired = false OR revoked = false;
+
+-- Proctoring: per-session timelines and flagged-event lookups
+CREATE INDEX IF NOT EXISTS idx_proctor_events_session_timestamp
+    ON proctor_events (session_id, timestamp);
+CREATE INDEX IF NOT EXISTS idx_proctor_events_session_flagged
+    ON proctor_events (session_id) WHERE flagged = true;
+CREATE INDEX IF NOT EXISTS idx_proctor_events_flagged_timestamp
+    ON proctor_events (timestamp) WHERE flagged = true;
+
+-- Certification responses per session, in answer order
+CREATE INDEX IF NOT EXISTS idx_certification_responses_session_answered
+    ON certification_responses (session_id, answered_at);
+
+-- Catalog children by parent
+CREATE INDEX IF NOT EXISTS idx_questions_quiz
+    ON questions (quiz_id);
+-- Certification question draws filter on the flag and the level
+CREATE INDEX IF NOT EXISTS idx_questions_certification_level
+    ON questions (certification_level) WHERE certification_question = true;
+CREATE INDEX IF NOT EXISTS idx_options_question
+    ON options (question_id);
+CREATE INDEX IF NOT EXISTS idx_quizzes_lesson
+    ON quizzes (lesson_id);
+CREATE INDEX IF NOT EXISTS idx_lesson_contents_lesson
+    ON lesson_contents (lesson_id);
+CREATE INDEX IF NOT EXISTS idx_lessons_course_order
+    ON lessons (course_id, order_index, id);
+CREATE INDEX IF NOT EXISTS idx_courses_language
+    ON courses (language_id);
@@ -0,0 +1,14 @@
+-- Daily digest slots are matched lexically on "HH:mm". Times saved before preferences were
+-- normalized may lack the leading zero ("8:00") or carry whitespace, and would never match a slot.
+DO $$
+BEGIN
+    IF to_regclass('notification_preferences') IS NULL THEN
+        -- Created later by Hibernate; new rows are normalized on save
+        RETURN;
+    END IF;
+
+    UPDATE notification_preferences
+    SET daily_digest_time = lpad(btrim(daily_digest_time), 5, '0')
+    WHERE btrim(daily_digest_time) ~ '^([01]?[0-9]|2[0-3]):[0-5][0-9]$'
+      AND daily_digest_time <> lpad(btrim(daily_digest_time), 5, '0');
+END $$;
@@ -0,0 +1,17 @@
+-- Lesson order keys are spaced 1024 apart (Lesson.ORDER_GAP), so a move usually rewrites one row.
+-- Lessons saved before that carry dense keys (0, 1, 2, ...) with no room between neighbours;
+-- give every course spaced keys in its current order.
+DO $$
+BEGIN
+    IF to_regclass('lessons') IS NULL THEN
+        -- Created later by Hibernate; new lessons get spaced keys
+        RETURN;
+    END IF;
+
+    UPDATE lessons AS l
+    SET order_index = ranked.position * 1024
+    FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY course_id ORDER BY order_index, id) AS position
+          FROM lessons) AS ranked
+    WHERE l.id = ranked.id
+      AND l.order_index <> ranked.position * 1024;
+END $$;
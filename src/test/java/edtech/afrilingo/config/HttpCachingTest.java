@@ -0,0 +1,44 @@
+package edtech.afrilingo.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCachingTest {
+
+    private static final String ETAG = "\"3f2a\"";
+
+    @Test
+    void missingHeaderNeverMatches() {
+        assertThat(HttpCaching.matchesEtag(null, ETAG)).isFalse();
+        assertThat(HttpCaching.matchesEtag("", ETAG)).isFalse();
+        assertThat(HttpCaching.matchesEtag("  ", ETAG)).isFalse();
+    }
+
+    @Test
+    void strongTagMatchesExactly() {
+        assertThat(HttpCaching.matchesEtag("\"3f2a\"", ETAG)).isTrue();
+        assertThat(HttpCaching.matchesEtag("\"3f2b\"", ETAG)).isFalse();
+        // Quotes are part of the tag
+        assertThat(HttpCaching.matchesEtag("3f2a", ETAG)).isFalse();
+    }
+
+    @Test
+    void weakTagMatchesByItsOpaqueTag() {
+        assertThat(HttpCaching.matchesEtag("W/\"3f2a\"", ETAG)).isTrue();
+        assertThat(HttpCaching.matchesEtag("W/\"3f2b\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void anyTagOfAListMatches() {
+        assertThat(HttpCaching.matchesEtag("\"1111\", W/\"3f2a\"", ETAG)).isTrue();
+        assertThat(HttpCaching.matchesEtag("\"1111\",\"3f2a\"", ETAG)).isTrue();
+        assertThat(HttpCaching.matchesEtag("\"1111\", W/\"2222\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void wildcardMatchesAnyRepresentation() {
+        assertThat(HttpCaching.matchesEtag("*", ETAG)).isTrue();
+        assertThat(HttpCaching.matchesEtag(" * ", ETAG)).isTrue();
+    }
+}
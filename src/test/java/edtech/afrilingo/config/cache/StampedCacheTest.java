@@ -0,0 +1,131 @@
+package edtech.afrilingo.config.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StampedCacheTest {
+
+    private StampedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StampedCache(new ConcurrentMapCache("test"));
+        StampedCache.openReadScope();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StampedCache.closeReadScope();
+    }
+
+    @Test
+    void putAfterMissIsStored() {
+        assertThat(cache.get("a")).isNull();
+        cache.put("a", 1);
+
+        assertThat(cache.get("a").get()).isEqualTo(1);
+    }
+
+    @Test
+    void putAfterEvictionSinceTheMissIsDropped() {
+        assertThat(cache.get("a")).isNull();
+        cache.evict("a");
+        cache.put("a", 1);
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void putAfterClearSinceTheMissIsDropped() {
+        assertThat(cache.get("a")).isNull();
+        cache.clear();
+        cache.put("a", 1);
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void evictionOfAnotherKeyDoesNotDropThePut() {
+        assertThat(cache.get("a")).isNull();
+        cache.evict("b");
+        cache.put("a", 1);
+
+        assertThat(cache.get("a").get()).isEqualTo(1);
+    }
+
+    @Test
+    void nestedMissDoesNotHideTheOuterOne() {
+        assertThat(cache.get("outer")).isNull();
+        cache.evict("outer");
+
+        StampedCache.openReadScope();
+        try {
+            assertThat(cache.get("inner")).isNull();
+            cache.put("inner", 2);
+        } finally {
+            StampedCache.closeReadScope();
+        }
+        cache.put("outer", 1);
+
+        assertThat(cache.get("inner").get()).isEqualTo(2);
+        assertThat(cache.get("outer")).isNull();
+    }
+
+    @Test
+    void nestedMissOnTheSameKeyKeepsItsOwnVersion() {
+        assertThat(cache.get("a")).isNull();
+
+        StampedCache.openReadScope();
+        try {
+            cache.evict("a");
+            assertThat(cache.get("a")).isNull();
+            cache.put("a", 2);
+        } finally {
+            StampedCache.closeReadScope();
+        }
+        // Loaded before the eviction, unlike the inner value
+        cache.put("a", 1);
+
+        assertThat(cache.get("a").get()).isEqualTo(2);
+    }
+
+    @Test
+    void missWithoutPutIsDroppedWithItsScope() {
+        StampedCache.openReadScope();
+        try {
+            // e.g. a null result skipped by "unless"
+            assertThat(cache.get("a")).isNull();
+        } finally {
+            StampedCache.closeReadScope();
+        }
+        cache.evict("a");
+
+        StampedCache.openReadScope();
+        try {
+            // A put without a miss of its own, e.g. @CachePut
+            cache.put("a", 1);
+        } finally {
+            StampedCache.closeReadScope();
+        }
+
+        assertThat(cache.get("a").get()).isEqualTo(1);
+    }
+
+    @Test
+    void missOutsideAScopeIsNotTracked() {
+        StampedCache.closeReadScope();
+        try {
+            assertThat(cache.get("a")).isNull();
+            cache.evict("a");
+            cache.put("a", 1);
+
+            assertThat(cache.get("a").get()).isEqualTo(1);
+        } finally {
+            StampedCache.openReadScope();
+        }
+    }
+}
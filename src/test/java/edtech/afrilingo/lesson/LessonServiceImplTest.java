@@ -0,0 +1,142 @@
+package edtech.afrilingo.lesson;
+
+import edtech.afrilingo.config.CacheInvalidator;
+import edtech.afrilingo.course.Course;
+import edtech.afrilingo.course.CourseService;
+import edtech.afrilingo.search.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LessonServiceImplTest {
+
+    private static final int GAP = Lesson.ORDER_GAP;
+
+    private LessonRepository lessonRepository;
+    private JdbcTemplate jdbcTemplate;
+    private LessonServiceImpl lessonService;
+
+    @BeforeEach
+    void setUp() {
+        lessonRepository = mock(LessonRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        lessonService = new LessonServiceImpl(lessonRepository, mock(CourseService.class),
+                mock(CacheInvalidator.class), mock(SearchService.class), jdbcTemplate);
+        when(lessonRepository.save(any(Lesson.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void keyBetweenAppendsOneGapAfterTheLastKey() {
+        assertThat(LessonServiceImpl.keyBetween(null, null)).isEqualTo(GAP);
+        assertThat(LessonServiceImpl.keyBetween(3 * GAP, null)).isEqualTo(4 * GAP);
+    }
+
+    @Test
+    void keyBetweenTakesTheMidpoint() {
+        assertThat(LessonServiceImpl.keyBetween(GAP, 2 * GAP)).isEqualTo(GAP + GAP / 2);
+        assertThat(LessonServiceImpl.keyBetween(10, 12)).isEqualTo(11);
+        assertThat(LessonServiceImpl.keyBetween(10, 13)).isEqualTo(11);
+    }
+
+    @Test
+    void keyBetweenStaysPositiveAtTheStart() {
+        assertThat(LessonServiceImpl.keyBetween(null, GAP)).isEqualTo(GAP / 2);
+        assertThat(LessonServiceImpl.keyBetween(null, 2)).isEqualTo(1);
+        // 0 means "not set", so a first key of 1 leaves no room before it
+        assertThat(LessonServiceImpl.keyBetween(null, 1)).isNull();
+    }
+
+    @Test
+    void keyBetweenAdjacentKeysHasNoRoom() {
+        assertThat(LessonServiceImpl.keyBetween(GAP, GAP + 1)).isNull();
+        assertThat(LessonServiceImpl.keyBetween(GAP, GAP)).isNull();
+    }
+
+    @Test
+    void moveIntoAGapOnlyWritesTheMovedLesson() {
+        Lesson moved = lesson(12L, 3 * GAP);
+        givenCourse(moved, row(10L, GAP), row(11L, 2 * GAP), row(12L, 3 * GAP));
+
+        Lesson result = lessonService.moveLesson(12L, 10L);
+
+        assertThat(result.getOrderIndex()).isEqualTo(GAP + GAP / 2);
+        verify(lessonRepository).save(moved);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void moveToTheEndAppendsAfterTheLastKey() {
+        Lesson moved = lesson(10L, GAP);
+        givenCourse(moved, row(10L, GAP), row(11L, 2 * GAP));
+
+        assertThat(lessonService.moveLesson(10L, 11L).getOrderIndex()).isEqualTo(3 * GAP);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void moveBetweenAdjacentKeysRespacesTheCourse() {
+        Lesson moved = lesson(12L, 2 * GAP);
+        givenCourse(moved, row(10L, GAP), row(11L, GAP + 1), row(12L, 2 * GAP));
+
+        Lesson result = lessonService.moveLesson(12L, 10L);
+
+        assertThat(result.getOrderIndex()).isEqualTo(2 * GAP);
+        assertThat(respacedArguments()).containsExactly(10L, GAP, 12L, 2 * GAP, 11L, 3 * GAP, 1L);
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+    @Test
+    void moveToTheFrontRespacesWhenTheFirstKeyIsOne() {
+        Lesson moved = lesson(11L, 2);
+        givenCourse(moved, row(10L, 1), row(11L, 2));
+
+        Lesson result = lessonService.moveLesson(11L, null);
+
+        assertThat(result.getOrderIndex()).isEqualTo(GAP);
+        assertThat(respacedArguments()).containsExactly(11L, GAP, 10L, 2 * GAP, 1L);
+    }
+
+    @Test
+    void moveAfterALessonOfAnotherCourseFails() {
+        Lesson moved = lesson(10L, GAP);
+        givenCourse(moved, row(10L, GAP), row(11L, 2 * GAP));
+
+        assertThatThrownBy(() -> lessonService.moveLesson(10L, 99L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Private helper methods
+
+    private void givenCourse(Lesson moved, Object[]... rows) {
+        when(lessonRepository.findById(moved.getId())).thenReturn(Optional.of(moved));
+        when(lessonRepository.findOrderKeysByCourseId(1L)).thenReturn(List.of(rows));
+    }
+
+    private Object[] respacedArguments() {
+        ArgumentCaptor<Object[]> arguments = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), arguments.capture());
+        return arguments.getValue();
+    }
+
+    private static Lesson lesson(Long id, int orderIndex) {
+        return Lesson.builder()
+                .id(id)
+                .orderIndex(orderIndex)
+                .course(Course.builder().id(1L).build())
+                .build();
+    }
+
+    private static Object[] row(Long id, int orderIndex) {
+        return new Object[]{id, orderIndex};
+    }
+}
@@ -0,0 +1,62 @@
+package edtech.afrilingo.notification;
+
+import edtech.afrilingo.exception.BadRequestException;
+import edtech.afrilingo.notification.dto.NotificationDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationFeedCursorTest {
+
+    @Test
+    void cursorRoundTripsTimestampAndId() {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_000);
+
+        NotificationService.FeedCursor cursor = NotificationService.decodeCursor(encode(timestamp, 42L));
+
+        assertThat(cursor.timestamp()).isEqualTo(timestamp);
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void cursorRoundTripsWholeMinutes() {
+        // LocalDateTime.toString() leaves out zero seconds
+        LocalDateTime timestamp = LocalDateTime.of(2026, 10, 18, 9, 30);
+
+        assertThat(NotificationService.decodeCursor(encode(timestamp, 7L)).timestamp()).isEqualTo(timestamp);
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        String cursor = encode(LocalDateTime.of(2026, 10, 18, 9, 30, 15, 999_999_999), Long.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> NotificationService.decodeCursor("not base64!"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NotificationService.decodeCursor(base64("2026-10-18T09:30")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NotificationService.decodeCursor(base64("yesterday_42")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NotificationService.decodeCursor(base64("2026-10-18T09:30_x")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // Private helper methods
+
+    private static String encode(LocalDateTime timestamp, Long id) {
+        return NotificationService.encodeCursor(NotificationDTO.builder().timestamp(timestamp).id(id).build());
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,63 @@
+package edtech.afrilingo.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchAnalyzerTest {
+
+    @Test
+    void wordsAreCaseFoldedAndStrippedOfDiacritics() {
+        assertThat(SearchAnalyzer.words("Muraho, MWARAMUTSE! Caf\u00e9"))
+                .containsExactly("muraho", "mwaramutse", "cafe");
+    }
+
+    @Test
+    void wordsKeepDuplicatesAndDropSingleLetters() {
+        assertThat(SearchAnalyzer.words("a inka, inka 7 42")).containsExactly("inka", "inka", "42");
+    }
+
+    @Test
+    void blankTextHasNoWords() {
+        assertThat(SearchAnalyzer.words(null)).isEmpty();
+        assertThat(SearchAnalyzer.words("  ")).isEmpty();
+        assertThat(SearchAnalyzer.words("?!")).isEmpty();
+    }
+
+    @Test
+    void apostrophesSplitElidedWords() {
+        assertThat(SearchAnalyzer.words("n'umutuku")).containsExactly("umutuku");
+        assertThat(SearchAnalyzer.words("y'umwana n'umugabo")).containsExactly("umwana", "umugabo");
+        // Typographic apostrophe
+        assertThat(SearchAnalyzer.words("n\u2019umutuku")).containsExactly("umutuku");
+    }
+
+    @Test
+    void apostropheAfterNgStaysInTheWord() {
+        assertThat(SearchAnalyzer.words("ng'ombe")).containsExactly("ngombe");
+        assertThat(SearchAnalyzer.words("Ng\u2019ombe wa ng'ambo")).containsExactly("ngombe", "wa", "ngambo");
+    }
+
+    @Test
+    void stemDropsTheLongestClassPrefix() {
+        assertThat(SearchAnalyzer.stem("umukobwa")).isEqualTo("kobwa");
+        assertThat(SearchAnalyzer.stem("abakobwa")).isEqualTo("kobwa");
+        assertThat(SearchAnalyzer.stem("kubyina")).isEqualTo("byina");
+        assertThat(SearchAnalyzer.stem("kitabu")).isEqualTo("tabu");
+        assertThat(SearchAnalyzer.stem("vitabu")).isEqualTo("tabu");
+    }
+
+    @Test
+    void stemNeedsAPrefixAndALongEnoughRest() {
+        assertThat(SearchAnalyzer.stem("inka")).isNull();
+        assertThat(SearchAnalyzer.stem("neza")).isNull();
+        // "umu" + "ti" leaves too short a stem, and no shorter prefix applies
+        assertThat(SearchAnalyzer.stem("umuti")).isNull();
+    }
+
+    @Test
+    void termsAddMarkedStemsAfterTheirWords() {
+        assertThat(SearchAnalyzer.terms("Umukobwa mwiza"))
+                .containsExactly("umukobwa", SearchAnalyzer.STEM_MARKER + "kobwa", "mwiza", SearchAnalyzer.STEM_MARKER + "iza");
+    }
+}
@@ -0,0 +1,143 @@
+package edtech.afrilingo.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+    }
+
+    @Test
+    void shorterDocumentRanksFirstForTheSameTermFrequency() {
+        index.put(content(1, "rw", "Muraho neza cyane mwa bantu"));
+        index.put(content(2, "rw", "Muraho"));
+        index.put(content(3, "rw", "Amakuru"));
+
+        SearchIndex.Result result = index.search("muraho", null, null, 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(ids(result)).containsExactly(2L, 1L);
+        assertThat(result.hits().get(0).score()).isGreaterThan(result.hits().get(1).score());
+    }
+
+    @Test
+    void rarerTermWeighsMore() {
+        index.put(content(1, "rw", "Muraho inka"));
+        index.put(content(2, "rw", "Muraho amazi"));
+        index.put(content(3, "rw", "Muraho amata"));
+        index.put(content(4, "rw", "Amazi amata"));
+
+        // inka is in one document, amata in two: the inka match outranks the amata one
+        assertThat(ids(index.search("inka amata", null, null, 0, 10))).startsWith(1L);
+    }
+
+    @Test
+    void documentsMatchingMoreQueryWordsRankHigher() {
+        index.put(content(1, "rw", "Muraho"));
+        index.put(content(2, "rw", "Muraho neza cyane mwa bantu"));
+
+        assertThat(ids(index.search("muraho neza", null, null, 0, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void stemMatchesOtherNounClass() {
+        index.put(content(1, "rw", "Abakobwa barabyina"));
+
+        assertThat(ids(index.search("umukobwa", null, null, 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void lastWordMatchesAsPrefix() {
+        index.put(content(1, "rw", "Mwaramutse"));
+        index.put(content(2, "rw", "Muraho"));
+
+        assertThat(ids(index.search("mwara", null, null, 0, 10))).containsExactly(1L);
+        // Too short to expand
+        assertThat(index.search("mw", null, null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void filtersByTypeAndLanguage() {
+        index.put(content(1, "rw", "Muraho"));
+        index.put(content(2, "sw", "Muraho"));
+        index.put(new SearchDocument(SearchDocumentType.QUESTION, 1, 9L, "rw", "Muraho?"));
+
+        assertThat(index.search("muraho", null, null, 0, 10).total()).isEqualTo(3);
+        assertThat(index.search("muraho", SearchDocumentType.QUESTION, null, 0, 10).hits())
+                .extracting(SearchHit::type).containsExactly(SearchDocumentType.QUESTION);
+        assertThat(index.search("muraho", SearchDocumentType.LESSON_CONTENT, "SW", 0, 10).hits())
+                .extracting(SearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    void pagesKeepTheTotal() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(content(id, "rw", "Muraho"));
+        }
+
+        SearchIndex.Result page = index.search("muraho", null, null, 2, 2);
+
+        assertThat(page.total()).isEqualTo(5);
+        // Equal scores fall back to type, then ID
+        assertThat(ids(page)).containsExactly(3L, 4L);
+        assertThat(index.search("muraho", null, null, 10, 2).hits()).isEmpty();
+    }
+
+    @Test
+    void putReplacesTheDocumentWithTheSameKey() {
+        index.put(content(1, "rw", "Muraho"));
+        index.put(content(1, "rw", "Amakuru"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("muraho", null, null, 0, 10).total()).isZero();
+        assertThat(ids(index.search("amakuru", null, null, 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void replaceChildrenSwapsOnlyTheGivenParents() {
+        index.put(question(1, 7L, "Inka ni iki?"));
+        index.put(question(2, 7L, "Amata ni iki?"));
+        index.put(question(3, 8L, "Inka zingahe?"));
+        index.put(content(1, "rw", "Inka"));
+
+        index.replaceChildren(SearchDocumentType.QUESTION, List.of(7L), List.of(question(4, 7L, "Amazi ni iki?")));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("amata", null, null, 0, 10).total()).isZero();
+        assertThat(index.search("inka", SearchDocumentType.QUESTION, null, 0, 10).hits())
+                .extracting(SearchHit::id).containsExactly(3L);
+        assertThat(index.search("inka", SearchDocumentType.LESSON_CONTENT, null, 0, 10).total()).isEqualTo(1);
+        assertThat(index.search("amazi", null, null, 0, 10).hits())
+                .extracting(SearchHit::parentId).containsExactly(7L);
+    }
+
+    @Test
+    void replaceChildrenOfParentWithoutChildrenOnlyAdds() {
+        index.replaceChildren(SearchDocumentType.QUESTION, List.of(7L), List.of(question(1, 7L, "Inka")));
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // Private helper methods
+
+    private static SearchDocument content(long id, String languageCode, String text) {
+        return new SearchDocument(SearchDocumentType.LESSON_CONTENT, id, 100L, languageCode, text);
+    }
+
+    private static SearchDocument question(long id, Long quizId, String text) {
+        return new SearchDocument(SearchDocumentType.QUESTION, id, quizId, "rw", text);
+    }
+
+    private static List<Long> ids(SearchIndex.Result result) {
+        return result.hits().stream().map(SearchHit::id).toList();
+    }
+}